@@ -0,0 +1,335 @@
+package appDomain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads a file line by line like BufferedReader.readLine, but also reports
+ * the byte offset where the next line starts, so a reader can later be
+ * reopened at exactly that point. Lines end at "\n", "\r" or "\r\n" and are
+ * decoded as UTF-8 without their terminator.
+ *
+ * A "\r" at the very end of the data read so far is remembered by
+ * endedWithCr(). A reader reopened after it with skipLeadingLf set drops a
+ * "\n" that was appended later, so the pair still counts as one terminator.
+ *
+ * When checksumming is on, the reader keeps a CRC32C of every byte from the
+ * start of the file up to offset(), including the bytes it skipped over to
+ * reach its start offset. Comparing that with a checksum saved earlier tells
+ * whether the part of the file already parsed is unchanged.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+final class ByteLineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;   // Bytes read from the file per call
+
+    private final FileChannel channel;  // Source file, positioned after the buffered bytes
+    private final byte[] buffer;        // Bytes read but not yet consumed
+    private final ByteBuffer wrapper;   // Channel view of buffer
+    private int position;               // Next unconsumed byte in buffer
+    private int limit;                  // End of valid bytes in buffer
+    private byte[] line;                // Bytes of the line being assembled
+    private long offset;                // File offset of the next unconsumed byte
+    private boolean endedWithCr;        // True if the last line read ended with a bare "\r"
+    private boolean skipLf;             // True if a leading "\n" must be dropped
+    private boolean terminated;         // True if the last line read had a terminator
+    private final CRC32C crc;           // Checksum of bytes 0 to offset, or null when off
+    private long lineStart;             // Offset where the last line read starts
+    private long lineStartChecksum;     // Checksum of the bytes before lineStart
+    private int lineLength;             // Bytes in the last line read, without its terminator
+    private String lastLine;            // The last line read, decoded
+    private int cursorChar;             // Character index of lastLine that cursorBytes was measured up to
+    private long cursorBytes;           // UTF-8 bytes before cursorChar
+    private int[] malformedChars;       // Character index of each malformed sequence in lastLine
+    private int[] malformedBytes;       // Bytes each of those sequences took in the file
+    private int malformedCount;         // Malformed sequences in lastLine
+    private int cursorMalformed;        // Malformed sequences before cursorChar
+
+    /**
+     * Opens the file and positions the reader at the given byte offset.
+     * With checksumming on, the bytes before startOffset are read once to
+     * start the checksum; if the file is shorter than startOffset the reader
+     * is positioned at its end and startsAtOffset() returns false.
+     *
+     * @param file          the file to read
+     * @param startOffset   the offset of the first byte to read; should be the start of a line
+     * @param skipLeadingLf true to drop a "\n" at startOffset, because the line before it ended with "\r"
+     * @param checksum      true to keep a CRC32C of the bytes consumed
+     * @throws IOException if the file cannot be opened or read
+     */
+    ByteLineReader(Path file, long startOffset, boolean skipLeadingLf, boolean checksum) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer = new byte[BUFFER_SIZE];
+        wrapper = ByteBuffer.wrap(buffer);
+        line = new byte[256];
+        malformedChars = new int[8];
+        malformedBytes = new int[8];
+        crc = checksum ? new CRC32C() : null;
+        if (crc != null) {
+            while (offset < startOffset && fill()) {
+                consume((int) Math.min(limit - position, startOffset - offset));
+            }
+            // Anything read past startOffset stays buffered for readLine
+        } else {
+            channel.position(startOffset);
+            offset = startOffset;
+        }
+        skipLf = skipLeadingLf && offset == startOffset;
+    }
+
+    /**
+     * Returns true unless the file was shorter than the requested start offset.
+     *
+     * @param startOffset the offset passed to the constructor
+     * @return true if the reader starts at startOffset
+     */
+    boolean startsAtOffset(long startOffset) {
+        return offset == startOffset;
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * @return the line without its terminator, or null at the end of the file
+     * @throws IOException if reading fails
+     */
+    String readLine() throws IOException {
+        if (skipLf) {
+            skipLf = false;
+            if (fill() && buffer[position] == '\n') {
+                consume(1);
+            }
+        }
+        lineStart = offset;
+        lineStartChecksum = checksum();
+        int length = 0;
+        while (fill()) {
+            int start = position;
+            int end = start;
+            while (end < limit && buffer[end] != '\n' && buffer[end] != '\r') {
+                end++;
+            }
+            length = append(length, start, end - start);
+            consume(end - start);
+            if (end < limit) {
+                byte terminator = buffer[end];
+                consume(1);
+                terminated = true;
+                endedWithCr = false;
+                if (terminator == '\r') {
+                    if (!fill()) {
+                        endedWithCr = true;
+                    } else if (buffer[position] == '\n') {
+                        consume(1);
+                    }
+                }
+                return decode(length);
+            }
+        }
+        if (length == 0) {
+            return null;
+        }
+        terminated = false;
+        endedWithCr = false;
+        return decode(length);
+    }
+
+    /**
+     * Decodes the assembled line and makes it the one offsetOf measures.
+     *
+     * @param length the number of bytes in the line
+     * @return the decoded line
+     */
+    private String decode(int length) {
+        lineLength = length;
+        lastLine = new String(line, 0, length, StandardCharsets.UTF_8);
+        malformedCount = 0;
+        if (length != lastLine.length() && lastLine.indexOf('\uFFFD') >= 0) {
+            lastLine = decodeMalformed(length);
+        }
+        cursorChar = 0;
+        cursorBytes = 0;
+        cursorMalformed = 0;
+        return lastLine;
+    }
+
+    /**
+     * Decodes a line that may hold malformed UTF-8, replacing each malformed
+     * sequence with U+FFFD and noting where it is and how many bytes it
+     * took, so offsetOf can tell it apart from a U+FFFD that was in the file.
+     *
+     * @param length the number of bytes in the line
+     * @return the decoded line
+     */
+    private String decodeMalformed(int length) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        ByteBuffer in = ByteBuffer.wrap(line, 0, length);
+        CharBuffer out = CharBuffer.allocate(length);  // Never more chars than bytes
+        CoderResult result;
+        while ((result = decoder.decode(in, out, true)).isError()) {
+            if (malformedCount == malformedChars.length) {
+                malformedChars = java.util.Arrays.copyOf(malformedChars, malformedCount * 2);
+                malformedBytes = java.util.Arrays.copyOf(malformedBytes, malformedCount * 2);
+            }
+            malformedChars[malformedCount] = out.position();
+            malformedBytes[malformedCount++] = result.length();
+            out.put('\uFFFD');
+            in.position(in.position() + result.length());
+        }
+        decoder.flush(out);
+        return out.flip().toString();
+    }
+
+    /**
+     * Returns the byte offset of the start of the next line.
+     *
+     * @return the number of bytes consumed from the start of the file
+     */
+    long offset() {
+        return offset;
+    }
+
+    /**
+     * Returns true if the last line read ended with a "\r" that was the last
+     * byte of the file.
+     *
+     * @return true if a later "\n" would complete the last terminator
+     */
+    boolean endedWithCr() {
+        return endedWithCr;
+    }
+
+    /**
+     * Returns false if the last line read ran to the end of the file without
+     * a terminator, so more of it may still be appended.
+     *
+     * @return true if the last line read had a terminator
+     */
+    boolean lineTerminated() {
+        return terminated;
+    }
+
+    /**
+     * Returns the CRC32C of the bytes from the start of the file up to offset().
+     *
+     * @return the checksum, or 0 if checksumming is off
+     */
+    long checksum() {
+        return crc == null ? 0 : crc.getValue();
+    }
+
+    /**
+     * Returns the offset where the last line read starts.
+     *
+     * @return the offset of the first byte of the last line
+     */
+    long lineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Converts a character index in the last line read to a byte offset in
+     * the file. When every character of the line took one byte the index
+     * maps directly; otherwise the UTF-8 length of the characters before it
+     * is added up, continuing from the previous call when the index has
+     * not moved back, so scanning a line left to right measures it once.
+     * A malformed sequence, decoded as one U+FFFD, counts the bytes it
+     * took in the file, so offsets after it stay exact.
+     *
+     * @param index a character index in the last line read, up to its length
+     * @return the file offset of that character
+     */
+    long offsetOf(int index) {
+        if (lineLength == lastLine.length()) {
+            return lineStart + index;
+        }
+        if (index < cursorChar) {
+            cursorChar = 0;
+            cursorBytes = 0;
+            cursorMalformed = 0;
+        }
+        for (; cursorChar < index; cursorChar++) {
+            if (cursorMalformed < malformedCount && malformedChars[cursorMalformed] == cursorChar) {
+                cursorBytes += malformedBytes[cursorMalformed++];
+                continue;
+            }
+            char c = lastLine.charAt(cursorChar);
+            // A surrogate pair is four bytes, two per char
+            cursorBytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+        }
+        return lineStart + cursorBytes;
+    }
+
+    /**
+     * Returns the CRC32C of the bytes before the last line read.
+     *
+     * @return the checksum up to lineStart(), or 0 if checksumming is off
+     */
+    long lineStartChecksum() {
+        return lineStartChecksum;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Makes sure at least one unconsumed byte is buffered.
+     *
+     * @return false at the end of the file
+     * @throws IOException if reading fails
+     */
+    private boolean fill() throws IOException {
+        while (position == limit) {
+            wrapper.clear();
+            int read = channel.read(wrapper);
+            if (read < 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+        }
+        return true;
+    }
+
+    /**
+     * Marks bytes of the buffer as consumed.
+     *
+     * @param count the number of bytes
+     */
+    private void consume(int count) {
+        if (crc != null) {
+            crc.update(buffer, position, count);
+        }
+        position += count;
+        offset += count;
+    }
+
+    /**
+     * Appends buffered bytes to the line being assembled.
+     *
+     * @param length the current line length
+     * @param from   the first buffer index to copy
+     * @param count  the number of bytes to copy
+     * @return the new line length
+     */
+    private int append(int length, int from, int count) {
+        if (length + count > line.length) {
+            line = java.util.Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+        }
+        System.arraycopy(buffer, from, line, length, count);
+        return length + count;
+    }
+}
@@ -0,0 +1,270 @@
+package appDomain;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Structural summary of a document, gathered by XMLParser in the same pass
+ * that validates it: how many elements there are of each tag name, the
+ * maximum and average element depth, and how many elements sit at each depth.
+ *
+ * An element is counted once, when its opening or self-closing tag is seen.
+ * The root element is at depth 1. Tag names are mapped to ids by a
+ * SymbolTable and counts are kept in primitive arrays indexed by id and by
+ * depth, so recording an element allocates nothing once its name is known.
+ * XMLParser feeds it as a TagListener.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public final class DocumentStatistics implements TagListener {
+
+    private static final int MAX_ENTRIES = Integer.MAX_VALUE - 8;  // Largest array length readFrom accepts
+
+    private final SymbolTable names;    // Tag name ids
+    private long[] counts;              // Elements per tag id
+    private long[] depthHistogram;      // Elements per depth; index 0 is unused
+    private long elements;              // Total number of elements
+    private long depthSum;              // Sum of all element depths
+    private int maxDepth;               // Deepest element seen
+
+    /**
+     * Constructs empty statistics.
+     */
+    public DocumentStatistics() {
+        names = new SymbolTable();
+        counts = new long[16];
+        depthHistogram = new long[16];
+    }
+
+    /**
+     * Records one element.
+     *
+     * @param name  the element's tag name
+     * @param depth the element's depth (1 for the root)
+     * @throws IllegalArgumentException if depth is less than 1
+     */
+    public void recordElement(String name, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1");
+        }
+        int id = names.intern(name);
+        if (id == counts.length) {
+            counts = Arrays.copyOf(counts, counts.length * 2);
+        }
+        counts[id]++;
+        if (depth >= depthHistogram.length) {
+            depthHistogram = Arrays.copyOf(depthHistogram, Math.max(depthHistogram.length * 2, depth + 1));
+        }
+        depthHistogram[depth]++;
+        elements++;
+        depthSum += depth;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    /**
+     * Records the element an opening tag starts.
+     *
+     * @param event the opening tag
+     */
+    @Override
+    public void onOpen(TagEvent event) {
+        recordElement(event.getName(), event.getDepth());
+    }
+
+    /**
+     * Records a self-closing element.
+     *
+     * @param event the self-closing tag
+     */
+    @Override
+    public void onSelfClosing(TagEvent event) {
+        recordElement(event.getName(), event.getDepth());
+    }
+
+    /**
+     * Returns the total number of elements.
+     *
+     * @return the element count
+     */
+    public long getElementCount() {
+        return elements;
+    }
+
+    /**
+     * Returns the number of elements with the given tag name.
+     *
+     * @param name the tag name
+     * @return the number of such elements (0 if none)
+     */
+    public long getCount(String name) {
+        int id = names.find(name);
+        return id < 0 ? 0 : counts[id];
+    }
+
+    /**
+     * Returns the number of distinct tag names, which are numbered from 0
+     * in the order they were first seen.
+     *
+     * @return the number of tag names
+     */
+    public int getTagCount() {
+        return names.size();
+    }
+
+    /**
+     * Returns the tag name with the given id.
+     *
+     * @param id a value from 0 to getTagCount() - 1
+     * @return the tag name
+     * @throws IndexOutOfBoundsException if id is out of range
+     */
+    public String getTagName(int id) {
+        return names.name(id);
+    }
+
+    /**
+     * Returns the number of elements with the tag name of the given id.
+     *
+     * @param id a value from 0 to getTagCount() - 1
+     * @return the number of such elements
+     * @throws IndexOutOfBoundsException if id is out of range
+     */
+    public long getCount(int id) {
+        names.name(id);
+        return counts[id];
+    }
+
+    /**
+     * Returns the depth of the deepest element.
+     *
+     * @return the maximum depth (0 for a document without elements)
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the average element depth.
+     *
+     * @return the average depth (0 for a document without elements)
+     */
+    public double getAverageDepth() {
+        return elements == 0 ? 0 : (double) depthSum / elements;
+    }
+
+    /**
+     * Returns the number of elements at the given depth.
+     *
+     * @param depth the depth (1 for the root)
+     * @return the number of elements at that depth (0 if none)
+     */
+    public long getElementsAtDepth(int depth) {
+        return depth < 1 || depth >= depthHistogram.length ? 0 : depthHistogram[depth];
+    }
+
+    /**
+     * Resets all counts.
+     */
+    public void clear() {
+        names.clear();
+        Arrays.fill(counts, 0);
+        Arrays.fill(depthHistogram, 0);
+        elements = 0;
+        depthSum = 0;
+        maxDepth = 0;
+    }
+
+    /**
+     * Appends a readable report: totals, the depth histogram and the
+     * element count of each tag name in the order first seen.
+     *
+     * @param out the buffer to append the report to
+     */
+    public void appendTo(StringBuilder out) {
+        String newline = System.lineSeparator();
+        out.append("Elements: ").append(elements).append(newline);
+        out.append("Max depth: ").append(maxDepth).append(newline);
+        out.append("Average depth: ").append(String.format("%.2f", getAverageDepth())).append(newline);
+        out.append("Elements per depth:").append(newline);
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            out.append("  ").append(depth).append(": ").append(depthHistogram[depth]).append(newline);
+        }
+        out.append("Elements per tag:").append(newline);
+        for (int id = 0; id < names.size(); id++) {
+            out.append("  <").append(names.name(id)).append(">: ").append(counts[id]).append(newline);
+        }
+    }
+
+    /**
+     * Writes the statistics in a compact binary form for checkpoints.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(names.size());
+        for (int id = 0; id < names.size(); id++) {
+            ParserCheckpoint.writeString(out, names.name(id));
+            out.writeLong(counts[id]);
+        }
+        out.writeInt(maxDepth);
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            out.writeLong(depthHistogram[depth]);
+        }
+        out.writeLong(depthSum);
+    }
+
+    /**
+     * Replaces these statistics with ones written by writeTo. The arrays
+     * grow with the values actually read, so a corrupt count or depth on a
+     * short input fails with an IOException instead of allocating the whole
+     * claimed size up front.
+     *
+     * @param in the source
+     * @throws IOException if reading fails or the data is invalid
+     */
+    void readFrom(DataInput in) throws IOException {
+        clear();
+        int tagCount = in.readInt();
+        if (tagCount < 0 || tagCount > MAX_ENTRIES) {
+            throw new IOException("Invalid tag count: " + tagCount);
+        }
+        for (int id = 0; id < tagCount; id++) {
+            if (names.intern(ParserCheckpoint.readString(in)) != id) {
+                throw new IOException("Duplicate tag name");
+            }
+            if (id == counts.length) {
+                counts = Arrays.copyOf(counts, (int) Math.min(tagCount, 2L * counts.length));
+            }
+            counts[id] = in.readLong();
+            if (counts[id] < 0) {
+                throw new IOException("Negative element count");
+            }
+            elements += counts[id];
+        }
+        maxDepth = in.readInt();
+        if (maxDepth < 0 || maxDepth >= MAX_ENTRIES) {
+            throw new IOException("Invalid depth: " + maxDepth);
+        }
+        long atDepths = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            if (depth == depthHistogram.length) {
+                depthHistogram = Arrays.copyOf(depthHistogram, (int) Math.min(maxDepth + 1L, 2L * depthHistogram.length));
+            }
+            depthHistogram[depth] = in.readLong();
+            if (depthHistogram[depth] < 0) {
+                throw new IOException("Negative element count");
+            }
+            atDepths += depthHistogram[depth];
+        }
+        if (atDepths != elements || (maxDepth > 0 && depthHistogram[maxDepth] == 0)) {
+            throw new IOException("Depth histogram does not match the element counts");
+        }
+        depthSum = in.readLong();
+    }
+}
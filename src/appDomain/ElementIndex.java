@@ -0,0 +1,414 @@
+package appDomain;
+
+import implementations.LongArrayList;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sidecar index of the elements of an XML file, built by XMLParser while it
+ * validates the file, giving each element's start and end byte offsets and
+ * lines. A downstream job opens the index, finds the N-th element with a
+ * given name and seeks straight to it instead of parsing from byte 0.
+ *
+ * The index file is a flat array of fixed-size records that is memory-mapped
+ * both while it is written and when it is read, so lookups cost no parsing
+ * and no copying:
+ *
+ * <pre>
+ * header  (32 bytes): magic, version, record count, offset of the name table
+ * records (32 bytes each, in document order of the start tags):
+ *         start offset (long), end offset (long), start line (int),
+ *         end line (int), depth (int), tag id (int)
+ * names:  count (int), then per tag id its UTF-8 length (int) and bytes
+ * </pre>
+ *
+ * All numbers are little-endian. The start offset is that of the '&lt;' of
+ * the opening tag and the end offset is just past the '&gt;' of the closing
+ * tag; a self-closing element starts and ends in the same tag. Elements that
+ * are never closed have an end offset and end line of -1. Offsets assume the
+ * file is UTF-8.
+ *
+ * XMLParser writes the index to a ".tmp" file next to it and moves that
+ * into place only once the parse completes, so a failed or interrupted
+ * parse leaves any earlier index as it was.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public final class ElementIndex implements AutoCloseable {
+
+    private static final int MAGIC = 0x58494458;    // "XIDX"
+    private static final int VERSION = 1;
+    private static final long HEADER_BYTES = 32;
+    private static final long RECORD_BYTES = 32;
+
+    // Field offsets within a record
+    private static final long START = 0;
+    private static final long END = 8;
+    private static final long LINE = 16;
+    private static final long END_LINE = 20;
+    private static final long DEPTH = 24;
+    private static final long TAG = 28;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt NAME_INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;          // Owns the mapping
+    private final MemorySegment file;   // The whole index file, mapped read-only
+    private final long count;           // Number of records
+    private final SymbolTable names;    // Tag names by id
+
+    /**
+     * Maps an index file for reading.
+     *
+     * @param path the index file
+     * @throws IOException if the file cannot be read or is not a complete index
+     */
+    private ElementIndex(Path path) throws IOException {
+        arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not an element index: " + path);
+            }
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            if (file.get(INT, 0) != MAGIC || file.get(INT, 4) != VERSION) {
+                throw new IOException("Not an element index: " + path);
+            }
+            count = file.get(LONG, 8);
+            long namesOffset = file.get(LONG, 16);
+            if (count < 0 || namesOffset != HEADER_BYTES + count * RECORD_BYTES || namesOffset + 4 > size) {
+                throw new IOException("Incomplete element index: " + path);
+            }
+            names = new SymbolTable();
+            int nameCount = file.get(INT, namesOffset);
+            long position = namesOffset + 4;
+            for (int id = 0; id < nameCount; id++) {
+                int length = file.get(NAME_INT, position);
+                byte[] bytes = file.asSlice(position + 4, length).toArray(ValueLayout.JAVA_BYTE);
+                names.intern(new String(bytes, StandardCharsets.UTF_8));
+                position += 4 + length;
+            }
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Corrupt element index: " + path, e);
+        }
+    }
+
+    /**
+     * Opens an index file written by XMLParser.
+     *
+     * @param path the index file
+     * @return the index, which must be closed after use
+     * @throws IOException if the file cannot be read or is not a complete index
+     */
+    public static ElementIndex open(String path) throws IOException {
+        return new ElementIndex(Paths.get(path));
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the record count
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Returns the byte offset of the element's opening tag.
+     *
+     * @param element the record number, from 0
+     * @return the offset of its '&lt;'
+     * @throws IndexOutOfBoundsException if element is out of range
+     */
+    public long getStart(long element) {
+        return file.get(LONG, record(element) + START);
+    }
+
+    /**
+     * Returns the byte offset just past the element's closing tag.
+     *
+     * @param element the record number, from 0
+     * @return the offset after its closing '&gt;', or -1 if it was never closed
+     * @throws IndexOutOfBoundsException if element is out of range
+     */
+    public long getEnd(long element) {
+        return file.get(LONG, record(element) + END);
+    }
+
+    /**
+     * Returns the line of the element's opening tag.
+     *
+     * @param element the record number, from 0
+     * @return the line number, from 1
+     * @throws IndexOutOfBoundsException if element is out of range
+     */
+    public int getLine(long element) {
+        return file.get(INT, record(element) + LINE);
+    }
+
+    /**
+     * Returns the line of the element's closing tag.
+     *
+     * @param element the record number, from 0
+     * @return the line number, or -1 if it was never closed
+     * @throws IndexOutOfBoundsException if element is out of range
+     */
+    public int getEndLine(long element) {
+        return file.get(INT, record(element) + END_LINE);
+    }
+
+    /**
+     * Returns the element's depth.
+     *
+     * @param element the record number, from 0
+     * @return the depth, 1 for the root
+     * @throws IndexOutOfBoundsException if element is out of range
+     */
+    public int getDepth(long element) {
+        return file.get(INT, record(element) + DEPTH);
+    }
+
+    /**
+     * Returns the element's tag name.
+     *
+     * @param element the record number, from 0
+     * @return the tag name
+     * @throws IndexOutOfBoundsException if element is out of range
+     */
+    public String getTagName(long element) {
+        return names.name(file.get(INT, record(element) + TAG));
+    }
+
+    /**
+     * Finds the n-th element with the given tag name, in document order.
+     * Only the tag id of each record is read.
+     *
+     * @param name the tag name
+     * @param n    which occurrence, from 0
+     * @return the record number, or -1 if there are not that many such elements
+     */
+    public long find(String name, long n) {
+        int id = names.find(name);
+        if (id < 0 || n < 0) {
+            return -1;
+        }
+        for (long element = 0; element < count; element++) {
+            if (file.get(INT, HEADER_BYTES + element * RECORD_BYTES + TAG) == id && n-- == 0) {
+                return element;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unmaps the index file.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Returns the file offset of a record.
+     *
+     * @param element the record number
+     * @return the offset of its first byte
+     */
+    private long record(long element) {
+        if (element < 0 || element >= count) {
+            throw new IndexOutOfBoundsException("Element " + element + " out of bounds.");
+        }
+        return HEADER_BYTES + element * RECORD_BYTES;
+    }
+
+    /**
+     * Writes an index file through a growing read-write mapping, as a
+     * TagListener. Records are appended when an element opens and its end is
+     * filled in when it closes.
+     */
+    static final class Writer implements TagListener, AutoCloseable {
+
+        private static final long INITIAL_RECORDS = 1 << 16;
+
+        private final Path target;          // The index file, replaced when finished
+        private final Path temp;            // The file being written, next to target
+        private final FileChannel channel;  // Channel of temp
+        private final int minDepth;         // Shallowest depth indexed
+        private final int maxDepth;         // Deepest depth indexed
+        private final SymbolTable names;    // Tag ids
+        private final LongArrayList open;   // Record of each open element, or -1, outermost first
+        private Arena arena;                // Owns the current mapping
+        private MemorySegment map;          // The mapped file
+        private long count;                 // Records written
+        private boolean finished;           // True once the trailer and header are written
+
+        /**
+         * Starts writing an index to a temporary file next to the index file.
+         * The index file itself is only replaced by finish().
+         *
+         * @param path     the index file
+         * @param minDepth shallowest element depth to index (1 for the root)
+         * @param maxDepth deepest element depth to index
+         * @throws IOException if the temporary file cannot be created
+         */
+        Writer(Path path, int minDepth, int maxDepth) throws IOException {
+            target = path;
+            temp = path.resolveSibling(path.getFileName() + ".tmp");
+            channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.minDepth = minDepth;
+            this.maxDepth = maxDepth;
+            names = new SymbolTable();
+            open = new LongArrayList();
+            remap(HEADER_BYTES + INITIAL_RECORDS * RECORD_BYTES);
+        }
+
+        @Override
+        public void onOpen(TagEvent event) throws IOException {
+            open.add(open(event.getName(), event.getDepth(), event.getStart(), event.getLine()));
+        }
+
+        @Override
+        public void onClose(TagEvent event) {
+            long element = open.remove(open.size() - 1);
+            if (event.isMatched()) {
+                close(element, event.getEnd(), event.getLine());
+            }
+        }
+
+        @Override
+        public void onSelfClosing(TagEvent event) throws IOException {
+            close(open(event.getName(), event.getDepth(), event.getStart(), event.getLine()),
+                    event.getEnd(), event.getLine());
+        }
+
+        /**
+         * Appends a record for an element whose opening tag was just seen.
+         *
+         * @param name  the tag name
+         * @param depth the element depth
+         * @param start the byte offset of its '&lt;'
+         * @param line  its line
+         * @return the record number, or -1 if the depth is not indexed
+         * @throws IOException if the file cannot grow
+         */
+        private long open(String name, int depth, long start, int line) throws IOException {
+            if (depth < minDepth || depth > maxDepth) {
+                return -1;
+            }
+            long offset = HEADER_BYTES + count * RECORD_BYTES;
+            if (offset + RECORD_BYTES > map.byteSize()) {
+                remap(HEADER_BYTES + (map.byteSize() - HEADER_BYTES) * 2);
+            }
+            map.set(LONG, offset + START, start);
+            map.set(LONG, offset + END, -1L);
+            map.set(INT, offset + LINE, line);
+            map.set(INT, offset + END_LINE, -1);
+            map.set(INT, offset + DEPTH, depth);
+            map.set(INT, offset + TAG, names.intern(name));
+            return count++;
+        }
+
+        /**
+         * Fills in the end of a record.
+         *
+         * @param element the record number returned by open, or -1 to do nothing
+         * @param end     the byte offset just past the closing '&gt;'
+         * @param line    the line of the closing tag
+         */
+        private void close(long element, long end, int line) {
+            if (element >= 0) {
+                long offset = HEADER_BYTES + element * RECORD_BYTES;
+                map.set(LONG, offset + END, end);
+                map.set(INT, offset + END_LINE, line);
+            }
+        }
+
+        /**
+         * Writes the name table and header, trims the file to its content,
+         * closes it and moves it over the index file. Until then an index
+         * from an earlier parse stays as it was.
+         *
+         * @throws IOException if writing fails
+         */
+        void finish() throws IOException {
+            long namesOffset = HEADER_BYTES + count * RECORD_BYTES;
+            byte[][] encoded = new byte[names.size()][];
+            long namesBytes = 4;
+            for (int id = 0; id < encoded.length; id++) {
+                encoded[id] = names.name(id).getBytes(StandardCharsets.UTF_8);
+                namesBytes += 4 + encoded[id].length;
+            }
+            if (namesOffset + namesBytes > map.byteSize()) {
+                remap(namesOffset + namesBytes);
+            }
+            map.set(INT, namesOffset, encoded.length);
+            long position = namesOffset + 4;
+            for (byte[] name : encoded) {
+                map.set(NAME_INT, position, name.length);
+                MemorySegment.copy(MemorySegment.ofArray(name), 0, map, position + 4, name.length);
+                position += 4 + name.length;
+            }
+            map.set(INT, 0, MAGIC);
+            map.set(INT, 4, VERSION);
+            map.set(LONG, 8, count);
+            map.set(LONG, 16, namesOffset);
+            map.force();
+            arena.close();
+            channel.truncate(position);
+            channel.force(true);
+            channel.close();
+            finished = true;
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        /**
+         * Closes and deletes the temporary file without finishing it,
+         * leaving the index file untouched.
+         *
+         * @throws IOException if closing fails
+         */
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                finished = true;
+                arena.close();
+                channel.close();
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        /**
+         * Maps the first size bytes of the file, growing it if needed.
+         *
+         * @param size the number of bytes to map
+         * @throws IOException if mapping fails
+         */
+        private void remap(long size) throws IOException {
+            if (arena != null) {
+                arena.close();
+            }
+            arena = Arena.ofShared();
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+        }
+    }
+}
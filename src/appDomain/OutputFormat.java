@@ -0,0 +1,169 @@
+package appDomain;
+
+import java.util.List;
+
+/**
+ * Output formats supported by the command-line interface.
+ *
+ * TEXT is the decorated, human-readable report. JSONL writes one JSON
+ * object per file and CSV writes one row per file, so wrapper scripts
+ * can consume results without screen-scraping.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public enum OutputFormat {
+
+    /**
+     * Human-readable text with status symbols.
+     */
+    TEXT {
+        @Override
+        public void appendResult(ValidationResult result, StringBuilder out) {
+            out.append("\nValidating: ").append(result.getPath()).append('\n');
+            if (result.isValid()) {
+                out.append("  ✓ VALID\n");
+            } else if (result.getFailure() != null) {
+                out.append("  ✗ ERROR: ").append(result.getFailure()).append('\n');
+            } else {
+                out.append("  ✗ INVALID (").append(result.getErrors().size()).append(" errors)\n");
+            }
+        }
+    },
+
+    /**
+     * JSON Lines: one self-contained object per validated file.
+     */
+    JSONL {
+        @Override
+        public void appendResult(ValidationResult result, StringBuilder out) {
+            out.append("{\"path\":");
+            appendJsonString(result.getPath(), out);
+            out.append(",\"valid\":").append(result.isValid());
+            out.append(",\"errors\":[");
+            List<String> errors = result.getErrors();
+            for (int i = 0; i < errors.size(); i++) {
+                if (i > 0) out.append(',');
+                appendJsonString(errors.get(i), out);
+            }
+            out.append("],\"bytes\":").append(result.getBytes());
+            out.append(",\"nanos\":").append(result.getNanos());
+            out.append("}\n");
+        }
+    },
+
+    /**
+     * Comma-separated values with a header row. Errors are joined with " | ".
+     */
+    CSV {
+        @Override
+        public String header() {
+            return "path,valid,error_count,errors,bytes,nanos\n";
+        }
+
+        @Override
+        public void appendResult(ValidationResult result, StringBuilder out) {
+            appendCsvField(result.getPath(), out);
+            out.append(',').append(result.isValid());
+            out.append(',').append(result.getErrors().size());
+            out.append(',');
+            appendCsvField(String.join(" | ", result.getErrors()), out);
+            out.append(',').append(result.getBytes());
+            out.append(',').append(result.getNanos());
+            out.append('\n');
+        }
+    };
+
+    /**
+     * Appends the formatted record for one file to the given buffer.
+     * Every record ends with a line separator.
+     *
+     * @param result the validation result to format
+     * @param out    the buffer to append to
+     */
+    public abstract void appendResult(ValidationResult result, StringBuilder out);
+
+    /**
+     * Returns the text written once before the first record.
+     *
+     * @return the header, or an empty string if the format has none
+     */
+    public String header() {
+        return "";
+    }
+
+    /**
+     * Returns true if this format is meant for programs rather than people.
+     * Machine formats suppress banners and summaries on standard output.
+     *
+     * @return true for JSONL and CSV
+     */
+    public boolean isMachineReadable() {
+        return this != TEXT;
+    }
+
+    /**
+     * Parses a format name such as "jsonl", "csv" or "text" (case-insensitive).
+     *
+     * @param name the format name
+     * @return the matching format
+     * @throws IllegalArgumentException if the name is not a known format
+     */
+    public static OutputFormat fromString(String name) {
+        for (OutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown output format '" + name + "' (expected jsonl, csv or text)");
+    }
+
+    /**
+     * Appends a quoted and escaped JSON string.
+     *
+     * @param value the string to append
+     * @param out   the buffer to append to
+     */
+    private static void appendJsonString(String value, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':  out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Appends a CSV field, quoting it if it contains a separator, quote or line break.
+     *
+     * @param value the field value
+     * @param out   the buffer to append to
+     */
+    private static void appendCsvField(String value, StringBuilder out) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.append('"');
+            out.append(c);
+        }
+        out.append('"');
+    }
+}
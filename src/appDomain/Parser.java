@@ -2,39 +2,118 @@ package appDomain;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main class for the XML Parser application.
  * Provides command-line interface for parsing and validating XML files.
  *
- * Usage: java appDomain.Parser [filename]
+ * Usage: java appDomain.Parser [--format=text|jsonl|csv] [--threads=N] [--ordered] [filename...]
  * If no filename is provided, the program will prompt for one.
  *
  * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
- * @version 1.1
+ * @version 1.2
  */
 public class Parser {
 
+    private final OutputFormat format;  // Format used for batch results
+    private final int threads;          // Number of validation workers in batch mode
+    private final boolean ordered;      // True to report batch results in input order
+
+    /**
+     * Constructs a Parser that reports results as human-readable text.
+     */
+    public Parser() {
+        this(OutputFormat.TEXT);
+    }
+
+    /**
+     * Constructs a Parser that reports batch results in the given format,
+     * validating one file at a time.
+     *
+     * @param format the output format for validation results
+     */
+    public Parser(OutputFormat format) {
+        this(format, 1, true);
+    }
+
+    /**
+     * Constructs a Parser for batch validation with several workers.
+     *
+     * @param format  the output format for validation results
+     * @param threads the number of validation workers (at least 1)
+     * @param ordered true to report results in input order, false for completion order
+     * @throws IllegalArgumentException if threads is less than 1
+     */
+    public Parser(OutputFormat format, int threads, boolean ordered) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.format = format;
+        this.threads = threads;
+        this.ordered = ordered;
+    }
+
     /**
      * Main method - entry point for the XML Parser application.
      *
-     * @param args command line arguments - expects XML filename or -h/--help
+     * @param args command line arguments - expects options, XML filenames or -h/--help
      */
     public static void main(String[] args) {
-        System.out.println("=================================");
-        System.out.println("    XML Parser & Validator");
-        System.out.println("=================================");
-
-        Parser parser = new Parser();
+        OutputFormat format = OutputFormat.TEXT;
+        int threads = 1;
+        boolean ordered = false;
+        List<String> filenames = new ArrayList<>();
 
-        if (args.length > 0) {
-            String firstArg = args[0].trim();
-            if (firstArg.equalsIgnoreCase("-h") || firstArg.equalsIgnoreCase("--help")) {
+        for (String arg : args) {
+            String trimmed = arg.trim();
+            if (trimmed.equalsIgnoreCase("-h") || trimmed.equalsIgnoreCase("--help")) {
                 displayUsage();
                 return;
+            } else if (trimmed.startsWith("--format=")) {
+                try {
+                    format = OutputFormat.fromString(trimmed.substring("--format=".length()));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Error: " + e.getMessage());
+                    System.exit(2);
+                }
+            } else if (trimmed.startsWith("--threads=")) {
+                try {
+                    threads = Integer.parseInt(trimmed.substring("--threads=".length()));
+                } catch (NumberFormatException e) {
+                    threads = 0;
+                }
+                if (threads < 1) {
+                    System.err.println("Error: --threads expects a positive number.");
+                    System.exit(2);
+                }
+            } else if (trimmed.equals("--ordered")) {
+                ordered = true;
+            } else if (!trimmed.isEmpty()) {
+                filenames.add(trimmed);
             }
-            parser.parseFile(firstArg);
+        }
+
+        if (format.isMachineReadable() && filenames.isEmpty()) {
+            System.err.println("Error: --format=" + format.name().toLowerCase() + " requires at least one filename.");
+            System.exit(2);
+        }
+
+        if (!format.isMachineReadable()) {
+            System.out.println("=================================");
+            System.out.println("    XML Parser & Validator");
+            System.out.println("=================================");
+        }
+
+        Parser parser = new Parser(format, threads, ordered || threads == 1);
+
+        if (filenames.size() == 1 && !format.isMachineReadable()) {
+            parser.parseFile(filenames.get(0));
+        } else if (!filenames.isEmpty()) {
+            parser.validateMultipleFiles(filenames.toArray(new String[0]));
         } else {
             parser.runInteractiveMode();
         }
@@ -130,15 +209,19 @@ public class Parser {
      */
     private static void displayUsage() {
         System.out.println("\nUsage:");
-        System.out.println("  java appDomain.Parser [filename]");
+        System.out.println("  java appDomain.Parser [options] [filename...]");
         System.out.println();
         System.out.println("Arguments:");
-        System.out.println("  filename    Path to the XML file to parse (optional)");
-        System.out.println("  -h, --help  Show this help message");
+        System.out.println("  filename        Path to the XML file(s) to parse (optional)");
+        System.out.println("  --format=FMT    Result format: text (default), jsonl or csv");
+        System.out.println("  --threads=N     Validate a batch with N worker threads (default 1)");
+        System.out.println("  --ordered       Report batch results in input order when using threads");
+        System.out.println("  -h, --help      Show this help message");
         System.out.println();
         System.out.println("Examples:");
         System.out.println("  java appDomain.Parser sample.xml");
         System.out.println("  java appDomain.Parser data/document.xml");
+        System.out.println("  java appDomain.Parser --format=jsonl a.xml b.xml");
         System.out.println("  java appDomain.Parser              (interactive mode)");
         System.out.println();
         System.out.println("The parser validates that:");
@@ -152,32 +235,60 @@ public class Parser {
      * Validates multiple XML files and provides a summary report.
      * This method can be used for batch processing.
      *
+     * In JSONL and CSV formats each result is written and flushed as soon as
+     * its file has been validated, and no summary is printed, so downstream
+     * consumers can process results while the batch is still running.
+     *
      * @param filenames array of XML filenames to validate
      */
     public void validateMultipleFiles(String[] filenames) {
-        System.out.println("Batch validation of " + filenames.length + " files:");
-        System.out.println("=".repeat(60));
+        if (!format.isMachineReadable()) {
+            System.out.println("Batch validation of " + filenames.length + " files:");
+            System.out.println("=".repeat(60));
+        }
+        System.out.flush();
 
-        int validFiles = 0;
-        int invalidFiles = 0;
-
-        for (String filename : filenames) {
-            System.out.println("\nValidating: " + filename);
-            XMLParser xmlParser = new XMLParser();
-
-            try {
-                boolean isValid = xmlParser.parseFile(filename);
-                if (isValid) {
-                    System.out.println("  ✓ VALID");
-                    validFiles++;
-                } else {
-                    System.out.println("  ✗ INVALID (" + xmlParser.getErrors().size() + " errors)");
-                    invalidFiles++;
+        AtomicInteger nextFile = new AtomicInteger();
+        AtomicInteger validCount = new AtomicInteger();
+
+        try (ResultWriter writer = new ResultWriter(format, ordered)) {
+            Runnable worker = () -> {
+                ResultWriter.Buffer buffer = writer.newBuffer();
+                int index;
+                while ((index = nextFile.getAndIncrement()) < filenames.length) {
+                    ValidationResult result = validateFile(filenames[index]);
+                    if (result.isValid()) {
+                        validCount.incrementAndGet();
+                    }
+                    buffer.append(index, result);
+                }
+                buffer.flush();
+            };
+
+            if (threads == 1) {
+                worker.run();
+            } else {
+                Thread[] workers = new Thread[Math.min(threads, filenames.length)];
+                for (int i = 0; i < workers.length; i++) {
+                    workers[i] = new Thread(worker, "validator-" + i);
+                    workers[i].start();
+                }
+                for (Thread t : workers) {
+                    t.join();
                 }
-            } catch (IOException e) {
-                System.out.println("  ✗ ERROR: " + e.getMessage());
-                invalidFiles++;
             }
+        } catch (IOException e) {
+            System.err.println("Error writing results: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Batch validation interrupted.");
+        }
+
+        int validFiles = validCount.get();
+        int invalidFiles = filenames.length - validFiles;
+
+        if (format.isMachineReadable()) {
+            return;
         }
 
         // Summary report
@@ -190,4 +301,28 @@ public class Parser {
         System.out.println("Success rate: " + String.format("%.1f%%",
                 (validFiles * 100.0) / filenames.length));
     }
+
+    /**
+     * Validates a single XML file and captures the outcome.
+     * Read failures, and any runtime failure inside the parser, are reported
+     * as an ERROR result so that a batch run always gets one result per file.
+     *
+     * @param filename the path to the XML file to validate
+     * @return the validation result for the file
+     */
+    public ValidationResult validateFile(String filename) {
+        File file = new File(filename);
+        XMLParser xmlParser = new XMLParser();
+
+        long startTime = System.nanoTime();
+        try {
+            boolean isValid = xmlParser.parseFile(filename);
+            long elapsed = System.nanoTime() - startTime;
+            return new ValidationResult(filename, isValid, xmlParser.getErrors(), file.length(), elapsed);
+        } catch (IOException | RuntimeException e) {
+            long elapsed = System.nanoTime() - startTime;
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            return new ValidationResult(filename, message, file.length(), elapsed);
+        }
+    }
 }
@@ -0,0 +1,359 @@
+package appDomain;
+
+import implementations.IntArrayList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Snapshot of XMLParser's state part way through a file, saved to a small
+ * side file so that an interrupted validation can resume where it stopped
+ * instead of starting over.
+ *
+ * A checkpoint records where to resume (byte offset and line number), the
+ * open-tag stack, the pending errorQ and extrasQ contents, the number of
+ * errors found so far and the document statistics if the parser collects
+ * them. Tags are stored as int ids into a symbol table written once at the
+ * start of the file, so each tag costs four bytes. Its size depends on the
+ * nesting and the pending tags, not on how far into the document it is.
+ *
+ * The error messages themselves go to an append-only error log beside the
+ * checkpoint (its name plus ".errors"). Each checkpoint appends only the
+ * errors found since the previous one and records how many bytes of the
+ * log it covers; anything past that, left by a crash between the two
+ * writes, is cut off before the next append. A parse that starts over
+ * deletes the checkpoint before it rewrites the log.
+ * The CRC32C of the bytes before the offset is stored too. A checkpoint is
+ * only used if the file still starts with exactly those bytes, so the same
+ * record serves to resume an interrupted parse and to parse only what was
+ * appended to a file since the last one.
+ *
+ * Strings are written as an int byte count followed by their UTF-8 bytes,
+ * since writeUTF cannot hold more than 65,535 bytes and tag names and
+ * error messages have no such limit.
+ *
+ * Checkpoints are written to a temporary file, forced to disk and then
+ * renamed over the previous one, so a crash while writing leaves the
+ * previous checkpoint intact.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+final class ParserCheckpoint {
+
+    private static final int MAGIC = 0x58434B50;    // "XCKP"
+    private static final int VERSION = 6;
+    private static final int STRING_CHUNK = 8192;  // Bytes read at a time when reading a string
+
+    final long prefixChecksum;      // CRC32C of the file's bytes before offset
+    final long offset;              // Byte offset of the next line to parse
+    final int lineNumber;           // Number of lines parsed so far
+    final boolean endedWithCr;      // True if the last line parsed ended with a bare "\r"
+    final String[] openTags;        // Open-tag stack, bottom first
+    final String[] errorTags;       // errorQ contents, front first
+    final String[] extraTags;       // extrasQ contents, front first
+    final List<String> errors;      // Errors found so far
+    final long errorLogLength;      // Bytes of the error log holding those errors
+    final DocumentStatistics statistics;    // Statistics so far, or null if not collected
+
+    /**
+     * Constructs a checkpoint from the parser's state.
+     *
+     * @param prefixChecksum CRC32C of the file's bytes before offset
+     * @param offset         byte offset of the next line to parse
+     * @param lineNumber     number of lines parsed so far
+     * @param endedWithCr    true if the last line parsed ended with a bare "\r"
+     * @param openTags       open-tag stack, bottom first
+     * @param errorTags      errorQ contents, front first
+     * @param extraTags      extrasQ contents, front first
+     * @param errors         errors found so far, already in the error log
+     * @param errorLogLength bytes of the error log holding those errors
+     * @param statistics     statistics so far, or null if not collected
+     */
+    ParserCheckpoint(long prefixChecksum, long offset, int lineNumber, boolean endedWithCr,
+                     String[] openTags, String[] errorTags, String[] extraTags,
+                     List<String> errors, long errorLogLength, DocumentStatistics statistics) {
+        this.prefixChecksum = prefixChecksum;
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+        this.endedWithCr = endedWithCr;
+        this.openTags = openTags;
+        this.errorTags = errorTags;
+        this.extraTags = extraTags;
+        this.errors = errors;
+        this.errorLogLength = errorLogLength;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Writes this checkpoint atomically, replacing any previous one. Its
+     * errors must already be in the error log (see appendErrors).
+     *
+     * @param target the checkpoint file
+     * @throws IOException if writing fails
+     */
+    void write(Path target) throws IOException {
+        SymbolTable symbols = new SymbolTable();
+        IntArrayList[] sequences = {
+                ids(symbols, openTags), ids(symbols, errorTags), ids(symbols, extraTags)
+        };
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(prefixChecksum);
+            out.writeLong(offset);
+            out.writeInt(lineNumber);
+            out.writeBoolean(endedWithCr);
+            out.writeInt(symbols.size());
+            for (int id = 0; id < symbols.size(); id++) {
+                writeString(out, symbols.name(id));
+            }
+            for (IntArrayList sequence : sequences) {
+                sequence.writeTo(out);
+            }
+            out.writeInt(errors.size());
+            out.writeLong(errorLogLength);
+            out.writeBoolean(statistics != null);
+            if (statistics != null) {
+                statistics.writeTo(out);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a checkpoint file.
+     *
+     * @param source the checkpoint file
+     * @return the checkpoint, or null if the file does not exist or cannot be read as one
+     * @throws IOException if the file exists but cannot be opened
+     */
+    static ParserCheckpoint read(Path source) throws IOException {
+        InputStream file;
+        try {
+            file = Files.newInputStream(source);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            long prefixChecksum = in.readLong();
+            long offset = in.readLong();
+            int lineNumber = in.readInt();
+            boolean endedWithCr = in.readBoolean();
+            String[] names = new String[in.readInt()];
+            for (int id = 0; id < names.length; id++) {
+                names[id] = readString(in);
+            }
+            String[] openTags = tags(names, in);
+            String[] errorTags = tags(names, in);
+            String[] extraTags = tags(names, in);
+            int errorCount = in.readInt();
+            long errorLogLength = in.readLong();
+            DocumentStatistics statistics = null;
+            if (in.readBoolean()) {
+                statistics = new DocumentStatistics();
+                statistics.readFrom(in);
+            }
+            List<String> errors = readErrors(errorLog(source), errorCount, errorLogLength);
+            return new ParserCheckpoint(prefixChecksum, offset, lineNumber, endedWithCr,
+                    openTags, errorTags, extraTags, errors, errorLogLength, statistics);
+        } catch (IOException e) {
+            // Truncated or corrupt; resuming is only an optimization, so start over
+            return null;
+        }
+    }
+
+    /**
+     * Appends errors to the error log of a checkpoint file and forces them
+     * to disk. The log is first cut back to the length the last checkpoint
+     * covers, dropping anything a crash left after it.
+     *
+     * @param target    the checkpoint file
+     * @param logLength bytes of the log the last checkpoint covers (0 for none)
+     * @param errors    the errors found so far
+     * @param from      the number of errors already in the log
+     * @return the new length of the log
+     * @throws IOException if writing fails
+     */
+    static long appendErrors(Path target, long logLength, List<String> errors, int from) throws IOException {
+        try (FileChannel log = FileChannel.open(errorLog(target),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            log.truncate(logLength);
+            log.position(logLength);
+            for (int i = from; i < errors.size(); i++) {
+                byte[] bytes = errors.get(i).getBytes(StandardCharsets.UTF_8);
+                ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+                record.putInt(bytes.length).put(bytes).flip();
+                while (record.hasRemaining()) {
+                    log.write(record);
+                }
+            }
+            log.force(false);
+            return log.position();
+        }
+    }
+
+    /**
+     * Reads the first errors of an error log.
+     *
+     * @param log       the error log
+     * @param count     the number of errors to read
+     * @param logLength the bytes of the log those errors fill
+     * @return the errors, in the order they were found
+     * @throws IOException if the log is missing, shorter than logLength,
+     *                     or the errors do not fill exactly logLength bytes
+     */
+    private static List<String> readErrors(Path log, int count, long logLength) throws IOException {
+        if (count < 0 || logLength < 0 || (count == 0) != (logLength == 0)) {
+            throw new IOException("Invalid error log length");
+        }
+        List<String> errors = new ArrayList<>();
+        if (count == 0) {
+            return errors;
+        }
+        if (Files.size(log) < logLength) {
+            throw new IOException("Error log is truncated");
+        }
+        long read = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(log)))) {
+            for (int i = 0; i < count && read < logLength; i++) {
+                String error = readString(in);
+                errors.add(error);
+                read += Integer.BYTES + error.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        if (errors.size() != count || read != logLength) {
+            throw new IOException("Error log does not match the checkpoint");
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the error log that belongs to a checkpoint file.
+     *
+     * @param target the checkpoint file
+     * @return the path of its error log
+     */
+    private static Path errorLog(Path target) {
+        return target.resolveSibling(target.getFileName() + ".errors");
+    }
+
+    /**
+     * Deletes a checkpoint file, its error log and any temporary file left beside it.
+     *
+     * @param target the checkpoint file
+     * @throws IOException if a file exists but cannot be deleted
+     */
+    static void delete(Path target) throws IOException {
+        Files.deleteIfExists(target);
+        Files.deleteIfExists(target.resolveSibling(target.getFileName() + ".tmp"));
+        Files.deleteIfExists(errorLog(target));
+    }
+
+    /**
+     * Converts tag names to ids, interning new names.
+     *
+     * @param symbols the symbol table
+     * @param names   the tag names
+     * @return the ids in the same order
+     */
+    private static IntArrayList ids(SymbolTable symbols, String[] names) {
+        IntArrayList ids = new IntArrayList();
+        for (String name : names) {
+            ids.add(symbols.intern(name));
+        }
+        return ids;
+    }
+
+    /**
+     * Reads a tag sequence written as ids and converts it back to tag names.
+     *
+     * @param names the symbol table, by id
+     * @param in    the source
+     * @return the tag names in order
+     * @throws IOException if reading fails or an id is out of range
+     */
+    private static String[] tags(String[] names, DataInputStream in) throws IOException {
+        IntArrayList ids = IntArrayList.readFrom(in);
+        String[] tags = new String[ids.size()];
+        for (int i = 0; i < tags.length; i++) {
+            int id = ids.get(i);
+            if (id < 0 || id >= names.length) {
+                throw new IOException("Unknown tag id " + id);
+            }
+            tags[i] = names[id];
+        }
+        return tags;
+    }
+
+    /**
+     * Writes a string of any length as an int byte count and its UTF-8 bytes.
+     *
+     * @param out    the destination
+     * @param string the string to write
+     * @throws IOException if writing fails
+     */
+    static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by writeString. The bytes are read in chunks,
+     * so a corrupt length fails at the end of the data instead of
+     * allocating a huge array up front.
+     *
+     * @param in the source
+     * @return the string
+     * @throws IOException if reading fails or the length is negative
+     */
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length");
+        }
+        byte[] bytes = new byte[Math.min(length, STRING_CHUNK)];
+        int read = 0;
+        while (read < length) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, (long) bytes.length * 2));
+            }
+            int chunk = Math.min(bytes.length - read, STRING_CHUNK);
+            in.readFully(bytes, read, chunk);
+            read += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,263 @@
+package appDomain;
+
+import implementations.IntArrayList;
+import implementations.LongArrayList;
+
+/**
+ * A simple path expression, such as "/catalog/book/title" or "//book/title",
+ * matched against the elements of a document while XMLParser validates it.
+ *
+ * A path is a sequence of steps. "/name" matches a child of the element
+ * matched by the previous step (or the root, for the first step) and
+ * "//name" matches any descendant. A step named "*" matches any tag.
+ *
+ * The path is compiled to an automaton over tag ids: state i means the first
+ * i steps have matched, and the set of active states is kept as the bits of
+ * a long. Entering an element with tag id t moves the parent's set S to
+ *
+ * <pre>
+ * ((S &amp; stepMask[t]) &lt;&lt; 1) | (S &amp; descendantMask)
+ * </pre>
+ *
+ * where stepMask[t] marks the steps that accept t and descendantMask the
+ * steps that may skip levels. The element matches when the last state is
+ * set. One set is stacked per open element, mirroring XMLParser's tag
+ * stack, so each tag costs a hash lookup and a few bit operations whatever
+ * the path. Paths may have up to 63 steps.
+ *
+ * Matches are reported in document order of their opening tags, with the
+ * byte offsets and line of the TagEvents XMLParser passes it.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public final class PathQuery implements TagListener {
+
+    private static final int MAX_STEPS = 63;
+    private static final String WILDCARD = "*";
+
+    private final String path;          // The source expression
+    private final int steps;            // Number of steps
+    private final SymbolTable names;    // Tag names used by the steps
+    private final long[] stepMasks;     // Steps accepting each tag id
+    private final long wildcardMask;    // Steps accepting any tag
+    private final long descendantMask;  // Steps reached through "//"
+    private final long acceptBit;       // State reached when every step has matched
+
+    private final LongArrayList states; // Active states of each open element, root context first
+    private final IntArrayList open;    // Match number of each open element, or -1
+    private final LongArrayList starts; // Start offset of each match
+    private final LongArrayList ends;   // End offset of each match, -1 until closed
+    private final IntArrayList lines;   // Line of each match
+
+    /**
+     * Compiles a path expression.
+     *
+     * @param path the path, beginning with "/" or "//"
+     * @throws NullPointerException     if path is null
+     * @throws IllegalArgumentException if path is not a valid path expression
+     */
+    public PathQuery(String path) {
+        if (path == null) {
+            throw new NullPointerException("Path cannot be null");
+        }
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("Path must start with '/': " + path);
+        }
+        this.path = path;
+        names = new SymbolTable();
+        IntArrayList stepIds = new IntArrayList();
+        long wildcards = 0;
+        long descendants = 0;
+        int step = 0;
+        int index = 0;
+        while (index < path.length()) {
+            // index is at a '/'
+            boolean descendant = index + 1 < path.length() && path.charAt(index + 1) == '/';
+            int nameStart = index + (descendant ? 2 : 1);
+            int nameEnd = path.indexOf('/', nameStart);
+            if (nameEnd == -1) {
+                nameEnd = path.length();
+            }
+            String name = path.substring(nameStart, nameEnd);
+            if (name.isEmpty() || name.indexOf('<') >= 0 || name.indexOf('>') >= 0 || !name.trim().equals(name)) {
+                throw new IllegalArgumentException("Invalid step in path: " + path);
+            }
+            if (step == MAX_STEPS) {
+                throw new IllegalArgumentException("Path has more than " + MAX_STEPS + " steps: " + path);
+            }
+            if (name.equals(WILDCARD)) {
+                wildcards |= 1L << step;
+                stepIds.add(-1);
+            } else {
+                stepIds.add(names.intern(name));
+            }
+            if (descendant) {
+                descendants |= 1L << step;
+            }
+            step++;
+            index = nameEnd;
+        }
+        steps = step;
+        stepMasks = new long[names.size()];
+        for (int i = 0; i < steps; i++) {
+            if (stepIds.get(i) >= 0) {
+                stepMasks[stepIds.get(i)] |= 1L << i;
+            }
+        }
+        wildcardMask = wildcards;
+        descendantMask = descendants;
+        acceptBit = 1L << steps;
+
+        states = new LongArrayList();
+        open = new IntArrayList();
+        starts = new LongArrayList();
+        ends = new LongArrayList();
+        lines = new IntArrayList();
+        reset();
+    }
+
+    /**
+     * Returns the path expression.
+     *
+     * @return the path this query was compiled from
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of elements the last parse matched.
+     *
+     * @return the match count
+     */
+    public int getMatchCount() {
+        return starts.size();
+    }
+
+    /**
+     * Returns the byte offset of a match's opening tag.
+     *
+     * @param match the match number, from 0
+     * @return the offset of its '&lt;'
+     * @throws IndexOutOfBoundsException if match is out of range
+     */
+    public long getStart(int match) {
+        return starts.get(match);
+    }
+
+    /**
+     * Returns the byte offset just past a match's closing tag.
+     *
+     * @param match the match number, from 0
+     * @return the offset after its closing '&gt;', or -1 if it was never closed
+     * @throws IndexOutOfBoundsException if match is out of range
+     */
+    public long getEnd(int match) {
+        return ends.get(match);
+    }
+
+    /**
+     * Returns the line of a match's opening tag.
+     *
+     * @param match the match number, from 0
+     * @return the line number, from 1
+     * @throws IndexOutOfBoundsException if match is out of range
+     */
+    public int getLine(int match) {
+        return lines.get(match);
+    }
+
+    /**
+     * Returns the path and its match count.
+     *
+     * @return a string representation of the query
+     */
+    @Override
+    public String toString() {
+        return path + " (" + starts.size() + " matches)";
+    }
+
+    /**
+     * Forgets the matches and open elements of the previous parse.
+     */
+    void reset() {
+        states.clear();
+        open.clear();
+        starts.clear();
+        ends.clear();
+        lines.clear();
+        states.add(1L);     // Nothing matched yet above the root
+    }
+
+    /**
+     * Enters an element, recording it if it matches.
+     *
+     * @param event the opening tag
+     */
+    @Override
+    public void onOpen(TagEvent event) {
+        long next = step(event.getName());
+        states.add(next);
+        open.add(record(next, event.getStart(), event.getLine()));
+    }
+
+    /**
+     * Leaves the innermost open element, filling in its end if it matched
+     * and was properly closed.
+     *
+     * @param event the closing tag
+     */
+    @Override
+    public void onClose(TagEvent event) {
+        states.remove(states.size() - 1);
+        int match = open.remove(open.size() - 1);
+        if (match >= 0 && event.isMatched()) {
+            ends.set(match, event.getEnd());
+        }
+    }
+
+    /**
+     * Records a self-closing element if it matches.
+     *
+     * @param event the self-closing tag
+     */
+    @Override
+    public void onSelfClosing(TagEvent event) {
+        int match = record(step(event.getName()), event.getStart(), event.getLine());
+        if (match >= 0) {
+            ends.set(match, event.getEnd());
+        }
+    }
+
+    /**
+     * Computes the states of a child of the innermost open element.
+     *
+     * @param name the child's tag name
+     * @return its active states
+     */
+    private long step(String name) {
+        long parent = states.get(states.size() - 1);
+        int id = names.find(name);
+        long accepts = id < 0 ? wildcardMask : stepMasks[id] | wildcardMask;
+        return ((parent & accepts) << 1) | (parent & descendantMask);
+    }
+
+    /**
+     * Records a match if the states include the accepting one.
+     *
+     * @param state the element's active states
+     * @param start the byte offset of its '&lt;'
+     * @param line  its line
+     * @return the match number, or -1 if it does not match
+     */
+    private int record(long state, long start, int line) {
+        if ((state & acceptBit) == 0) {
+            return -1;
+        }
+        starts.add(start);
+        ends.add(-1L);
+        lines.add(line);
+        return starts.size() - 1;
+    }
+}
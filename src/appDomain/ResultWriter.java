@@ -0,0 +1,316 @@
+package appDomain;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import implementations.BlockingWaitStrategy;
+import implementations.MyMpmcQueue;
+import utilities.WaitStrategy;
+
+/**
+ * Output stage for batch validation.
+ *
+ * Validation workers format their results into their own {@link Buffer}
+ * and hand finished text to a single writer thread through a bounded lock-free queue
+ * ({@link MyMpmcQueue}).
+ * The writer collects the text into large blocks and writes them to a channel
+ * (standard output by default), so workers never contend on the synchronized
+ * System.out stream.
+ *
+ * In ordered mode every result is tagged with its position in the batch and
+ * the writer releases results strictly in that order. In unordered mode
+ * results appear in completion order; JSONL and CSV records are handed off
+ * one at a time so each reaches the channel as soon as its file is done,
+ * while text reports are batched per worker. A worker in ordered mode waits
+ * while its result is a full queue's length ahead of the next one to be
+ * written, so results held back for ordering stay bounded.
+ *
+ * If the writer thread stops early (a write failure, an interrupt or an
+ * unexpected exception) it keeps discarding hand-offs until closed, so
+ * workers never block on it; {@link #close()} then reports the failure.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public class ResultWriter implements AutoCloseable {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;  // Hand-offs waiting for the writer
+    private static final int BLOCK_SIZE = 64 * 1024;         // Bytes collected before a channel write
+    private static final int FLUSH_THRESHOLD = 8 * 1024;     // Characters a text worker buffers before a hand-off
+
+    private static final Chunk END = new Chunk(-1, "");      // Tells the writer thread to finish
+
+    private final OutputFormat format;          // Format used to render results
+    private final boolean ordered;              // True to release results in batch order
+    private final MyMpmcQueue<Chunk> queue;     // Hand-off queue between workers and the writer
+    private final WritableByteChannel channel;  // Destination of the output
+    private final Thread writerThread;          // The single thread writing to the channel
+    private final int window;                   // Ordered results allowed ahead of the next one written
+    private final WaitStrategy turn;            // Ordered workers wait here for their result to fit in the window
+    private volatile int released;              // Sequence of the next ordered result to be written
+    private volatile boolean stopped;           // True once the writer discards hand-offs instead of writing them
+    private volatile IOException failure;       // First write failure, reported by close()
+
+    /**
+     * Constructs a ResultWriter that writes to standard output.
+     *
+     * @param format  the format used to render results
+     * @param ordered true to write results in batch order
+     */
+    public ResultWriter(OutputFormat format, boolean ordered) {
+        this(format, ordered, new FileOutputStream(FileDescriptor.out).getChannel(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs a ResultWriter that writes to the given channel.
+     * The channel is not closed by {@link #close()}.
+     *
+     * @param format        the format used to render results
+     * @param ordered       true to write results in batch order
+     * @param channel       the destination channel
+     * @param queueCapacity the maximum number of hand-offs waiting for the writer
+     *                      (rounded up to a power of two)
+     */
+    public ResultWriter(OutputFormat format, boolean ordered, WritableByteChannel channel, int queueCapacity) {
+        this.format = format;
+        this.ordered = ordered;
+        this.channel = channel;
+        this.queue = new MyMpmcQueue<>(queueCapacity);
+        this.window = queue.capacity();
+        this.turn = new BlockingWaitStrategy();
+        this.writerThread = new Thread(this::runWriter, "result-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Creates a new per-worker buffer. Each worker thread should use its own buffer.
+     *
+     * @return a new buffer feeding this writer
+     */
+    public Buffer newBuffer() {
+        return new Buffer();
+    }
+
+    /**
+     * Waits until everything handed to the writer has been written.
+     * Buffers must be flushed before calling this method.
+     *
+     * @throws IOException if writing to the channel failed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            queue.put(END);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for output to be written", e);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Main loop of the writer thread. Collects queued text into blocks and
+     * writes a block whenever it fills up or the queue runs dry.
+     * However the loop ends before the END hand-off, the thread stops writing
+     * and drains the queue until closed.
+     */
+    private void runWriter() {
+        ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        Map<Integer, String> pending = new HashMap<>();  // Ordered results that arrived early, at most window of them
+        int nextSequence = 0;
+        boolean finished = false;
+
+        try {
+            append(block, format.header());
+            while (!finished) {
+                Chunk chunk = queue.take();
+                do {
+                    if (chunk == END) {
+                        finished = true;
+                        break;
+                    }
+                    if (!ordered) {
+                        append(block, chunk.text);
+                    } else if (chunk.sequence == nextSequence) {
+                        append(block, chunk.text);
+                        nextSequence++;
+                        String next;
+                        while ((next = pending.remove(nextSequence)) != null) {
+                            append(block, next);
+                            nextSequence++;
+                        }
+                        released = nextSequence;
+                        turn.signalAll();
+                    } else {
+                        pending.put(chunk.sequence, chunk.text);
+                    }
+                    chunk = queue.poll();
+                } while (chunk != null);
+                writeBlock(block);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            failure = new IOException("Interrupted while writing output", e);
+        } catch (RuntimeException e) {
+            failure = new IOException("Output writer failed", e);
+        } finally {
+            if (!finished) {
+                if (failure == null) {
+                    failure = new IOException("Output writer stopped unexpectedly");
+                }
+                stopped = true;
+                turn.signalAll();
+                drainAfterFailure();
+            }
+        }
+    }
+
+    /**
+     * Keeps taking hand-offs after the writer stopped so that workers blocked on
+     * a full queue can finish. Interrupts are deferred until the END hand-off
+     * arrives, since leaving early would leave those workers blocked for good.
+     */
+    private void drainAfterFailure() {
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                if (queue.take() == END) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends text to the current block, writing the block out first if the text does not fit.
+     *
+     * @param block the block being filled
+     * @param text  the text to append
+     * @throws IOException if writing to the channel fails
+     */
+    private void append(ByteBuffer block, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > block.remaining()) {
+            writeBlock(block);
+        }
+        if (bytes.length > block.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            block.put(bytes);
+        }
+    }
+
+    /**
+     * Writes the filled part of the block to the channel and empties it.
+     *
+     * @param block the block to write
+     * @throws IOException if writing to the channel fails
+     */
+    private void writeBlock(ByteBuffer block) throws IOException {
+        block.flip();
+        writeFully(block);
+        block.clear();
+    }
+
+    /**
+     * Writes all remaining bytes of the buffer to the channel.
+     *
+     * @param buffer the bytes to write
+     * @throws IOException if writing to the channel fails
+     */
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Hands a piece of text to the writer thread, blocking while the queue is full.
+     * In ordered mode it first waits until the chunk is less than a window ahead
+     * of the next result to be written. Once the writer has stopped the text is dropped.
+     *
+     * @param chunk the text to hand off
+     */
+    private void handOff(Chunk chunk) {
+        try {
+            if (ordered) {
+                turn.waitUntil(() -> stopped || chunk.sequence - released < window);
+            }
+            if (stopped) {
+                return;
+            }
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing output", e);
+        }
+    }
+
+    /**
+     * Per-worker formatting buffer. Not thread-safe; each worker owns one.
+     */
+    public class Buffer {
+        private final StringBuilder text = new StringBuilder(FLUSH_THRESHOLD * 2);
+
+        /**
+         * Formats a result and queues it for writing.
+         *
+         * @param sequence the position of the file in the batch (used in ordered mode)
+         * @param result   the validation result to write
+         */
+        public void append(int sequence, ValidationResult result) {
+            format.appendResult(result, text);
+            if (ordered) {
+                handOff(new Chunk(sequence, text.toString()));
+                text.setLength(0);
+            } else if (format.isMachineReadable() || text.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+
+        /**
+         * Queues any buffered text for writing. Call once the worker is done.
+         */
+        public void flush() {
+            if (text.length() > 0) {
+                handOff(new Chunk(-1, text.toString()));
+                text.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * A piece of formatted output together with its batch position.
+     */
+    private static class Chunk {
+        private final int sequence;  // Batch position, or -1 when unordered
+        private final String text;   // Formatted output
+
+        /**
+         * Constructs a new Chunk.
+         *
+         * @param sequence the batch position, or -1 when unordered
+         * @param text     the formatted output
+         */
+        Chunk(int sequence, String text) {
+            this.sequence = sequence;
+            this.text = text;
+        }
+    }
+}
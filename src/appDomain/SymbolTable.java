@@ -0,0 +1,140 @@
+package appDomain;
+
+/**
+ * Assigns small, dense integer ids to tag names.
+ * The first distinct name gets id 0, the next id 1, and so on, so per-tag data
+ * can be kept in primitive arrays indexed by id and tag sequences can be
+ * stored as ints instead of strings. Lookups use an open-addressing table of
+ * ids with linear probing, so interning a name that is already known
+ * allocates nothing.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public final class SymbolTable {
+
+    private static final int INITIAL_SLOTS = 64;    // Starting table size (a power of two)
+
+    private String[] names;     // Names by id
+    private int[] slots;        // Hash slots holding id + 1, or 0 when empty
+    private int size;           // Number of names
+
+    /**
+     * Constructs an empty symbol table.
+     */
+    public SymbolTable() {
+        names = new String[INITIAL_SLOTS / 2];
+        slots = new int[INITIAL_SLOTS];
+        size = 0;
+    }
+
+    /**
+     * Returns the id of the name, assigning the next free id if it is new.
+     *
+     * @param name the tag name
+     * @return the id of the name
+     * @throws NullPointerException if name is null
+     */
+    public int intern(String name) {
+        int slot = slotOf(name);
+        if (slots[slot] != 0) {
+            return slots[slot] - 1;
+        }
+        if (size == names.length) {
+            names = java.util.Arrays.copyOf(names, size * 2);
+        }
+        names[size] = name;
+        slots[slot] = ++size;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return size - 1;
+    }
+
+    /**
+     * Returns the id of the name without adding it.
+     *
+     * @param name the tag name
+     * @return the id of the name, or -1 if it has not been interned
+     * @throws NullPointerException if name is null
+     */
+    public int find(String name) {
+        return slots[slotOf(name)] - 1;
+    }
+
+    /**
+     * Returns the name with the given id.
+     *
+     * @param id an id returned by intern
+     * @return the name
+     * @throws IndexOutOfBoundsException if no name has that id
+     */
+    public String name(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Id " + id + " out of bounds.");
+        }
+        return names[id];
+    }
+
+    /**
+     * Returns the number of names in the table, which is also the next id.
+     *
+     * @return the number of names
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all names, keeping the allocated table.
+     */
+    public void clear() {
+        java.util.Arrays.fill(names, 0, size, null);
+        java.util.Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    /**
+     * Finds the slot holding the name, or the empty slot where it belongs.
+     *
+     * @param name the tag name
+     * @return a slot index
+     */
+    private int slotOf(String name) {
+        int mask = slots.length - 1;
+        int slot = mix(name.hashCode()) & mask;
+        while (slots[slot] != 0 && !names[slots[slot] - 1].equals(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Rebuilds the slot table at the given size.
+     *
+     * @param slotCount the new number of slots (a power of two)
+     */
+    private void rehash(int slotCount) {
+        slots = new int[slotCount];
+        int mask = slotCount - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(names[id].hashCode()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    /**
+     * Spreads the high bits of a hash code into the low bits used for slots,
+     * since short tag names often differ only in their last characters.
+     *
+     * @param hash a String hash code
+     * @return the mixed hash
+     */
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,148 @@
+package appDomain;
+
+/**
+ * A tag reported to a TagListener. XMLParser keeps a single instance and
+ * updates it before each call, so parsing allocates nothing per event;
+ * listeners must not keep a reference to it. The name is the string the
+ * parser already holds on its tag stack, so reading it is free too.
+ *
+ * Offsets are byte offsets in the file: getStart() is that of the tag's
+ * '&lt;' and getEnd() is just past its '&gt;'.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public final class TagEvent {
+
+    private String name;        // Tag name, or null for an error without one
+    private int depth;          // Element depth, 1 for the root
+    private long start;         // Offset of the tag's '<', or -1
+    private long end;           // Offset just past the tag's '>', or -1
+    private int line;           // Line of the tag, or -1
+    private boolean matched;    // For onClose: true if a matching closing tag was found
+    private String message;     // For onError: the error message
+
+    /**
+     * Constructs an empty event; only XMLParser creates them.
+     */
+    TagEvent() {
+    }
+
+    /**
+     * Fills the event for a tag.
+     *
+     * @param name    the tag name
+     * @param depth   the element depth
+     * @param start   the offset of the tag's '&lt;', or -1
+     * @param end     the offset just past the tag's '&gt;', or -1
+     * @param line    the line of the tag, or -1
+     * @param matched true if the element was closed by a matching tag
+     * @return this event
+     */
+    TagEvent set(String name, int depth, long start, long end, int line, boolean matched) {
+        this.name = name;
+        this.depth = depth;
+        this.start = start;
+        this.end = end;
+        this.line = line;
+        this.matched = matched;
+        this.message = null;
+        return this;
+    }
+
+    /**
+     * Fills the event for an error.
+     *
+     * @param message the error message
+     * @param name    the tag involved, or null
+     * @param start   the offset of the tag's '&lt;', or -1
+     * @param line    the line of the error, or -1
+     * @return this event
+     */
+    TagEvent setError(String message, String name, long start, int line) {
+        set(name, 0, start, -1, line, false);
+        this.message = message;
+        return this;
+    }
+
+    /**
+     * Returns the tag name.
+     *
+     * @return the name, or null for an error that involves no tag
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the element's depth.
+     *
+     * @return the depth, 1 for the root, or 0 for an error
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the byte offset of the tag's '&lt;'.
+     *
+     * @return the offset, or -1 if the event has no position
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the byte offset just past the tag's '&gt;'.
+     *
+     * @return the offset, or -1 if the event has no position
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the line of the tag.
+     *
+     * @return the line number, from 1, or -1 if the event has no position
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * For onClose, tells whether the element was closed by a matching
+     * closing tag rather than abandoned by the parser.
+     *
+     * @return true if the element was properly closed
+     */
+    public boolean isMatched() {
+        return matched;
+    }
+
+    /**
+     * For onError, returns the error message.
+     *
+     * @return the message, or null for other events
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the event's fields for debugging.
+     *
+     * @return a string representation of the event
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (message != null) {
+            sb.append(message).append(' ');
+        }
+        if (name != null) {
+            sb.append(name).append(" depth ").append(depth).append(' ');
+        }
+        return sb.append("line ").append(line).append(" bytes ").append(start).append("..").append(end).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package appDomain;
+
+import java.io.IOException;
+
+/**
+ * Receives the elements XMLParser finds, in document order, during the same
+ * pass that validates them. Several listeners can be added to one parser
+ * with XMLParser.addListener; each tag is read once and handed to all of
+ * them in turn. Statistics, the element index and path queries are
+ * listeners too.
+ *
+ * Every call passes the same TagEvent object, updated in place, so a
+ * listener must copy anything it wants to keep before returning. Depths
+ * and matches follow the parser's tag stack: an element is open from its
+ * onOpen until its onClose, including elements the parser gives up on
+ * because a closing tag further down the stack was found, which are
+ * closed with isMatched() false. Each method does nothing by default.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public interface TagListener {
+
+    /**
+     * Called for an opening tag, after it is pushed on the tag stack.
+     *
+     * @param event the tag name, its depth (1 for the root), the offsets of
+     *              the tag and its line
+     * @throws IOException if the listener cannot write its output
+     */
+    default void onOpen(TagEvent event) throws IOException {
+    }
+
+    /**
+     * Called when an open element leaves the tag stack. For a matching
+     * closing tag, the offsets and line are those of the closing tag;
+     * otherwise they are -1.
+     *
+     * @param event the element's name and depth, and whether it was matched
+     * @throws IOException if the listener cannot write its output
+     */
+    default void onClose(TagEvent event) throws IOException {
+    }
+
+    /**
+     * Called for a self-closing tag such as "&lt;br/&gt;", which opens and
+     * closes an element one level below the innermost open one.
+     *
+     * @param event the tag name without its "/", its depth, offsets and line
+     * @throws IOException if the listener cannot write its output
+     */
+    default void onSelfClosing(TagEvent event) throws IOException {
+    }
+
+    /**
+     * Called for each error the parser records, with the same message
+     * getErrors returns. Errors found while matching leftover tags after
+     * the last line have no position, so their offsets and line are -1.
+     *
+     * @param event the error message, the tag involved if any, and its position
+     * @throws IOException if the listener cannot write its output
+     */
+    default void onError(TagEvent event) throws IOException {
+    }
+}
@@ -0,0 +1,178 @@
+package appDomain;
+
+/**
+ * Finds the tags on one line of XML, left to right. XMLParser and XMLCursor
+ * both scan their lines with it, so they agree on where a tag starts and
+ * ends, what kind it is and where its name stops.
+ *
+ * A tag runs from a '&lt;' to the next '&gt;' on the same line; a '&lt;'
+ * without one ends the scan of the line. The tag's content is trimmed of
+ * blanks (characters up to ' ', as String.trim removes them). Content
+ * starting with "!--" or "?" is a comment or processing instruction,
+ * content ending in "/" a self-closing tag, and content starting with "/"
+ * a closing tag; anything else opens an element. The name starts after
+ * the "/" of a closing tag and stops at the first blank or, in a
+ * self-closing tag, at the final "/".
+ *
+ * Scanning allocates nothing: the name is a slice of the line, measured
+ * only when asked for and turned into a string only by getName().
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+final class TagScanner {
+
+    static final int NONE = 0;          // No more tags on the line
+    static final int OPEN = 1;          // An opening tag
+    static final int CLOSE = 2;         // A closing tag
+    static final int SELF_CLOSING = 3;  // A self-closing tag
+    static final int ERROR = 4;         // A '<' with no '>' after it on the line
+    static final int SKIPPED = 5;       // A comment or processing instruction
+
+    private String line;        // Line being scanned
+    private int position;       // Next character of line to scan
+    private int kind;           // Kind of the last tag found
+    private int tagStart;       // Index in line of the tag's '<'
+    private int tagEnd;         // Index in line just past the tag's '>', or -1
+    private int contentStart;   // Index in line of the tag's first non-blank character after '<'
+    private int contentEnd;     // Index in line just past its last non-blank character before '>'
+    private int nameStart;      // Index in line of the first character of the name
+    private int nameEnd;        // Index in line just past the name, or -1 until measured
+
+    /**
+     * Starts scanning a new line from its first character.
+     *
+     * @param line the line to scan
+     */
+    void reset(String line) {
+        this.line = line;
+        position = 0;
+        kind = NONE;
+    }
+
+    /**
+     * Moves to the next tag on the line.
+     *
+     * @return OPEN, CLOSE, SELF_CLOSING, SKIPPED, ERROR for a tag not closed
+     *         on the line, or NONE when the line has no more tags
+     */
+    int next() {
+        nameEnd = -1;
+        int start = line.indexOf('<', position);
+        if (start == -1) {
+            position = line.length();
+            return kind = NONE;
+        }
+        tagStart = start;
+        int end = line.indexOf('>', start);
+        if (end == -1) {
+            tagEnd = -1;
+            position = line.length();
+            return kind = ERROR;
+        }
+        tagEnd = end + 1;
+        position = tagEnd;
+        return kind = classify();
+    }
+
+    /**
+     * Returns the index in the line of the current tag's '&lt;'.
+     *
+     * @return the index of the '&lt;'
+     */
+    int getTagStart() {
+        return tagStart;
+    }
+
+    /**
+     * Returns the index in the line just past the current tag's '&gt;'.
+     *
+     * @return the index past the '&gt;', or -1 for ERROR
+     */
+    int getTagEnd() {
+        return tagEnd;
+    }
+
+    /**
+     * Returns the name of the current tag, creating a string for it.
+     *
+     * @return the tag name, without any "/" or attributes
+     */
+    String getName() {
+        return line.substring(nameStart, getNameEnd());
+    }
+
+    /**
+     * Tells whether the current tag has the given name, without creating
+     * a string for it.
+     *
+     * @param name the name to compare with
+     * @return true if the current tag's name equals name
+     */
+    boolean isName(String name) {
+        return name.length() == getNameEnd() - nameStart && line.startsWith(name, nameStart);
+    }
+
+    /**
+     * Tells whether the "/" of the current self-closing tag directly
+     * follows its name, as in "&lt;br/&gt;" but not "&lt;br /&gt;".
+     *
+     * @return true if nothing separates the name from the final "/"
+     */
+    boolean isSlashAfterName() {
+        return kind == SELF_CLOSING && getNameEnd() == contentEnd - 1;
+    }
+
+    /**
+     * Trims the content of the tag just found into contentStart and
+     * contentEnd, tells what kind of tag it is and where its name starts.
+     *
+     * @return OPEN, CLOSE, SELF_CLOSING, or SKIPPED for a comment or processing instruction
+     */
+    private int classify() {
+        int start = tagStart + 1;
+        int end = tagEnd - 1;
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        contentStart = start;
+        contentEnd = end;
+        nameStart = start;
+        if (start == end) {
+            return OPEN;
+        }
+        char first = line.charAt(start);
+        if (first == '?' || line.startsWith("!--", start)) {
+            return SKIPPED;
+        }
+        if (line.charAt(end - 1) == '/') {
+            return SELF_CLOSING;
+        }
+        if (first == '/') {
+            nameStart = start + 1;
+            return CLOSE;
+        }
+        return OPEN;
+    }
+
+    /**
+     * Measures the name on first use: it runs from nameStart to the first
+     * blank, or to the final "/" of a self-closing tag.
+     *
+     * @return the index in the line just past the name
+     */
+    private int getNameEnd() {
+        if (nameEnd < 0) {
+            int limit = kind == SELF_CLOSING ? contentEnd - 1 : contentEnd;
+            int stop = nameStart;
+            while (stop < limit && line.charAt(stop) > ' ') {
+                stop++;
+            }
+            nameEnd = stop;
+        }
+        return nameEnd;
+    }
+}
@@ -0,0 +1,115 @@
+package appDomain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable outcome of validating a single XML file.
+ * Holds everything the output formats need to describe the file:
+ * its path, whether it was valid, the error messages, its size and
+ * how long the validation took. A file that could not be validated at
+ * all (unreadable, or the parser failed) carries an error message instead.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public class ValidationResult {
+
+    private final String path;          // Path of the validated file
+    private final boolean valid;        // True if no errors were found
+    private final List<String> errors;  // Error messages (empty if valid)
+    private final long bytes;           // File size in bytes
+    private final long nanos;           // Validation time in nanoseconds
+    private final String failure;       // Why validation could not run (null if it ran)
+
+    /**
+     * Constructs a new ValidationResult.
+     *
+     * @param path   the path of the validated file
+     * @param valid  true if the file is well-formed
+     * @param errors the error messages found (may be empty)
+     * @param bytes  the size of the file in bytes
+     * @param nanos  the time spent validating, in nanoseconds
+     */
+    public ValidationResult(String path, boolean valid, List<String> errors, long bytes, long nanos) {
+        this.path = path;
+        this.valid = valid;
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+        this.bytes = bytes;
+        this.nanos = nanos;
+        this.failure = null;
+    }
+
+    /**
+     * Constructs a result for a file that could not be validated.
+     * The file is reported as invalid with a single "ERROR: " message.
+     *
+     * @param path    the path of the file
+     * @param failure the reason validation could not run
+     * @param bytes   the size of the file in bytes
+     * @param nanos   the time spent before the failure, in nanoseconds
+     */
+    public ValidationResult(String path, String failure, long bytes, long nanos) {
+        this.path = path;
+        this.valid = false;
+        this.errors = List.of("ERROR: " + failure);
+        this.bytes = bytes;
+        this.nanos = nanos;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the path of the validated file.
+     *
+     * @return file path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns true if the file was valid.
+     *
+     * @return true if no errors were found
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the error messages found in the file.
+     *
+     * @return unmodifiable list of error messages
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     *
+     * @return file size in bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the time spent validating the file.
+     *
+     * @return validation time in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the reason validation could not run, if it failed.
+     *
+     * @return the failure message, or null if the file was validated
+     */
+    public String getFailure() {
+        return failure;
+    }
+}
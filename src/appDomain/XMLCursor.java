@@ -0,0 +1,274 @@
+package appDomain;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Pull cursor over the tags of an XML file: each call to next() moves to the
+ * next tag and returns its kind, and the accessors describe it. Tags are
+ * found by the same TagScanner XMLParser uses, line by line, skipping
+ * comments and processing instructions, but nothing is validated.
+ *
+ * The cursor keeps no tag stack. Depth is a counter, raised by each
+ * opening tag and lowered by each closing tag, so getDepth() is the
+ * element's depth (1 for the root) in a well-formed file. Apart from
+ * decoding each line, moving allocates nothing: the name is a slice of
+ * the current line that getName() turns into a string only when asked,
+ * and isName() compares it in place.
+ *
+ * skipElement() passes over the rest of the current element, looking at
+ * each tag only long enough to tell whether it opens or closes one.
+ *
+ * @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu, Samuel Braun
+ * @version 1.0
+ */
+public final class XMLCursor implements AutoCloseable {
+
+    /**
+     * The end of the file; next() keeps returning it. Also the kind before the first call to next().
+     */
+    public static final int END = 0;
+
+    /**
+     * An opening tag such as "&lt;book id='1'&gt;".
+     */
+    public static final int OPEN = 1;
+
+    /**
+     * A closing tag such as "&lt;/book&gt;".
+     */
+    public static final int CLOSE = 2;
+
+    /**
+     * A self-closing tag such as "&lt;br/&gt;".
+     */
+    public static final int SELF_CLOSING = 3;
+
+    /**
+     * A '&lt;' with no '&gt;' after it on the same line; the rest of the line is skipped.
+     */
+    public static final int ERROR = 4;
+
+    private final ByteLineReader reader;    // Source of lines and byte offsets
+    private final TagScanner scanner;       // Finds the tags on the current line
+    private boolean scanning;               // True while the current line may have more tags
+    private int lineNumber;                 // Number of the current line
+    private int kind;                       // Kind of the current token
+    private int depth;                      // Depth of the current element
+    private int level;                      // Number of elements open after the current token
+
+    /**
+     * Opens a cursor positioned before the first tag of a file.
+     *
+     * @param filename path to the XML file
+     * @throws IOException if the file cannot be opened
+     */
+    public XMLCursor(String filename) throws IOException {
+        this(Paths.get(filename));
+    }
+
+    /**
+     * Opens a cursor positioned before the first tag of a file.
+     *
+     * @param file the XML file
+     * @throws IOException if the file cannot be opened
+     */
+    public XMLCursor(Path file) throws IOException {
+        reader = new ByteLineReader(file, 0, false, false);
+        scanner = new TagScanner();
+        kind = END;
+    }
+
+    /**
+     * Moves to the next tag.
+     *
+     * @return its kind: OPEN, CLOSE, SELF_CLOSING, ERROR, or END at the end of the file
+     * @throws IOException if reading fails
+     */
+    public int next() throws IOException {
+        while (true) {
+            int tag = findTag();
+            if (tag == TagScanner.SKIPPED) {
+                continue;
+            }
+            kind = toKind(tag);
+            if (tag == TagScanner.SELF_CLOSING) {
+                depth = level + 1;
+            } else if (tag == TagScanner.CLOSE) {
+                depth = level;
+                if (level > 0) {
+                    level--;
+                }
+            } else if (tag == TagScanner.OPEN) {
+                depth = ++level;
+            } else {
+                depth = tag == TagScanner.NONE ? 0 : level;
+            }
+            return kind;
+        }
+    }
+
+    /**
+     * Skips the rest of the element whose opening tag is the current token
+     * and moves to its closing tag. Tags inside it only raise or lower a
+     * depth count; their names are never sliced. Comments, processing
+     * instructions and ERROR tokens inside it are passed over.
+     *
+     * @return CLOSE when positioned on the closing tag, or END if the file ended first
+     * @throws IllegalStateException if the current token is not OPEN
+     * @throws IOException           if reading fails
+     */
+    public int skipElement() throws IOException {
+        if (kind != OPEN) {
+            throw new IllegalStateException("skipElement requires an OPEN token");
+        }
+        int target = depth;
+        while (true) {
+            int tag = findTag();
+            if (tag == TagScanner.NONE) {
+                kind = END;
+                depth = 0;
+                return END;
+            }
+            if (tag == TagScanner.OPEN) {
+                level++;
+            } else if (tag == TagScanner.CLOSE && level-- == target) {
+                kind = CLOSE;
+                depth = target;
+                return CLOSE;
+            }
+        }
+    }
+
+    /**
+     * Returns the kind of the current token.
+     *
+     * @return OPEN, CLOSE, SELF_CLOSING, ERROR or END
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the name of the current tag, creating a string for it.
+     *
+     * @return the tag name, without any "/" or attributes
+     * @throws IllegalStateException if the current token has no name
+     */
+    public String getName() {
+        checkNamed();
+        return scanner.getName();
+    }
+
+    /**
+     * Tells whether the current tag has the given name, without creating
+     * a string for it.
+     *
+     * @param name the name to compare with
+     * @return true if the current token is a tag with that name
+     */
+    public boolean isName(String name) {
+        return (kind == OPEN || kind == CLOSE || kind == SELF_CLOSING) && scanner.isName(name);
+    }
+
+    /**
+     * Returns the byte offset of the current tag's '&lt;'.
+     *
+     * @return the offset, or -1 at the end of the file
+     */
+    public long getStart() {
+        return kind == END ? -1 : reader.offsetOf(scanner.getTagStart());
+    }
+
+    /**
+     * Returns the byte offset just past the current tag's '&gt;'.
+     *
+     * @return the offset, or -1 for ERROR and at the end of the file
+     */
+    public long getEnd() {
+        return kind == END || kind == ERROR ? -1 : reader.offsetOf(scanner.getTagEnd());
+    }
+
+    /**
+     * Returns the line of the current tag.
+     *
+     * @return the line number, from 1, or -1 at the end of the file
+     */
+    public int getLine() {
+        return kind == END ? -1 : lineNumber;
+    }
+
+    /**
+     * Returns the depth of the current element: for OPEN and CLOSE the
+     * element the tag opens or closes, and for SELF_CLOSING one more than
+     * the innermost open element.
+     *
+     * @return the depth, 1 for the root, or 0 for a closing tag with nothing open
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Moves the scanner to the next tag, reading lines as needed.
+     *
+     * @return the scanner's kind of tag, or NONE at the end of the file
+     * @throws IOException if reading fails
+     */
+    private int findTag() throws IOException {
+        while (true) {
+            if (!scanning) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return TagScanner.NONE;
+                }
+                lineNumber++;
+                scanner.reset(line);
+                scanning = true;
+            }
+            int tag = scanner.next();
+            if (tag != TagScanner.NONE) {
+                return tag;
+            }
+            scanning = false;
+        }
+    }
+
+    /**
+     * Converts a scanner's kind of tag to the cursor's token kind.
+     *
+     * @param tag OPEN, CLOSE, SELF_CLOSING or ERROR from TagScanner, or NONE at the end of the file
+     * @return the matching token kind
+     */
+    private static int toKind(int tag) {
+        switch (tag) {
+            case TagScanner.OPEN:         return OPEN;
+            case TagScanner.CLOSE:        return CLOSE;
+            case TagScanner.SELF_CLOSING: return SELF_CLOSING;
+            case TagScanner.ERROR:        return ERROR;
+            default:                      return END;
+        }
+    }
+
+    /**
+     * Throws unless the current token is a tag with a name.
+     *
+     * @throws IllegalStateException if the current token is ERROR or END
+     */
+    private void checkNamed() {
+        if (kind != OPEN && kind != CLOSE && kind != SELF_CLOSING) {
+            throw new IllegalStateException("Current token has no name");
+        }
+    }
+}
@@ -1,16 +1,15 @@
 package appDomain;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
-import utilities.StackADT;
-import utilities.QueueADT;
 import utilities.Iterator;
 import implementations.MyStack;
 import implementations.MyQueue;
+import implementations.MyRingQueue;
 
 /**
  * XMLParser reads and validates XML files using custom stack and queue data structures.
@@ -24,98 +23,526 @@ import implementations.MyQueue;
  */
 public class XMLParser {
 
+    private static final int DRAIN_BLOCK = 64;  // Tags moved per block when reporting leftovers
+    private static final int DEFAULT_RETAINED_CAPACITY = 1024; // Slots kept per structure between files
+    private static final TagListener[] NO_STAGES = new TagListener[0];
+
     private List<String> errors;            // Stores error messages
-    private StackADT<String> tagStack;      // Stack to track open tags
-    private QueueADT<String> errorQ;        // Queue to track tag errors (mismatches)
-    private QueueADT<String> extrasQ;       // Queue to track extra unmatched tags
-    private QueueADT<String> tagHistory;    // Queue to track all tags seen in order
+    private MyStack<String> tagStack;       // Stack to track open tags
+    private MyRingQueue<String> errorQ;     // Queue to track tag errors (mismatches)
+    private MyRingQueue<String> extrasQ;    // Queue to track extra unmatched tags
+    private MyQueue<String> tagHistory;     // Queue to track all tags seen in order
+    private final int retainedCapacity;     // Larger structures are trimmed when the parser is reset
+    private Path checkpointFile;            // Where checkpoints are saved, or null when disabled
+    private long checkpointInterval;        // Bytes parsed between checkpoints
+    private long resumedOffset;             // Bytes the last parse skipped by resuming
+    private boolean keepTagHistory = true;  // False to skip filling tagHistory
+    private boolean recordHistory = true;   // True if the current or last parse fills tagHistory
+    private int savedErrors;                // Errors already in the checkpoint's error log
+    private long errorLogLength;            // Bytes of the error log the last checkpoint covers
+    private DocumentStatistics statistics;  // Statistics of the last parse, or null when not collected
+    private Path indexFile;                 // Where the element index is written, or null when disabled
+    private int indexMinDepth;              // Shallowest element depth indexed
+    private int indexMaxDepth;              // Deepest element depth indexed
+    private final List<PathQuery> pathQueries = new ArrayList<>(); // Queries matched while parsing
+    private final List<TagListener> listeners = new ArrayList<>(); // Listeners added by the caller
+    private TagListener[] stages = NO_STAGES; // Every listener of the current parse, in call order
+    private final TagEvent event = new TagEvent(); // Reused for every call to a stage
+    private ByteLineReader lineReader;      // Reader of the current parse, which measures byte offsets
+    private int lineLead;                   // Characters trim() removed from the start of the line
+    private final TagScanner scanner = new TagScanner(); // Finds the tags on each line
 
     /**
      * Constructs a new XMLParser with empty stack, queues, and error list.
      */
     public XMLParser() {
+        this(DEFAULT_RETAINED_CAPACITY);
+    }
+
+    /**
+     * Constructs a new XMLParser that, when it starts on the next file, trims
+     * any stack, queue or error list that grew beyond retainedCapacity slots.
+     * A parser reused for many files then keeps only what typical files need
+     * instead of the peak reached by the largest one.
+     *
+     * @param retainedCapacity the capacity each structure may keep between files
+     * @throws IllegalArgumentException if retainedCapacity is negative
+     */
+    public XMLParser(int retainedCapacity) {
+        if (retainedCapacity < 0) {
+            throw new IllegalArgumentException("Retained capacity cannot be negative");
+        }
+        this.retainedCapacity = retainedCapacity;
         errors = new ArrayList<>();
         tagStack = new MyStack<>();
-        errorQ = new MyQueue<>();
-        extrasQ = new MyQueue<>();
+        errorQ = new MyRingQueue<>();
+        extrasQ = new MyRingQueue<>();
         tagHistory = new MyQueue<>();
     }
 
+    /**
+     * Makes parseFile save its progress to the given file every intervalBytes
+     * bytes. If the checkpoint file holds progress for a file that still
+     * starts with the bytes already parsed when parseFile starts, parsing
+     * resumes from there instead of from the beginning. The checkpoint file
+     * is deleted once a file has been parsed to the end.
+     *
+     * Each checkpoint stays small whatever the size of the document: the
+     * errors are appended to a second side file, named after the checkpoint
+     * file with ".errors" added, so each checkpoint writes only the errors
+     * found since the previous one. Parses with checkpoints do not keep the
+     * tag history.
+     *
+     * @param checkpointFile the side file to save progress to
+     * @param intervalBytes  how many bytes to parse between checkpoints
+     * @throws NullPointerException     if checkpointFile is null
+     * @throws IllegalArgumentException if intervalBytes is less than 1
+     */
+    public void enableCheckpoints(String checkpointFile, long intervalBytes) {
+        if (checkpointFile == null) {
+            throw new NullPointerException("Checkpoint file cannot be null");
+        }
+        if (intervalBytes < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least 1 byte");
+        }
+        this.checkpointFile = Paths.get(checkpointFile);
+        this.checkpointInterval = intervalBytes;
+    }
+
+    /**
+     * Stops parseFile from saving or resuming from checkpoints.
+     */
+    public void disableCheckpoints() {
+        checkpointFile = null;
+    }
+
     /**
      * Parses an XML file and validates the structure of its tags.
+     * When checkpoints are enabled, resumes from a matching checkpoint and
+     * saves new ones as it goes.
      *
      * @param filename path to the XML file
      * @return true if XML is well-formed; false otherwise
      * @throws IOException if file reading fails
      */
     public boolean parseFile(String filename) throws IOException {
-        errors.clear();
-        tagStack.clear();
-        errorQ.dequeueAll();
-        extrasQ.dequeueAll();
-        tagHistory.dequeueAll();
+        boolean valid = parse(Paths.get(filename), checkpointFile, false);
+        if (checkpointFile != null) {
+            ParserCheckpoint.delete(checkpointFile);
+        }
+        return valid;
+    }
+
+    /**
+     * Validates a file that only grows by appends, such as a log, without
+     * re-parsing what was already validated. The parser state at the end of
+     * the file (before unclosed tags are reported) is kept in stateFile. On
+     * the next call, if the file still starts with the bytes that state
+     * covers, only the bytes after them are parsed and the errors are then
+     * reconciled over the combined state. If the earlier part was edited,
+     * or stateFile is missing or unreadable, the whole file is parsed again.
+     * Either way the result is the same as parseFile would give.
+     *
+     * A last line without a terminator is parsed but left out of the saved
+     * state, since an append may still extend it. When checkpoints are
+     * enabled they are written to stateFile as well.
+     *
+     * @param filename  path to the XML file
+     * @param stateFile the side file holding the end-of-file parser state
+     * @return true if XML is well-formed; false otherwise
+     * @throws IOException if file reading or writing the state fails
+     */
+    public boolean parseFileIncremental(String filename, String stateFile) throws IOException {
+        return parse(Paths.get(filename), Paths.get(stateFile), true);
+    }
+
+    /**
+     * Returns the number of bytes the last parse skipped by resuming from
+     * a checkpoint or saved state; 0 if it started at the beginning.
+     *
+     * @return the offset the last parse started at
+     */
+    public long getResumedOffset() {
+        return resumedOffset;
+    }
+
+    /**
+     * Chooses whether parsing records every tag in the tag history that
+     * appendErrors and printErrors report. The history grows with the
+     * document, so it is worth turning off for large files. It is kept by
+     * default, except by parses with checkpoints or saved state, which never
+     * keep it: saving it would make every checkpoint as large as the
+     * document.
+     *
+     * @param keep true to keep the tag history
+     */
+    public void setKeepTagHistory(boolean keep) {
+        keepTagHistory = keep;
+        recordHistory = keep;
+        if (!keep) {
+            tagHistory.dequeueAll();
+        }
+    }
+
+    /**
+     * Chooses whether parsing also gathers DocumentStatistics (element
+     * counts per tag, depth histogram, maximum and average depth) in the
+     * same pass. Off by default.
+     *
+     * @param collect true to gather statistics
+     */
+    public void setCollectStatistics(boolean collect) {
+        statistics = collect ? new DocumentStatistics() : null;
+    }
+
+    /**
+     * Returns the statistics gathered by the last parse.
+     *
+     * @return the statistics, or null if they are not being collected
+     */
+    public DocumentStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Makes parseFile and parseFileIncremental also write an ElementIndex of
+     * the file to indexFile, listing every element with its start and end
+     * byte offsets and lines, so later jobs can seek straight to an element.
+     * Building the index needs the whole file, so parses that write one
+     * start at the beginning rather than resuming from saved state.
+     *
+     * @param indexFile the side file to write the index to
+     * @throws NullPointerException if indexFile is null
+     */
+    public void enableElementIndex(String indexFile) {
+        enableElementIndex(indexFile, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like enableElementIndex(String), but indexes only the elements whose
+     * depth (1 for the root) is between minDepth and maxDepth, such as just
+     * the records below a root element.
+     *
+     * @param indexFile the side file to write the index to
+     * @param minDepth  shallowest depth to index
+     * @param maxDepth  deepest depth to index
+     * @throws NullPointerException     if indexFile is null
+     * @throws IllegalArgumentException if minDepth is less than 1 or above maxDepth
+     */
+    public void enableElementIndex(String indexFile, int minDepth, int maxDepth) {
+        if (indexFile == null) {
+            throw new NullPointerException("Index file cannot be null");
+        }
+        if (minDepth < 1 || minDepth > maxDepth) {
+            throw new IllegalArgumentException("Depth range must satisfy 1 <= minDepth <= maxDepth");
+        }
+        this.indexFile = Paths.get(indexFile);
+        this.indexMinDepth = minDepth;
+        this.indexMaxDepth = maxDepth;
+    }
+
+    /**
+     * Stops parsing from writing an element index.
+     */
+    public void disableElementIndex() {
+        indexFile = null;
+    }
+
+    /**
+     * Compiles a path such as "/catalog/book/title" or "//book/title" and
+     * matches it during every later parse, in the same pass as validation.
+     * After each parse the returned query holds the byte offsets and lines
+     * of the elements that matched. Like the element index, queries need
+     * the whole file, so parses that run them do not resume from saved state.
+     *
+     * @param path the path expression; see PathQuery
+     * @return the query, whose matches are refreshed by each parse
+     * @throws NullPointerException     if path is null
+     * @throws IllegalArgumentException if path is not a valid path expression
+     */
+    public PathQuery addPathQuery(String path) {
+        PathQuery query = new PathQuery(path);
+        pathQueries.add(query);
+        return query;
+    }
+
+    /**
+     * Stops matching every path added with addPathQuery.
+     */
+    public void clearPathQueries() {
+        pathQueries.clear();
+    }
+
+    /**
+     * Adds a listener that is told about every element and error of every
+     * later parse, in the same pass as validation. Listeners are called in
+     * the order they were added, after the parser's own statistics, element
+     * index and path queries. Like those, they need the whole file, so
+     * parses with listeners do not resume from saved state.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException if listener is null
+     */
+    public void addListener(TagListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with addListener.
+     *
+     * @param listener the listener to remove
+     * @return true if it had been added
+     */
+    public boolean removeListener(TagListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Parses a file, optionally resuming from and saving to a state file.
+     *
+     * @param file        the file to parse
+     * @param stateFile   the checkpoint or state file, or null for none
+     * @param keepEndState true to save the end-of-file state to stateFile
+     * @return true if XML is well-formed; false otherwise
+     * @throws IOException if reading or writing fails
+     */
+    private boolean parse(Path file, Path stateFile, boolean keepEndState) throws IOException {
+        reset();
+        resumedOffset = 0;
+        savedErrors = 0;
+        errorLogLength = 0;
+
+        boolean checksum = stateFile != null;
+        recordHistory = keepTagHistory && !checksum;
+        boolean periodic = checksum && checkpointFile != null;
+        int lineNumber = 0;
+        ByteLineReader reader = null;
+        // The index, path queries and listeners see every element, so they cannot start from a resumed parse
+        boolean fullPass = indexFile != null || !pathQueries.isEmpty() || !listeners.isEmpty();
+        ParserCheckpoint checkpoint = checksum && !fullPass ? ParserCheckpoint.read(stateFile) : null;
+        if (checkpoint != null) {
+            reader = new ByteLineReader(file, checkpoint.offset, checkpoint.endedWithCr, true);
+            if (reader.startsAtOffset(checkpoint.offset) && reader.checksum() == checkpoint.prefixChecksum
+                    && (statistics == null || checkpoint.statistics != null)) {
+                restore(checkpoint);
+                lineNumber = checkpoint.lineNumber;
+                resumedOffset = checkpoint.offset;
+            } else {
+                // The part already parsed has changed, or the checkpoint lacks
+                // statistics this parse needs; start over
+                reader.close();
+                reader = null;
+            }
+        }
+        if (reader == null) {
+            if (checksum) {
+                // A stale checkpoint must not outlive the error log this parse rewrites
+                ParserCheckpoint.delete(stateFile);
+            }
+            reader = new ByteLineReader(file, 0, false, checksum);
+        }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+        try (ByteLineReader lines = reader;
+             ElementIndex.Writer index = indexFile == null
+                     ? null : new ElementIndex.Writer(indexFile, indexMinDepth, indexMaxDepth)) {
+            stages = chain(index);
+            lineReader = lines;
             String line;
-            int lineNumber = 0;
+            long nextCheckpoint = lines.offset() + checkpointInterval;
+            boolean stateSaved = false;
 
-            while ((line = reader.readLine()) != null) {
+            while ((line = lines.readLine()) != null) {
+                if (keepEndState && !lines.lineTerminated()) {
+                    // Save the state before this line, which an append may still extend
+                    saveCheckpoint(stateFile, lines.lineStartChecksum(), lines.lineStart(), lineNumber, false);
+                    stateSaved = true;
+                }
                 lineNumber++;
-                parseLine(line.trim(), lineNumber);
+                String trimmed = line.trim();
+                if (stages.length > 0) {
+                    lineLead = line.indexOf(trimmed);
+                }
+                parseLine(trimmed, lineNumber);
+                if (periodic && lines.lineTerminated() && lines.offset() >= nextCheckpoint) {
+                    saveCheckpoint(stateFile, lines.checksum(), lines.offset(), lineNumber, lines.endedWithCr());
+                    nextCheckpoint = lines.offset() + checkpointInterval;
+                }
+            }
+            if (keepEndState && !stateSaved) {
+                saveCheckpoint(stateFile, lines.checksum(), lines.offset(), lineNumber, lines.endedWithCr());
             }
+
+            // After processing all lines, push remaining open tags to errorQ.
+            // toArray lists the stack top first, which is the order popping would give.
+            String[] unclosed = tagStack.toArray(new String[tagStack.size()]);
+            errorQ.enqueueAll(unclosed);
+            tagStack.clear();
+            elementsDropped(unclosed, 0);
+            if (index != null) {
+                index.finish();
+            }
+
+            // Match tags in errorQ and extrasQ as per Kitty's algorithm
+            reconcileErrors();
+        } finally {
+            stages = NO_STAGES;
+            lineReader = null;
+        }
+
+        return errors.isEmpty();
+    }
+
+    /**
+     * Lists the listeners of a parse in the order they are called.
+     *
+     * @param index the element index writer, or null
+     * @return the statistics, index, path queries and added listeners in use
+     */
+    private TagListener[] chain(ElementIndex.Writer index) {
+        List<TagListener> chain = new ArrayList<>();
+        if (statistics != null) {
+            chain.add(statistics);
+        }
+        if (index != null) {
+            chain.add(index);
+        }
+        chain.addAll(pathQueries);
+        chain.addAll(listeners);
+        return chain.toArray(NO_STAGES);
+    }
+
+    /**
+     * Empties the stack, queues and error list, and trims those whose
+     * capacity grew beyond retainedCapacity on an earlier file.
+     */
+    private void reset() {
+        if (errors.size() > retainedCapacity) {
+            // ArrayList cannot report its capacity; a long list last time means a large one
+            errors = new ArrayList<>();
+        } else {
+            errors.clear();
+        }
+        tagStack.clear();
+        errorQ.dequeueAll();
+        extrasQ.dequeueAll();
+        tagHistory.dequeueAll();
+        if (statistics != null) {
+            statistics.clear();
+        }
+        for (PathQuery query : pathQueries) {
+            query.reset();
         }
 
-        // After processing all lines, push remaining open tags to errorQ
-        while (!tagStack.isEmpty()) {
-            String unclosedTag = tagStack.pop();
-            errorQ.enqueue(unclosedTag);
+        if (tagStack.capacity() > retainedCapacity) {
+            tagStack.trimToSize();
+        }
+        if (errorQ.capacity() > retainedCapacity) {
+            errorQ.trimToSize();
+        }
+        if (extrasQ.capacity() > retainedCapacity) {
+            extrasQ.trimToSize();
+        }
+        if (tagHistory.capacity() > retainedCapacity) {
+            tagHistory.trimToSize();
         }
+    }
 
-        // Match tags in errorQ and extrasQ as per Kitty's algorithm
-        reconcileErrors();
+    /**
+     * Saves the current parse state as a checkpoint.
+     *
+     * @param target         the checkpoint file
+     * @param prefixChecksum CRC32C of the file's bytes before offset
+     * @param offset         byte offset of the next line to parse
+     * @param lineNumber     the number of lines parsed so far
+     * @param endedWithCr    true if the last line parsed ended with a bare "\r"
+     * @throws IOException if the checkpoint cannot be written
+     */
+    private void saveCheckpoint(Path target, long prefixChecksum, long offset, int lineNumber,
+                                boolean endedWithCr) throws IOException {
+        // toArray lists the stack top first; checkpoints store it bottom first
+        String[] openTags = tagStack.toArray(new String[tagStack.size()]);
+        for (int i = 0, j = openTags.length - 1; i < j; i++, j--) {
+            String swap = openTags[i];
+            openTags[i] = openTags[j];
+            openTags[j] = swap;
+        }
+        // Only the errors found since the last checkpoint are written, appended to its error log
+        errorLogLength = ParserCheckpoint.appendErrors(target, errorLogLength, errors, savedErrors);
+        savedErrors = errors.size();
+        new ParserCheckpoint(prefixChecksum, offset, lineNumber, endedWithCr,
+                openTags,
+                errorQ.toArray(new String[errorQ.size()]),
+                extrasQ.toArray(new String[extrasQ.size()]),
+                errors, errorLogLength, statistics).write(target);
+    }
 
-        return errors.isEmpty();
+    /**
+     * Loads the parse state saved in a checkpoint into the (empty) stack,
+     * queues and error list.
+     *
+     * @param checkpoint the checkpoint to resume from
+     */
+    private void restore(ParserCheckpoint checkpoint) {
+        tagStack.pushAll(checkpoint.openTags);
+        errorQ.enqueueAll(checkpoint.errorTags);
+        extrasQ.enqueueAll(checkpoint.extraTags);
+        errors.addAll(checkpoint.errors);
+        savedErrors = checkpoint.errors.size();
+        errorLogLength = checkpoint.errorLogLength;
+        if (statistics != null) {
+            statistics = checkpoint.statistics;
+        }
     }
 
     /**
      * Parses a single line of XML and validates tags according to rules.
+     * The tags are found by a TagScanner, the same way XMLCursor finds them.
      *
      * @param line       the line of XML to parse
      * @param lineNumber the line number (for error reporting)
+     * @throws IOException if the element index cannot be written
      */
-    private void parseLine(String line, int lineNumber) {
-        int index = 0;
+    private void parseLine(String line, int lineNumber) throws IOException {
+        scanner.reset(line);
+        int kind;
 
-        while (index < line.length()) {
-            int openTagStart = line.indexOf('<', index);
-            if (openTagStart == -1) break;
+        while ((kind = scanner.next()) != TagScanner.NONE) {
+            int openTagStart = scanner.getTagStart();
+            int openTagEnd = scanner.getTagEnd();
 
-            int openTagEnd = line.indexOf('>', openTagStart);
-            if (openTagEnd == -1) {
-                errors.add("Line " + lineNumber + ": Tag not closed properly.");
+            if (kind == TagScanner.ERROR) {
+                error("Line " + lineNumber + ": Tag not closed properly.", null,
+                        stages.length > 0 ? byteOffset(line, openTagStart) : -1, lineNumber);
                 break;
             }
 
-            String tagContent = line.substring(openTagStart + 1, openTagEnd).trim();
-
             // Ignore processing instructions and comments
-            if (tagContent.startsWith("!--") || tagContent.startsWith("?")) {
-                index = openTagEnd + 1;
+            if (kind == TagScanner.SKIPPED) {
                 continue;
             }
 
             // Self-closing tag: <tag/>
-            if (tagContent.endsWith("/")) {
-                String selfTag = tagContent.split("\\s+")[0];
-                tagHistory.enqueue(selfTag);
-                index = openTagEnd + 1;
+            if (kind == TagScanner.SELF_CLOSING) {
+                if (recordHistory) {
+                    // History shows "<br/>" for a tag written without a blank before its "/"
+                    String name = scanner.getName();
+                    tagHistory.enqueue(scanner.isSlashAfterName() ? name + "/" : name);
+                }
+                if (stages.length > 0) {
+                    elementSelfClosed(scanner.getName(), line, openTagStart, openTagEnd, lineNumber);
+                }
                 continue;
             }
 
             // Closing tag: </tag>
-            if (tagContent.startsWith("/")) {
-                String closingTag = tagContent.substring(1).split("\\s+")[0];
-                tagHistory.enqueue(closingTag);
+            if (kind == TagScanner.CLOSE) {
+                String closingTag = scanner.getName();
+                if (recordHistory) {
+                    tagHistory.enqueue(closingTag);
+                }
 
                 if (tagStack.isEmpty()) {
                     // Closing tag without matching opening tag
@@ -124,15 +551,19 @@ public class XMLParser {
                     String lastOpened = tagStack.peek();
                     if (lastOpened.equals(closingTag)) {
                         // Proper match
+                        elementClosed(closingTag, line, openTagStart, openTagEnd, lineNumber);
                         tagStack.pop();
                     } else if (errorQ.isEmpty() || !errorQ.peek().equals(closingTag)) {
                         // Check if closing tag matches head of errorQ (ignore if matches)
-                        if (stackContains(closingTag)) {
-                            // Pop stack into errorQ until match
-                            while (!tagStack.isEmpty() && !tagStack.peek().equals(closingTag)) {
-                                errorQ.enqueue(tagStack.pop());
-                            }
-                            if (!tagStack.isEmpty()) tagStack.pop(); // Pop the matching tag
+                        int position = tagStack.search(closingTag);
+                        if (position != -1) {
+                            // Pop the tags above the match into errorQ as one block
+                            String[] unclosed = new String[position - 1];
+                            tagStack.popN(unclosed, unclosed.length);
+                            errorQ.enqueueAll(unclosed);
+                            elementsDropped(unclosed, tagStack.size());
+                            elementClosed(closingTag, line, openTagStart, openTagEnd, lineNumber);
+                            tagStack.pop(); // Pop the matching tag
                         } else {
                             // Closing tag does not match any opening tag
                             extrasQ.enqueue(closingTag);
@@ -142,47 +573,150 @@ public class XMLParser {
                         errorQ.dequeue();
                     }
                 }
-                index = openTagEnd + 1;
                 continue;
             }
 
             // Opening tag: <tag>
-            String tagName = tagContent.split("\\s+")[0];
+            String tagName = scanner.getName();
             tagStack.push(tagName);
-            tagHistory.enqueue(tagName);
-            index = openTagEnd + 1;
+            if (recordHistory) {
+                tagHistory.enqueue(tagName);
+            }
+            elementOpened(tagName, line, openTagStart, openTagEnd, lineNumber);
+        }
+    }
+
+    /**
+     * Tells the listeners about an element just pushed on tagStack.
+     *
+     * @param name       the tag name
+     * @param line       the trimmed line holding its opening tag
+     * @param tagStart   the index of the opening '&lt;' in line
+     * @param tagEnd     the index just past its '&gt;' in line
+     * @param lineNumber the line number
+     * @throws IOException if a listener fails
+     */
+    private void elementOpened(String name, String line, int tagStart, int tagEnd, int lineNumber)
+            throws IOException {
+        if (stages.length == 0) {
+            return;
+        }
+        event.set(name, tagStack.size(), byteOffset(line, tagStart), byteOffset(line, tagEnd), lineNumber, false);
+        for (TagListener stage : stages) {
+            stage.onOpen(event);
+        }
+    }
+
+    /**
+     * Tells the listeners that the element on top of tagStack was closed
+     * by a matching tag; called before it is popped.
+     *
+     * @param name       the tag name
+     * @param line       the trimmed line holding its closing tag
+     * @param tagStart   the index of the closing tag's '&lt;' in line
+     * @param tagEnd     the index just past its '&gt;' in line
+     * @param lineNumber the line number
+     * @throws IOException if a listener fails
+     */
+    private void elementClosed(String name, String line, int tagStart, int tagEnd, int lineNumber)
+            throws IOException {
+        if (stages.length == 0) {
+            return;
+        }
+        event.set(name, tagStack.size(), byteOffset(line, tagStart), byteOffset(line, tagEnd), lineNumber, true);
+        for (TagListener stage : stages) {
+            stage.onClose(event);
         }
     }
 
     /**
-     * Checks if the stack contains the given tag.
+     * Tells the listeners about elements popped from tagStack without a
+     * matching closing tag, innermost first.
      *
-     * @param tag the tag to check
-     * @return true if the tag is in the stack, false otherwise
+     * @param unclosed the popped tags, innermost first
+     * @param below    the number of tags still on tagStack
+     * @throws IOException if a listener fails
      */
-    private boolean stackContains(String tag) {
-        Iterator<String> iter = tagStack.iterator();
-        while (iter.hasNext()) {
-            if (iter.next().equals(tag)) return true;
+    private void elementsDropped(String[] unclosed, int below) throws IOException {
+        for (int i = 0; i < unclosed.length && stages.length > 0; i++) {
+            event.set(unclosed[i], below + unclosed.length - i, -1, -1, -1, false);
+            for (TagListener stage : stages) {
+                stage.onClose(event);
+            }
         }
-        return false;
+    }
+
+    /**
+     * Tells the listeners about a self-closing element.
+     *
+     * @param name       the tag name
+     * @param line       the trimmed line holding the tag
+     * @param tagStart   the index of its '&lt;' in line
+     * @param tagEnd     the index just past its '&gt;' in line
+     * @param lineNumber the line number
+     * @throws IOException if a listener fails
+     */
+    private void elementSelfClosed(String name, String line, int tagStart, int tagEnd, int lineNumber)
+            throws IOException {
+        event.set(name, tagStack.size() + 1, byteOffset(line, tagStart), byteOffset(line, tagEnd), lineNumber, true);
+        for (TagListener stage : stages) {
+            stage.onSelfClosing(event);
+        }
+    }
+
+    /**
+     * Records an error and tells the listeners about it.
+     *
+     * @param message    the error message
+     * @param name       the tag involved, or null
+     * @param start      the byte offset of the tag, or -1
+     * @param lineNumber the line of the error, or -1
+     * @throws IOException if a listener fails
+     */
+    private void error(String message, String name, long start, int lineNumber) throws IOException {
+        errors.add(message);
+        if (stages.length > 0) {
+            event.setError(message, name, start, lineNumber);
+            for (TagListener stage : stages) {
+                stage.onError(event);
+            }
+        }
+    }
+
+    /**
+     * Converts a character index in the trimmed line being parsed to a byte
+     * offset in the file.
+     *
+     * @param line  the trimmed line
+     * @param index a character index in line
+     * @return the file offset of that character
+     */
+    private long byteOffset(String line, int index) {
+        return lineReader.offsetOf(lineLead + index);
     }
 
     /**
      * Reconcile unmatched tags in errorQ and extrasQ following Kitty's algorithm.
+     *
+     * @throws IOException if a listener fails
      */
-    private void reconcileErrors() {
+    private void reconcileErrors() throws IOException {
+        String[] block = new String[DRAIN_BLOCK];
+        int count;
+
         while (!errorQ.isEmpty() || !extrasQ.isEmpty()) {
             if (errorQ.isEmpty() && !extrasQ.isEmpty()) {
-                while (!extrasQ.isEmpty()) {
-                    String extraTag = extrasQ.dequeue();
-                    errors.add("Extra closing tag </" + extraTag + "> found without matching opening tag.");
+                while ((count = extrasQ.drainTo(block, block.length)) > 0) {
+                    for (int i = 0; i < count; i++) {
+                        error("Extra closing tag </" + block[i] + "> found without matching opening tag.", block[i], -1, -1);
+                    }
                 }
                 break;
             } else if (!errorQ.isEmpty() && extrasQ.isEmpty()) {
-                while (!errorQ.isEmpty()) {
-                    String unclosedTag = errorQ.dequeue();
-                    errors.add("Unclosed tag <" + unclosedTag + "> found.");
+                while ((count = errorQ.drainTo(block, block.length)) > 0) {
+                    for (int i = 0; i < count; i++) {
+                        error("Unclosed tag <" + block[i] + "> found.", block[i], -1, -1);
+                    }
                 }
                 break;
             } else {
@@ -190,7 +724,7 @@ public class XMLParser {
                 String extraTag = extrasQ.peek();
 
                 if (!errorTag.equals(extraTag)) {
-                    errors.add("Tag mismatch error: expected </" + errorTag + "> but found </" + extraTag + ">.");
+                    error("Tag mismatch error: expected </" + errorTag + "> but found </" + extraTag + ">.", errorTag, -1, -1);
                     errorQ.dequeue();
                 } else {
                     // Both match, remove from both queues without error
@@ -212,20 +746,38 @@ public class XMLParser {
 
     /**
      * Prints errors found during parsing and tag history.
+     * The report is built first and written with a single call.
      */
     public void printErrors() {
+        StringBuilder report = new StringBuilder();
+        appendErrors(report);
+        System.out.print(report);
+        System.out.flush();
+    }
+
+    /**
+     * Appends the errors found during parsing and, if it is kept, the tag
+     * history to a buffer.
+     *
+     * @param out the buffer to append the report to
+     */
+    public void appendErrors(StringBuilder out) {
+        String newline = System.lineSeparator();
         if (errors.isEmpty()) {
-            System.out.println("No errors found.");
+            out.append("No errors found.").append(newline);
         } else {
-            System.out.println("Errors:");
+            out.append("Errors:").append(newline);
             for (String err : errors) {
-                System.out.println("  " + err);
+                out.append("  ").append(err).append(newline);
             }
         }
-        System.out.println("\nTag history (in order seen):");
+        if (!recordHistory) {
+            return;
+        }
+        out.append(newline).append("Tag history (in order seen):").append(newline);
         Iterator<String> it = tagHistory.iterator();
         while (it.hasNext()) {
-            System.out.println("  <" + it.next() + ">");
+            out.append("  <").append(it.next()).append('>').append(newline);
         }
     }
 
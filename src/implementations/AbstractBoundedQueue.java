@@ -0,0 +1,403 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+import utilities.WaitStrategy;
+
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.NoSuchElementException;
+
+/**
+ * Common base for the bounded, thread-safe ring-buffer queues.
+ *
+ * Subclasses supply the non-blocking {@link #offer(Object)}, {@link #poll()}
+ * and {@link #peekOrNull()} operations and a snapshot of the current contents.
+ * This class builds the QueueADT operations and the blocking
+ * {@link #put(Object)} / {@link #take()} operations on top of them.
+ *
+ * Operations that look at the whole queue (contains, search, iterator, toArray,
+ * equals, toString) work on a snapshot: they never fail while other threads are
+ * enqueueing or dequeueing, but the result is only exact when the queue is quiet.
+ *
+ * QueueADT is Serializable, but these queues are not: their counters and
+ * wait strategies are live coordination state shared with other threads,
+ * not data. Serializing one throws NotSerializableException; copy the
+ * contents out with toArray instead.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * @param <E> the type of elements stored in this queue
+ */
+abstract class AbstractBoundedQueue<E> implements QueueADT<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Largest power-of-two capacity an array can have
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Slots holding the queue elements; the length is a power of two
+     */
+    protected final transient E[] buffer;
+
+    /**
+     * buffer.length - 1, used to turn a sequence number into a slot index
+     */
+    protected final transient int mask;
+
+    /**
+     * How blocked producers and consumers wait
+     */
+    protected final transient WaitStrategy waitStrategy;
+
+    /**
+     * Constructs the buffer with the capacity rounded up to a power of two.
+     *
+     * @param capacity     the minimum number of elements the queue can hold
+     * @param waitStrategy how put() and take() wait
+     * @throws IllegalArgumentException if capacity is less than 1 or too large
+     * @throws NullPointerException     if waitStrategy is null
+     */
+    @SuppressWarnings("unchecked")
+    protected AbstractBoundedQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (waitStrategy == null) {
+            throw new NullPointerException("Wait strategy cannot be null");
+        }
+        int rounded = Integer.highestOneBit(capacity);
+        if (rounded != capacity) {
+            rounded <<= 1;
+        }
+        this.buffer = (E[]) new Object[rounded];
+        this.mask = rounded - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Adds an element at the rear if there is space, without waiting.
+     *
+     * @param element element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws NullPointerException if element is null
+     */
+    public abstract boolean offer(E element);
+
+    /**
+     * Removes and returns the front element, without waiting.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    public abstract E poll();
+
+    /**
+     * Returns the front element without removing it.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    protected abstract E peekOrNull();
+
+    /**
+     * Returns the current elements, front first.
+     *
+     * @return a snapshot of the queue contents
+     */
+    protected abstract Object[] snapshot();
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Unlike put(), this does not wait for space.
+     *
+     * @param element element to add
+     * @throws NullPointerException  if element is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void enqueue(E element) throws NullPointerException {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting for space if it is full.
+     *
+     * @param element element to add
+     * @throws NullPointerException if element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(E element) throws InterruptedException {
+        while (!offer(element)) {
+            waitStrategy.waitUntil(this::hasSpace);
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Unlike take(), this does not wait for an element.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if queue is empty
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E element = poll();
+        if (element == null) {
+            throw new EmptyQueueException("Cannot dequeue from empty queue");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the front element, waiting for one if the queue is empty.
+     *
+     * @return the front element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        E element;
+        while ((element = poll()) == null) {
+            waitStrategy.waitUntil(this::hasElements);
+        }
+        return element;
+    }
+
+    /**
+     * Returns the element at the front without removing it.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if queue is empty
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        E element = peekOrNull();
+        if (element == null) {
+            throw new EmptyQueueException("Cannot peek at empty queue");
+        }
+        return element;
+    }
+
+    /**
+     * Removes all elements currently in the queue by polling them.
+     */
+    @Override
+    public void dequeueAll() {
+        while (poll() != null) {
+            // discard
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns true if the queue is at capacity.
+     *
+     * @return true if no more elements can be added right now
+     */
+    @Override
+    public boolean isFull() {
+        return size() >= buffer.length;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return the capacity (a power of two)
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Wait condition for producers.
+     *
+     * @return true if the queue appears to have free space
+     */
+    private boolean hasSpace() {
+        return size() < buffer.length;
+    }
+
+    /**
+     * Wait condition for consumers.
+     *
+     * @return true if the queue appears to have an element
+     */
+    private boolean hasElements() {
+        return size() > 0;
+    }
+
+    /**
+     * Returns true if a snapshot of the queue contains the specified element.
+     *
+     * @param target the element to search for
+     * @return true if the element is found, false otherwise
+     * @throws NullPointerException if target is null
+     */
+    @Override
+    public boolean contains(E target) {
+        return search(target) != -1;
+    }
+
+    /**
+     * Returns the 1-based position of the element in a snapshot of the queue,
+     * counted from the front, or -1 if it is not found.
+     *
+     * @param target the element to search for
+     * @return position from front (1-based), or -1 if not found
+     * @throws NullPointerException if target is null
+     */
+    @Override
+    public int search(E target) {
+        if (target == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        Object[] elements = snapshot();
+        for (int i = 0; i < elements.length; i++) {
+            if (target.equals(elements[i])) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the queue, front to rear.
+     *
+     * @return an iterator for this queue
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator(snapshot());
+    }
+
+    /**
+     * Returns a snapshot of the queue as an array, front element first.
+     *
+     * @return array of queue elements
+     */
+    @Override
+    public Object[] toArray() {
+        return snapshot();
+    }
+
+    /**
+     * Returns a snapshot of the queue in an array of the holder's runtime type.
+     *
+     * @param holder the array to fill if it is big enough
+     * @return an array containing the elements of the queue
+     * @throws NullPointerException if the holder array is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E[] toArray(E[] holder) {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null");
+        }
+        Object[] elements = snapshot();
+        if (holder.length < elements.length) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), elements.length);
+        }
+        System.arraycopy(elements, 0, holder, 0, elements.length);
+        if (holder.length > elements.length) {
+            holder[elements.length] = null;
+        }
+        return holder;
+    }
+
+    /**
+     * Compares a snapshot of this queue to another QueueADT.
+     *
+     * @param that the QueueADT to compare to
+     * @return true if both contain equal elements in the same order
+     */
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (this == that) return true;
+        if (that == null) return false;
+
+        Object[] elements = snapshot();
+        if (elements.length != that.size()) return false;
+
+        Iterator<E> thatIter = that.iterator();
+        for (Object element : elements) {
+            if (!thatIter.hasNext() || !element.equals(thatIter.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of a snapshot of the queue.
+     *
+     * @return string representation of queue
+     */
+    @Override
+    public String toString() {
+        return java.util.Arrays.toString(snapshot());
+    }
+
+    /**
+     * Iterator over a snapshot array.
+     */
+    private class SnapshotIterator implements Iterator<E> {
+        private final Object[] elements;
+        private int cursor = 0;
+
+        /**
+         * @param elements the snapshot to iterate over
+         */
+        SnapshotIterator(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < elements.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            return (E) elements[cursor++];
+        }
+    }
+
+    /**
+     * Refuses to serialize the queue.
+     *
+     * @param out the stream that would be written to
+     * @throws NotSerializableException always
+     */
+    private void writeObject(ObjectOutputStream out) throws NotSerializableException {
+        throw new NotSerializableException(getClass().getName() + " cannot be serialized");
+    }
+
+    /**
+     * Refuses to deserialize the queue.
+     *
+     * @param in the stream that would be read from
+     * @throws InvalidObjectException always
+     */
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException(getClass().getName() + " cannot be deserialized");
+    }
+}
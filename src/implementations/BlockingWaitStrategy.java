@@ -0,0 +1,61 @@
+package implementations;
+
+import utilities.WaitStrategy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * WaitStrategy that parks waiting threads on a lock condition.
+ * Idle threads use no CPU; waking them costs a lock hand-off, so this suits
+ * stages that are often idle, such as an output writer.
+ *
+ * Signalling is skipped entirely while nobody is waiting, so the fast path of
+ * the queue stays lock-free.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+
+    /**
+     * Number of threads currently inside waitUntil
+     */
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        if (condition.getAsBoolean()) {
+            return;
+        }
+        lock.lock();
+        try {
+            waiters.incrementAndGet();
+            // re-check after registering, so a signal sent in between is not lost
+            while (!condition.getAsBoolean()) {
+                progress.await();
+            }
+        } finally {
+            waiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        if (waiters.get() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            progress.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package implementations;
+
+import exceptions.EmptyStackException;
+import utilities.Iterator;
+import utilities.StackADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free implementation of the Stack Abstract Data Type (ADT) that can be
+ * shared by many threads, for example as a free-list of pooled buffers.
+ *
+ * The stack is a Treiber stack: a singly linked chain of immutable nodes whose
+ * top is swapped with a compare-and-set. When that compare-and-set fails
+ * because other threads got there first, the operation tries the elimination
+ * array before retrying: a push parks its node in a random slot for a short
+ * time, and a pop that finds a parked node takes it directly. A push and a pop
+ * that meet this way cancel out without touching the top at all, which keeps
+ * throughput up when many threads hammer the stack at once.
+ *
+ * Because nodes never change once they are on the stack, toArray, iterator,
+ * contains and search walk a consistent snapshot taken when they start.
+ * Serialization writes such a snapshot too, as its size followed by the
+ * elements, through a separate serialized form, because the stack's own
+ * fields are final.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * @param <E> the type of elements held in this stack
+ */
+public class ConcurrentMyStack<E> implements StackADT<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of times a parked push checks whether a pop has taken its node
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * Top node of the stack, or null if the stack is empty
+     */
+    private final transient AtomicReference<Node<E>> top = new AtomicReference<>();
+
+    /**
+     * Slots where pushes wait briefly to hand their node to a pop
+     */
+    private final transient AtomicReferenceArray<Node<E>> eliminationSlots;
+
+    /**
+     * Element count; a striped counter so it does not become a contention point itself
+     */
+    private final transient LongAdder count = new LongAdder();
+
+    /**
+     * Creates an empty stack with an elimination array sized for this machine.
+     */
+    public ConcurrentMyStack() {
+        this(Math.max(1, Math.min(32, Runtime.getRuntime().availableProcessors() / 2)));
+    }
+
+    /**
+     * Creates an empty stack with the given number of elimination slots.
+     *
+     * @param eliminationSlots the number of slots used to pair pushes with pops
+     * @throws IllegalArgumentException if eliminationSlots is less than 1
+     */
+    public ConcurrentMyStack(int eliminationSlots) {
+        if (eliminationSlots < 1) {
+            throw new IllegalArgumentException("Elimination array needs at least one slot");
+        }
+        this.eliminationSlots = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * Adds an element to the top of the stack.
+     *
+     * @param element element to add
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void push(E element) throws NullPointerException {
+        if (element == null) {
+            throw new NullPointerException("Cannot push null element");
+        }
+        Node<E> node = new Node<>(element);
+        count.increment();
+        while (true) {
+            Node<E> current = top.get();
+            node.next = current;
+            if (top.compareAndSet(current, node)) {
+                return;
+            }
+            if (tryHandOff(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the top element of the stack.
+     *
+     * @return top element
+     * @throws EmptyStackException if stack is empty
+     */
+    @Override
+    public E pop() {
+        E element = tryPop();
+        if (element == null) {
+            throw new EmptyStackException();
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the top element, or returns null if the stack is empty.
+     * Convenient for free-lists, where an empty stack just means "allocate a new one".
+     *
+     * @return top element, or null if the stack is empty
+     */
+    public E tryPop() {
+        while (true) {
+            Node<E> current = top.get();
+            if (current == null) {
+                return null;
+            }
+            if (top.compareAndSet(current, current.next)) {
+                count.decrement();
+                return current.item;
+            }
+            Node<E> handed = tryTakeHandOff();
+            if (handed != null) {
+                count.decrement();
+                return handed.item;
+            }
+        }
+    }
+
+    /**
+     * Parks a node in a random elimination slot and waits briefly for a pop to take it.
+     *
+     * @param node the node being pushed
+     * @return true if a pop took the node, false if the push must retry on the stack
+     */
+    private boolean tryHandOff(Node<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // withdraw the offer; if that fails a pop took it at the last moment
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node parked by a concurrent push from a random elimination slot.
+     *
+     * @return the node taken, or null if the slot was empty or lost to another pop
+     */
+    private Node<E> tryTakeHandOff() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        Node<E> parked = eliminationSlots.get(slot);
+        if (parked != null && eliminationSlots.compareAndSet(slot, parked, null)) {
+            return parked;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the top element without removing it.
+     *
+     * @return top element
+     * @throws EmptyStackException if stack is empty
+     */
+    @Override
+    public E peek() {
+        Node<E> current = top.get();
+        if (current == null) {
+            throw new EmptyStackException();
+        }
+        return current.item;
+    }
+
+    /**
+     * Removes all elements from the stack in one atomic step.
+     */
+    @Override
+    public void clear() {
+        Node<E> detached = top.getAndSet(null);
+        int removed = 0;
+        for (Node<E> n = detached; n != null; n = n.next) {
+            removed++;
+        }
+        count.add(-removed);
+    }
+
+    /**
+     * Returns true if the stack contains no elements.
+     *
+     * @return true if empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Returns the number of elements in the stack. While other threads are
+     * pushing and popping this is an estimate.
+     *
+     * @return stack size
+     */
+    @Override
+    public int size() {
+        long n = count.sum();
+        return n <= 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns true if a snapshot of the stack contains the specified element.
+     *
+     * @param element element to check
+     * @return true if stack contains element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean contains(E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot check contains for null");
+        }
+        return search(element) != -1;
+    }
+
+    /**
+     * Returns the 1-based position from the top of the stack where the element
+     * is located in a snapshot of the stack; returns -1 if not found.
+     *
+     * @param element element to search
+     * @return position from top (1-based), or -1 if not found
+     */
+    @Override
+    public int search(E element) {
+        if (element == null) {
+            return -1;
+        }
+        int position = 1;
+        for (Node<E> n = top.get(); n != null; n = n.next, position++) {
+            if (element.equals(n.item)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the stack, from top to bottom.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> current = top.get();
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public E next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                E item = current.item;
+                current = current.next;
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Returns an Object array containing a snapshot of the elements from top to bottom.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        Node<E> snapshot = top.get();
+        int n = 0;
+        for (Node<E> node = snapshot; node != null; node = node.next) {
+            n++;
+        }
+        Object[] arr = new Object[n];
+        int i = 0;
+        for (Node<E> node = snapshot; node != null; node = node.next) {
+            arr[i++] = node.item;
+        }
+        return arr;
+    }
+
+    /**
+     * Returns an array containing a snapshot of the elements from top to bottom.
+     * If passed array is large enough, fills it and returns it.
+     * Else creates new array.
+     *
+     * @param a array to store elements
+     * @return array containing all elements
+     * @throws NullPointerException if array is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E[] toArray(E[] a) {
+        if (a == null) {
+            throw new NullPointerException("Array is null");
+        }
+        Object[] snapshot = toArray();
+        if (a.length < snapshot.length) {
+            a = (E[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), snapshot.length);
+        }
+        System.arraycopy(snapshot, 0, a, 0, snapshot.length);
+        if (a.length > snapshot.length) {
+            a[snapshot.length] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns true if a snapshot of this stack equals another stack (same elements in order).
+     *
+     * @param that the other StackADT to compare with
+     * @return true if both stacks are equal in size and contents; false if not equal
+     */
+    @Override
+    public boolean equals(StackADT<E> that) {
+        if (this == that) return true;
+        if (that == null) return false;
+
+        Object[] mine = toArray();
+        if (mine.length != that.size()) return false;
+
+        Iterator<E> thatIt = that.iterator();
+        for (Object item : mine) {
+            if (!thatIt.hasNext() || !item.equals(thatIt.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of a snapshot of the stack from bottom to top.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        Object[] items = toArray();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = items.length - 1; i >= 0; i--) {
+            sb.append(items[i]);
+            if (i > 0) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Returns false because this stack has no fixed size limit and cannot overflow.
+     *
+     * @return false always
+     */
+    @Override
+    public boolean stackOverflow() {
+        return false;
+    }
+
+    /**
+     * Serializes the stack as a SerializedForm holding a snapshot of its
+     * elements, so the chain of nodes is never written recursively.
+     *
+     * @return the serialized form of this stack
+     */
+    private Object writeReplace() {
+        return new SerializedForm<>(eliminationSlots.length(), toArray());
+    }
+
+    /**
+     * Rejects a stream that claims to hold the stack's fields directly; only
+     * SerializedForm is ever written.
+     *
+     * @param in the stream to read from
+     * @throws InvalidObjectException always
+     */
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("ConcurrentMyStack is read through its serialized form");
+    }
+
+    /**
+     * What a ConcurrentMyStack is serialized as: the number of elimination
+     * slots, then the size followed by the elements from top to bottom.
+     *
+     * @param <E> the type of elements held in the stack
+     */
+    private static final class SerializedForm<E> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        // Elimination array size of the stack
+        private final int eliminationSlots;
+
+        // Snapshot of the elements, top first; written by writeObject
+        private transient Object[] elements;
+
+        /**
+         * @param eliminationSlots the stack's elimination array size
+         * @param elements         the stack's elements, top first
+         */
+        SerializedForm(int eliminationSlots, Object[] elements) {
+            this.eliminationSlots = eliminationSlots;
+            this.elements = elements;
+        }
+
+        /**
+         * Writes the slot count, the size and the elements from top to bottom.
+         *
+         * @param out the stream to write to
+         * @throws IOException if writing fails
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeInt(elements.length);
+            for (Object element : elements) {
+                out.writeObject(element);
+            }
+        }
+
+        /**
+         * Reads a form written by writeObject. The element array grows as
+         * elements arrive, so a corrupt size fails at the end of the stream
+         * instead of allocating a huge array.
+         *
+         * @param in the stream to read from
+         * @throws IOException            if reading fails or the stream holds an invalid slot count, a negative size or a null element
+         * @throws ClassNotFoundException if an element's class cannot be found
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            if (eliminationSlots < 1) {
+                throw new InvalidObjectException("Invalid elimination slot count: " + eliminationSlots);
+            }
+            int size = in.readInt();
+            if (size < 0) {
+                throw new InvalidObjectException("Negative size: " + size);
+            }
+            Object[] read = new Object[Math.min(size, 1024)];
+            for (int i = 0; i < size; i++) {
+                if (i == read.length) {
+                    read = Arrays.copyOf(read, (int) Math.min(size, read.length * 2L));
+                }
+                read[i] = in.readObject();
+                if (read[i] == null) {
+                    throw new InvalidObjectException("Null element at position " + i);
+                }
+            }
+            elements = read;
+        }
+
+        /**
+         * Rebuilds the stack by pushing the elements from bottom to top.
+         *
+         * @return the deserialized stack
+         */
+        @SuppressWarnings("unchecked")
+        private Object readResolve() {
+            ConcurrentMyStack<E> stack = new ConcurrentMyStack<>(eliminationSlots);
+            for (int i = elements.length - 1; i >= 0; i--) {
+                stack.push((E) elements[i]);
+            }
+            return stack;
+        }
+    }
+
+    /**
+     * Singly linked stack node. The item never changes; next is only written
+     * before the node is published by a successful compare-and-set.
+     *
+     * @param <E> the type of the element held
+     */
+    private static final class Node<E> {
+        private final E item;
+        private Node<E> next;
+
+        /**
+         * @param item the element held by this node
+         */
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package implementations;
+
+import utilities.GrowthPolicy;
+
+/**
+ * Factory for the standard GrowthPolicy implementations used by MyArrayList,
+ * MyStack and MyQueue: doubling (the default), growing by half, growing by a
+ * fixed number of slots, and capping another policy at a maximum capacity.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ */
+public final class GrowthPolicies {
+
+    /**
+     * Largest capacity any policy returns; some VMs reserve header words in arrays
+     */
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final GrowthPolicy DOUBLING = new Doubling();
+    private static final GrowthPolicy HALF_AGAIN = new HalfAgain();
+
+    private GrowthPolicies() {
+    }
+
+    /**
+     * Returns the policy that doubles the capacity on each growth.
+     *
+     * @return the doubling policy
+     */
+    public static GrowthPolicy doubling() {
+        return DOUBLING;
+    }
+
+    /**
+     * Returns the policy that grows the capacity by half (x1.5) on each growth.
+     * Uses about a quarter less memory than doubling on average, for a few more copies.
+     *
+     * @return the half-again policy
+     */
+    public static GrowthPolicy halfAgain() {
+        return HALF_AGAIN;
+    }
+
+    /**
+     * Returns a policy that adds the same number of slots on each growth.
+     * Adds cost time linear in the size between growths, so the increment
+     * should be large relative to the expected number of elements.
+     *
+     * @param increment the number of slots to add
+     * @return the fixed-increment policy
+     * @throws IllegalArgumentException if increment is less than 1
+     */
+    public static GrowthPolicy fixed(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("Increment must be at least 1");
+        }
+        return new Fixed(increment);
+    }
+
+    /**
+     * Returns a policy that grows as the given policy does but never beyond
+     * maxCapacity. Growing a structure past the cap throws IllegalStateException.
+     *
+     * @param policy      the policy to cap
+     * @param maxCapacity the largest capacity allowed
+     * @return the capped policy
+     * @throws NullPointerException     if policy is null
+     * @throws IllegalArgumentException if maxCapacity is less than 1
+     */
+    public static GrowthPolicy capped(GrowthPolicy policy, int maxCapacity) {
+        if (policy == null) {
+            throw new NullPointerException("Cannot cap null policy");
+        }
+        if (maxCapacity < 1) {
+            throw new IllegalArgumentException("Maximum capacity must be at least 1");
+        }
+        return new Capped(policy, maxCapacity);
+    }
+
+    /**
+     * Applies a policy and checks its answer: the result is at least
+     * minCapacity and never above MAX_ARRAY_SIZE.
+     *
+     * @param policy          the policy to ask
+     * @param currentCapacity the length of the current backing array
+     * @param minCapacity     the number of elements that must fit
+     * @return the capacity to grow to
+     * @throws IllegalStateException if minCapacity is negative (an int overflow)
+     *                               or above MAX_ARRAY_SIZE, or the policy refuses
+     */
+    static int newCapacity(GrowthPolicy policy, int currentCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Required capacity exceeds the largest array size");
+        }
+        int grown = policy.grow(currentCapacity, minCapacity);
+        if (grown < minCapacity) {
+            return minCapacity;
+        }
+        return Math.min(grown, MAX_ARRAY_SIZE);
+    }
+
+    /**
+     * Adds a step to a capacity, saturating instead of overflowing.
+     *
+     * @param capacity the current capacity
+     * @param step     the number of slots to add
+     * @return capacity + step, or MAX_ARRAY_SIZE if that is larger
+     */
+    private static int add(int capacity, long step) {
+        return (int) Math.min((long) capacity + step, MAX_ARRAY_SIZE);
+    }
+
+    private static final class Doubling implements GrowthPolicy {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            return add(currentCapacity, currentCapacity);
+        }
+
+        // Keep the shared instance unique after deserialization
+        private Object readResolve() {
+            return DOUBLING;
+        }
+
+        @Override
+        public String toString() {
+            return "doubling";
+        }
+    }
+
+    private static final class HalfAgain implements GrowthPolicy {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            return add(currentCapacity, currentCapacity >> 1);
+        }
+
+        // Keep the shared instance unique after deserialization
+        private Object readResolve() {
+            return HALF_AGAIN;
+        }
+
+        @Override
+        public String toString() {
+            return "halfAgain";
+        }
+    }
+
+    private static final class Fixed implements GrowthPolicy {
+        private static final long serialVersionUID = 1L;
+        private final int increment;
+
+        Fixed(int increment) {
+            this.increment = increment;
+        }
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            return add(currentCapacity, increment);
+        }
+
+        @Override
+        public String toString() {
+            return "fixed(" + increment + ")";
+        }
+    }
+
+    private static final class Capped implements GrowthPolicy {
+        private static final long serialVersionUID = 1L;
+        private final GrowthPolicy policy;
+        private final int maxCapacity;
+
+        Capped(GrowthPolicy policy, int maxCapacity) {
+            this.policy = policy;
+            this.maxCapacity = maxCapacity;
+        }
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            if (minCapacity > maxCapacity) {
+                throw new IllegalStateException("Capacity limit of " + maxCapacity + " reached");
+            }
+            return Math.min(Math.max(policy.grow(currentCapacity, minCapacity), minCapacity), maxCapacity);
+        }
+
+        @Override
+        public String toString() {
+            return "capped(" + policy + ", " + maxCapacity + ")";
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package implementations;
+
+import utilities.IntIterator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * IntArrayList: Array-backed list of primitive int values.
+ * Works like MyArrayList (same operations, same doubling growth, same bulk
+ * arraycopy moves) but stores the values in an int[] instead of boxing each
+ * one, and iterates with an IntIterator cursor that never allocates per value.
+ * Since a primitive cannot be null, no operation throws NullPointerException
+ * for its value argument.
+ *
+ * Besides Java serialization, which writes only the size and the live values,
+ * writeTo and readFrom give a plain binary form: the size as an int followed
+ * by the values in big-endian order, as DataOutput would write them one by
+ * one. The values are moved through a byte buffer in blocks rather than one
+ * call per value.
+ */
+public class IntArrayList implements java.io.Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 10;
+    // Bytes moved per block by writeTo and readFrom
+    private static final int BLOCK_BYTES = 8192;
+    // Backing array; serialized as size plus live values by writeObject
+    private transient int[] array;
+    private int size;
+    // Number of structural changes; iterators use it to detect changes made while they run
+    private transient int modCount;
+
+    public IntArrayList() {
+        array = new int[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append
+     * @return true always
+     */
+    public boolean add(int value) {
+        ensureCapacity(size + 1);
+        array[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts a value at the given index, shifting later values right.
+     *
+     * @param index the index to insert at
+     * @param value the value to insert
+     * @return true always
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    public boolean add(int index, int value) {
+        checkIndexForAdd(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Appends all values of the array, in order, with a single copy.
+     *
+     * @param values the values to append
+     * @return true if this list changed
+     * @throws NullPointerException if the array is null
+     */
+    public boolean addAll(int[] values) {
+        if (values == null) {
+            throw new NullPointerException("Cannot addAll from null array.");
+        }
+        return addAll(size, values, 0, values.length);
+    }
+
+    /**
+     * Appends all values of the other list, in order, with a single copy.
+     *
+     * @param other the list whose values are appended
+     * @return true if this list changed
+     * @throws NullPointerException if the other list is null
+     */
+    public boolean addAll(IntArrayList other) {
+        return addAll(size, other);
+    }
+
+    /**
+     * Inserts all values of the other list at the given index, in order.
+     * The existing tail is shifted once and the values copied in one block.
+     *
+     * @param index the index at which to insert the first value
+     * @param other the list whose values are inserted
+     * @return true if this list changed
+     * @throws NullPointerException      if the other list is null
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    public boolean addAll(int index, IntArrayList other) {
+        if (other == null) {
+            throw new NullPointerException("Cannot addAll from null list.");
+        }
+        // copy first in case other is this list
+        return addAll(index, Arrays.copyOf(other.array, other.size), 0, other.size);
+    }
+
+    /**
+     * Inserts count values from the source array at the given index.
+     *
+     * @param index  the index at which to insert the first value
+     * @param values the source array
+     * @param from   the first index of the source array to copy
+     * @param count  the number of values to copy
+     * @return true if this list changed
+     */
+    private boolean addAll(int index, int[] values, int from, int count) {
+        checkIndexForAdd(index);
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(values, from, array, index, count);
+        size += count;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes all values from the list. The capacity is kept.
+     */
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns true if the list contains the value.
+     *
+     * @param value the value to look for
+     * @return true if found
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value, or -1.
+     *
+     * @param value the value to look for
+     * @return the index of the value, or -1 if it is not in the list
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Removes and returns the value at the given index, shifting later values left.
+     *
+     * @param index the index of the value to remove
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int remove(int index) {
+        checkIndex(index);
+        int removed = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the first occurrence of the value.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive)
+     * by moving the tail down in a single arraycopy.
+     *
+     * @param fromIndex index of the first value to remove
+     * @param toIndex   index after the last value to remove
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range " + fromIndex + " to " + toIndex + " out of bounds.");
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index the index of the value to replace
+     * @param value the new value
+     * @return the old value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int oldValue = array[index];
+        array[index] = value;
+        return oldValue;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a cursor over the values from first to last. The cursor is
+     * fail-fast: nextInt() throws ConcurrentModificationException if the
+     * list was structurally changed after the cursor was created.
+     *
+     * @return a primitive cursor over this list
+     */
+    public IntIterator iterator() {
+        return new IntArrayListIterator();
+    }
+
+    private class IntArrayListIterator implements IntIterator {
+        private int cursor = 0;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements.");
+            }
+            return array[cursor++];
+        }
+    }
+
+    /**
+     * Returns a new array holding the values in order.
+     *
+     * @return an array of length size()
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            int newCapacity = array.length * 2;
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            array = Arrays.copyOf(array, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds.");
+        }
+    }
+
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds.");
+        }
+    }
+
+    /**
+     * Returns true if the other object is an IntArrayList with the same values in the same order.
+     *
+     * @param obj the object to compare with
+     * @return true if equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof IntArrayList)) return false;
+        IntArrayList other = (IntArrayList) obj;
+        return Arrays.equals(array, 0, size, other.array, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(array[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the values in the form [v0, v1, ...].
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Writes the size as an int followed by the values in order, each in
+     * big-endian byte order. The result can be read back with readFrom,
+     * or value by value with DataInput.readInt.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        writeValues(out);
+    }
+
+    /**
+     * Reads a list written by writeTo. The new list's capacity is exactly the stored size.
+     *
+     * @param in the source
+     * @return the list read
+     * @throws IOException if reading fails, the input ends early, or the stored size is negative
+     */
+    public static IntArrayList readFrom(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative size: " + count);
+        }
+        IntArrayList list = new IntArrayList();
+        list.readValues(in, count);
+        return list;
+    }
+
+    /**
+     * Writes the values in blocks of BLOCK_BYTES bytes.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    private void writeValues(DataOutput out) throws IOException {
+        int perBlock = BLOCK_BYTES / Integer.BYTES;
+        byte[] block = new byte[Math.min(size, perBlock) * Integer.BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        for (int done = 0; done < size; done += perBlock) {
+            int count = Math.min(perBlock, size - done);
+            buffer.asIntBuffer().put(array, done, count);
+            out.write(block, 0, count * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Replaces the contents with count values read in blocks of BLOCK_BYTES
+     * bytes. The array grows with the values actually read, so a corrupt
+     * size on a short input fails with EOFException instead of allocating
+     * the whole claimed size up front.
+     *
+     * @param in    the source
+     * @param count the number of values to read
+     * @throws IOException if reading fails or the input ends early
+     */
+    private void readValues(DataInput in, int count) throws IOException {
+        int perBlock = BLOCK_BYTES / Integer.BYTES;
+        int[] values = new int[Math.min(count, perBlock)];
+        byte[] block = new byte[values.length * Integer.BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        for (int done = 0; done < count; done += perBlock) {
+            int piece = Math.min(perBlock, count - done);
+            if (done + piece > values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(count, 2L * values.length));
+            }
+            in.readFully(block, 0, piece * Integer.BYTES);
+            buffer.asIntBuffer().get(values, done, piece);
+        }
+        array = values;
+        size = count;
+        modCount++;
+    }
+
+    /**
+     * Writes the size followed by the live values. The unused capacity of
+     * the backing array is not written.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        writeValues(out);
+    }
+
+    /**
+     * Reads a list written by writeObject into a backing array of exactly
+     * the stored size.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stored size is negative
+     * @throws ClassNotFoundException never; declared by the serialization contract
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Negative size: " + size);
+        }
+        readValues(in, size);
+    }
+}
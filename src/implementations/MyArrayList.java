@@ -1,8 +1,16 @@
 package implementations;
 
+import utilities.GrowthPolicy;
 import utilities.Iterator;
 import utilities.ListADT;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
@@ -12,14 +20,49 @@ import java.util.NoSuchElementException;
  */
 public class MyArrayList<E> implements ListADT<E>, Cloneable {
 
+    private static final long serialVersionUID = 1L;
     private static final int DEFAULT_CAPACITY = 10;
-    private E[] array;
+    // Backing array; serialized as size plus live elements by writeObject
+    private transient E[] array;
     private int size;
+    // Decides how far the array grows when it is full
+    private final GrowthPolicy growthPolicy;
+    // Number of structural changes; iterators use it to detect changes made while they run
+    private transient int modCount;
 
-    @SuppressWarnings("unchecked")
     public MyArrayList() {
-        array = (E[]) new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY, GrowthPolicies.doubling());
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity that doubles when full.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicies.doubling());
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity and growth policy.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @param growthPolicy    decides how far the list grows when it is full
+     * @throws IllegalArgumentException if initialCapacity is negative
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative.");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null.");
+        }
+        array = (E[]) new Object[initialCapacity];
         size = 0;
+        this.growthPolicy = growthPolicy;
     }
 
     @Override
@@ -29,6 +72,7 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
         }
         ensureCapacity(size + 1);
         array[size++] = element;
+        modCount++;
         return true;
     }
 
@@ -41,33 +85,60 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
             throw new IndexOutOfBoundsException("Index " + index + " out of bounds.");
         }
         ensureCapacity(size + 1);
-        for (int i = size - 1; i >= index; i--) {
-            array[i + 1] = array[i];
-        }
+        System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = element;
         size++;
+        modCount++;
         return true;
     }
 
     @Override
     public boolean addAll(ListADT<? extends E> otherList) {
+        return addAll(size, otherList);
+    }
+
+    /**
+     * Inserts all elements of the other list at the given index, in order.
+     * The other list is copied out once with toArray(), capacity is grown at
+     * most once, and the existing tail is shifted in a single move.
+     *
+     * @param index     the index at which to insert the first element
+     * @param otherList the list whose elements are inserted
+     * @return true if this list changed
+     * @throws NullPointerException      if otherList or any of its elements is null
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public boolean addAll(int index, ListADT<? extends E> otherList) {
         if (otherList == null) {
             throw new NullPointerException("Cannot addAll from null list.");
         }
-        boolean changed = false;
-        for (int i = 0; i < otherList.size(); i++) {
-            add(otherList.get(i));
-            changed = true;
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds.");
         }
-        return changed;
+        Object[] elements = otherList.toArray();
+        int count = elements.length;
+        if (count == 0) {
+            return false;
+        }
+        for (Object element : elements) {
+            if (element == null) {
+                throw new NullPointerException("Cannot add null element.");
+            }
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(elements, 0, array, index, count);
+        size += count;
+        modCount++;
+        return true;
     }
 
     @Override
     public void clear() {
-        for (int i = 0; i < size; i++) {
-            array[i] = null;
-        }
+        java.util.Arrays.fill(array, 0, size, null);
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -93,11 +164,9 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
     public E remove(int index) {
         checkIndex(index);
         E removed = array[index];
-        for (int i = index; i < size - 1; i++) {
-            array[i] = array[i + 1];
-        }
-        array[size - 1] = null;
-        size--;
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[--size] = null;
+        modCount++;
         return removed;
     }
 
@@ -114,6 +183,27 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
         return null;
     }
 
+    /**
+     * Removes the elements from fromIndex (inclusive) to toIndex (exclusive)
+     * by moving the tail down in a single arraycopy.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        java.util.Arrays.fill(array, size - count, size, null);
+        size -= count;
+        modCount++;
+    }
+
     @Override
     public E set(int index, E element) {
         if (element == null) {
@@ -125,6 +215,49 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
         return oldValue;
     }
 
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null.");
+        }
+        for (int i = 0; i < size; i++) {
+            E replacement = operator.apply(array[i]);
+            if (replacement == null) {
+                throw new NullPointerException("Cannot set null element.");
+            }
+            array[i] = replacement;
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null.");
+        }
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(array[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a view of the elements from fromIndex (inclusive) to toIndex
+     * (exclusive). Nothing is copied; reads and writes go straight to this list.
+     *
+     * @param fromIndex low endpoint (inclusive) of the view
+     * @param toIndex   high endpoint (exclusive) of the view
+     * @return a view of the range
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    @Override
+    public ListADT<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
     @Override
     public boolean isEmpty() {
         return size == 0;
@@ -140,8 +273,13 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
         return new MyArrayListIterator();
     }
 
+    /**
+     * Fail-fast iterator: next() throws ConcurrentModificationException if the
+     * list was structurally changed after the iterator was created.
+     */
     private class MyArrayListIterator implements Iterator<E> {
         private int cursor = 0;
+        private final int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
@@ -150,6 +288,9 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
 
         @Override
         public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
             if (!hasNext()) {
                 throw new NoSuchElementException("No more elements.");
             }
@@ -166,9 +307,7 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
         if (inputArray.length < size) {
             return (E[]) java.util.Arrays.copyOf(array, size, inputArray.getClass());
         }
-        for (int i = 0; i < size; i++) {
-            inputArray[i] = array[i];
-        }
+        System.arraycopy(array, 0, inputArray, 0, size);
         if (inputArray.length > size) {
             inputArray[size] = null;
         }
@@ -182,25 +321,57 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
         return newArray;
     }
 
-    @SuppressWarnings("unchecked")
-    private void ensureCapacity(int minCapacity) {
+    /**
+     * Grows the backing array, as the growth policy decides, if it cannot
+     * hold minCapacity elements. Calling this before a known number of adds
+     * avoids the intermediate copies.
+     *
+     * @param minCapacity the number of elements the list must be able to hold
+     * @throws IllegalStateException if the growth policy does not allow that capacity
+     */
+    public void ensureCapacity(int minCapacity) {
         if (minCapacity > array.length) {
-            int newCapacity = array.length * 2;
-            if (newCapacity < minCapacity) {
-                newCapacity = minCapacity;
-            }
-            E[] newArray = (E[]) new Object[newCapacity];
-            System.arraycopy(array, 0, newArray, 0, size);
-            array = newArray;
+            resize(GrowthPolicies.newCapacity(growthPolicy, array.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size, releasing the unused slots.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            resize(size);
         }
     }
 
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the number of elements the list can hold without growing
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        E[] newArray = (E[]) new Object[newCapacity];
+        System.arraycopy(array, 0, newArray, 0, size);
+        array = newArray;
+    }
+
     private void checkIndex(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index " + index + " out of bounds.");
         }
     }
 
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range " + fromIndex + " to " + toIndex + " out of bounds.");
+        }
+    }
+
     @Override
     public MyArrayList<E> clone() {
         try {
@@ -212,4 +383,46 @@ public class MyArrayList<E> implements ListADT<E>, Cloneable {
             throw new RuntimeException("Clone not supported", e);
         }
     }
+
+    /**
+     * Writes the size followed by the live elements in order. The unused
+     * capacity of the backing array is not written.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            out.writeObject(array[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reads a list written by writeObject into a backing array of exactly
+     * the stored size.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stream holds a negative size or a null element
+     * @throws ClassNotFoundException if an element's class cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Negative size: " + size);
+        }
+        E[] elements = (E[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = (E) in.readObject();
+            if (elements[i] == null) {
+                throw new InvalidObjectException("Null element at index " + i);
+            }
+        }
+        array = elements;
+    }
 }
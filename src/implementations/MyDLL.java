@@ -2,6 +2,15 @@ package implementations;
 
 import utilities.ListADT;
 import utilities.Iterator;
+import utilities.ListIterator;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * MyDLL - A doubly linked list implementation of the ListADT interface.
@@ -17,42 +26,153 @@ import utilities.Iterator;
  *
  * Structure: head <-> node1 <-> node2 <-> ... <-> nodeN <-> tail
  *
+ * Indexed access remembers the last node it reached together with its index.
+ * The next lookup starts from whichever of head, tail or that cursor is
+ * closest, so loops that call get(i) or set(i) with i going up or down one at
+ * a time cost O(1) per call instead of O(n/2). Structural changes drop the
+ * cursor, except add(int) and remove(int), which leave it on the node at the
+ * index they touched.
+ *
+ * A list can optionally keep a bounded pool of spare nodes. Removed nodes
+ * go into the pool instead of becoming garbage, and adds take nodes from the
+ * pool before allocating, so queue-like churn (addLast/removeFirst over and
+ * over) stops allocating once the pool has warmed up.
+ *
  * @param <E> the type of elements stored in this list
  *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
  *  @version 1, July 5, 2025.
  */
 public class MyDLL<E> implements ListADT<E> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * Reference to the first node in the list
-     * null if the list is empty
+     * null if the list is empty.
+     * The chain is serialized as size plus elements by writeObject
      */
-    private MyDLLNode<E> head;
+    private transient MyDLLNode<E> head;
 
     /**
      * Reference to the last node in the list
      * null if the list is empty
      */
-    private MyDLLNode<E> tail;
+    private transient MyDLLNode<E> tail;
 
     /**
      * The current number of elements in the list
      */
     private int size;
 
+    /**
+     * Number of structural changes (adds and removes) made to this list.
+     * Iterators compare it with the value they expect and fail fast with
+     * ConcurrentModificationException if the list changed behind their back.
+     */
+    private transient int modCount;
+
+    /**
+     * Node reached by the last indexed lookup, or null if a structural
+     * change has made it unusable
+     */
+    private transient MyDLLNode<E> cursorNode;
+
+    /**
+     * Index of cursorNode
+     */
+    private transient int cursorIndex;
+
+    /**
+     * Maximum number of spare nodes kept for reuse; 0 disables pooling
+     */
+    private final int poolCapacity;
+
+    /**
+     * Spare nodes, chained through their next links
+     */
+    private transient MyDLLNode<E> freeNodes;
+
+    /**
+     * Number of spare nodes in freeNodes
+     */
+    private transient int freeCount;
+
     /**
      * Constructs an empty doubly linked list.
      */
     public MyDLL() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty doubly linked list that keeps up to poolCapacity
+     * removed nodes for reuse by later adds.
+     *
+     * @param poolCapacity the maximum number of spare nodes to keep (0 for no pooling)
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public MyDLL(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative");
+        }
+        this.poolCapacity = poolCapacity;
         head = null;
         tail = null;
         size = 0;
     }
 
+    /**
+     * Returns a node holding the given element, taken from the pool if one
+     * is available and allocated otherwise. The node is not linked.
+     *
+     * @param data the element the node will hold
+     * @return an unlinked node holding data
+     */
+    private MyDLLNode<E> obtainNode(E data) {
+        MyDLLNode<E> node = freeNodes;
+        if (node == null) {
+            return new MyDLLNode<>(data);
+        }
+        freeNodes = node.getNext();
+        freeCount--;
+        node.setNext(null);
+        node.setData(data);
+        return node;
+    }
+
+    /**
+     * Clears a node that has left the list and returns it to the pool if
+     * there is room. Its links and data are cleared either way to help
+     * garbage collection.
+     *
+     * @param node a node that is no longer linked into the list
+     */
+    private void releaseNode(MyDLLNode<E> node) {
+        node.setData(null);
+        node.setPrevious(null);
+        if (freeCount < poolCapacity) {
+            node.setNext(freeNodes);
+            freeNodes = node;
+            freeCount++;
+        } else {
+            node.setNext(null);
+        }
+    }
+
+    /**
+     * Returns the number of spare nodes currently held for reuse.
+     *
+     * @return the number of pooled nodes (always 0 when pooling is disabled)
+     */
+    public int pooledNodeCount() {
+        return freeCount;
+    }
+
     /**
      * Gets the node at the specified index.
      * This is a private helper method that optimizes traversal
-     * by starting from the end closest to the target index.
+     * by starting from whichever of the head, the tail and the cached
+     * cursor is closest to the target index, then caching the result.
      *
      * @param index the index of the node to retrieve
      * @return the node at the specified index
@@ -62,9 +182,20 @@ public class MyDLL<E> implements ListADT<E> {
         checkIndex(index);
 
         MyDLLNode<E> current;
+        int fromEnd = Math.min(index, size - 1 - index);
 
-        // Optimization: start from the end closest to the target index
-        if (index < size / 2) {
+        // Optimization: start from the cursor when it is closer than either end
+        if (cursorNode != null && Math.abs(index - cursorIndex) < fromEnd) {
+            current = cursorNode;
+            for (int i = cursorIndex; i < index; i++) {
+                current = current.getNext();
+            }
+            for (int i = cursorIndex; i > index; i--) {
+                current = current.getPrevious();
+            }
+        }
+        // Otherwise start from the end closest to the target index
+        else if (index < size / 2) {
             // Start from head and move forward
             current = head;
             for (int i = 0; i < index; i++) {
@@ -78,6 +209,8 @@ public class MyDLL<E> implements ListADT<E> {
             }
         }
 
+        cursorNode = current;
+        cursorIndex = index;
         return current;
     }
 
@@ -106,6 +239,20 @@ public class MyDLL<E> implements ListADT<E> {
         }
     }
 
+    /**
+     * Checks if the given range is valid for range operations.
+     * Valid ranges satisfy 0 <= fromIndex <= toIndex <= size.
+     *
+     * @param fromIndex low endpoint (inclusive)
+     * @param toIndex   high endpoint (exclusive)
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+    }
+
     @Override
     public int size() {
         return size;
@@ -113,19 +260,19 @@ public class MyDLL<E> implements ListADT<E> {
 
     @Override
     public void clear() {
-        // Help garbage collection by breaking all links
+        // Recycle or release every node
         MyDLLNode<E> current = head;
         while (current != null) {
             MyDLLNode<E> next = current.getNext();
-            current.setData(null);
-            current.setNext(null);
-            current.setPrevious(null);
+            releaseNode(current);
             current = next;
         }
 
         head = null;
         tail = null;
         size = 0;
+        cursorNode = null;
+        modCount++;
     }
 
     @Override
@@ -138,42 +285,44 @@ public class MyDLL<E> implements ListADT<E> {
         // Check if index is valid for adding
         checkIndexForAdd(index);
 
-        // Create new node
-        MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
+        MyDLLNode<E> added = linkBefore(toAdd, index == size ? null : getNode(index));
+        // The new node is now at index; keep the cursor there
+        cursorNode = added;
+        cursorIndex = index;
+        return true;
+    }
 
-        // Case 1: Adding to empty list
-        if (size == 0) {
-            head = newNode;
-            tail = newNode;
-        }
-        // Case 2: Adding at the beginning (index 0)
-        else if (index == 0) {
-            newNode.setNext(head);
-            head.setPrevious(newNode);
-            head = newNode;
-        }
-        // Case 3: Adding at the end (index == size)
-        else if (index == size) {
-            newNode.setPrevious(tail);
-            tail.setNext(newNode);
-            tail = newNode;
-        }
-        // Case 4: Adding in the middle
-        else {
-            MyDLLNode<E> nodeAtIndex = getNode(index);
-            MyDLLNode<E> previousNode = nodeAtIndex.getPrevious();
+    /**
+     * Links a new node holding the element in front of the given node.
+     * Only the neighbouring links change, so this is O(1).
+     * Drops the cached cursor, whose index may have shifted.
+     *
+     * @param toAdd     the element to insert
+     * @param successor the node to insert in front of, or null to append at the tail
+     * @return the new node
+     */
+    private MyDLLNode<E> linkBefore(E toAdd, MyDLLNode<E> successor) {
+        MyDLLNode<E> newNode = obtainNode(toAdd);
+        MyDLLNode<E> previousNode = successor == null ? tail : successor.getPrevious();
 
-            // Set up the new node's links
-            newNode.setNext(nodeAtIndex);
-            newNode.setPrevious(previousNode);
+        newNode.setNext(successor);
+        newNode.setPrevious(previousNode);
 
-            // Update the surrounding nodes' links
+        if (previousNode == null) {
+            head = newNode;
+        } else {
             previousNode.setNext(newNode);
-            nodeAtIndex.setPrevious(newNode);
+        }
+        if (successor == null) {
+            tail = newNode;
+        } else {
+            successor.setPrevious(newNode);
         }
 
         size++;
-        return true;
+        modCount++;
+        cursorNode = null;
+        return newNode;
     }
 
     @Override
@@ -184,22 +333,73 @@ public class MyDLL<E> implements ListADT<E> {
 
     @Override
     public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        return addAll(size, toAdd);
+    }
+
+    /**
+     * Inserts all elements of the given list at the specified index.
+     * The new elements are first linked into a detached chain, then the chain
+     * is spliced in with four link updates, so only the node at the insertion
+     * point has to be found.
+     *
+     * @param index the index at which to insert the first element
+     * @param toAdd the list whose elements are inserted
+     * @return true if this list changed
+     * @throws NullPointerException      if the list or any of its elements is null
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public boolean addAll(int index, ListADT<? extends E> toAdd)
+            throws NullPointerException, IndexOutOfBoundsException {
         if (toAdd == null) {
             throw new NullPointerException("Cannot add null list");
         }
+        checkIndexForAdd(index);
 
-        // Convert toAdd to array and add each element
+        // Snapshot first so adding a list to itself is safe
         Object[] elementsToAdd = toAdd.toArray();
-        boolean modified = false;
-
+        if (elementsToAdd.length == 0) {
+            return false;
+        }
         for (Object element : elementsToAdd) {
+            if (element == null) {
+                throw new NullPointerException("Cannot add null element to list");
+            }
+        }
+
+        // Build the detached chain
+        @SuppressWarnings("unchecked")
+        MyDLLNode<E> first = obtainNode((E) elementsToAdd[0]);
+        MyDLLNode<E> last = first;
+        for (int i = 1; i < elementsToAdd.length; i++) {
             @SuppressWarnings("unchecked")
-            E e = (E) element;
-            add(e);
-            modified = true;
+            MyDLLNode<E> node = obtainNode((E) elementsToAdd[i]);
+            node.setPrevious(last);
+            last.setNext(node);
+            last = node;
+        }
+
+        // Splice it in between the node before index and the node at index
+        MyDLLNode<E> after = index == size ? null : getNode(index);
+        MyDLLNode<E> before = after == null ? tail : after.getPrevious();
+
+        first.setPrevious(before);
+        last.setNext(after);
+        if (before == null) {
+            head = first;
+        } else {
+            before.setNext(first);
+        }
+        if (after == null) {
+            tail = last;
+        } else {
+            after.setPrevious(last);
         }
 
-        return modified;
+        size += elementsToAdd.length;
+        modCount++;
+        cursorNode = null;
+        return true;
     }
 
     @Override
@@ -210,42 +410,46 @@ public class MyDLL<E> implements ListADT<E> {
 
     @Override
     public E remove(int index) throws IndexOutOfBoundsException {
-        checkIndex(index);
-
         MyDLLNode<E> nodeToRemove = getNode(index);
-        E removedData = nodeToRemove.getData();
-
-        // Case 1: Removing the only node
-        if (size == 1) {
-            head = null;
-            tail = null;
-        }
-        // Case 2: Removing the first node
-        else if (index == 0) {
-            head = head.getNext();
-            head.setPrevious(null);
+        MyDLLNode<E> nextNode = nodeToRemove.getNext();
+        E removedData = unlink(nodeToRemove);
+        // The following node has moved down to index; keep the cursor there
+        if (nextNode != null) {
+            cursorNode = nextNode;
+            cursorIndex = index;
         }
-        // Case 3: Removing the last node
-        else if (index == size - 1) {
-            tail = tail.getPrevious();
-            tail.setNext(null);
-        }
-        // Case 4: Removing a middle node
-        else {
-            MyDLLNode<E> previousNode = nodeToRemove.getPrevious();
-            MyDLLNode<E> nextNode = nodeToRemove.getNext();
+        return removedData;
+    }
 
-            // Connect the previous and next nodes to each other
+    /**
+     * Unlinks the given node from the list. Only the neighbouring links
+     * change, so this is O(1). Drops the cached cursor, whose index may have shifted.
+     *
+     * @param nodeToRemove a node currently in this list
+     * @return the element the node held
+     */
+    private E unlink(MyDLLNode<E> nodeToRemove) {
+        E removedData = nodeToRemove.getData();
+        MyDLLNode<E> previousNode = nodeToRemove.getPrevious();
+        MyDLLNode<E> nextNode = nodeToRemove.getNext();
+
+        // Connect the previous and next nodes to each other
+        if (previousNode == null) {
+            head = nextNode;
+        } else {
             previousNode.setNext(nextNode);
+        }
+        if (nextNode == null) {
+            tail = previousNode;
+        } else {
             nextNode.setPrevious(previousNode);
         }
 
-        // Help garbage collection
-        nodeToRemove.setNext(null);
-        nodeToRemove.setPrevious(null);
-        nodeToRemove.setData(null);
+        releaseNode(nodeToRemove);
 
         size--;
+        modCount++;
+        cursorNode = null;
         return removedData;
     }
 
@@ -255,22 +459,70 @@ public class MyDLL<E> implements ListADT<E> {
             throw new NullPointerException("Cannot remove null element");
         }
 
-        // Find the element and remove it
+        // Find the element and unlink its node directly
         MyDLLNode<E> current = head;
-        int index = 0;
 
         while (current != null) {
             if (toRemove.equals(current.getData())) {
-                return remove(index);
+                return unlink(current);
             }
             current = current.getNext();
-            index++;
         }
 
         // Element not found
         return null;
     }
 
+    /**
+     * Removes the elements from fromIndex (inclusive) to toIndex (exclusive).
+     * Once the two endpoint nodes are found the whole run is unlinked with two
+     * link updates; the removed nodes are then cleared to help garbage collection.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex);
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        if (count == size) {
+            clear();
+            return;
+        }
+
+        MyDLLNode<E> first = getNode(fromIndex);
+        MyDLLNode<E> before = first.getPrevious();
+        MyDLLNode<E> after = toIndex == size ? null : getNode(toIndex);
+
+        // Unlink the run [first, after)
+        if (before == null) {
+            head = after;
+        } else {
+            before.setNext(after);
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            after.setPrevious(before);
+        }
+
+        // Recycle or release the removed nodes
+        MyDLLNode<E> current = first;
+        while (current != after) {
+            MyDLLNode<E> next = current.getNext();
+            releaseNode(current);
+            current = next;
+        }
+
+        size -= count;
+        modCount++;
+        cursorNode = null;
+    }
+
     @Override
     public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
         if (toChange == null) {
@@ -284,6 +536,66 @@ public class MyDLL<E> implements ListADT<E> {
         return oldData;
     }
 
+    /**
+     * Replaces every element with the result of the operator in one pass
+     * from head to tail.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the operator is null or returns null
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null");
+        }
+        MyDLLNode<E> current = head;
+        while (current != null) {
+            E replacement = operator.apply(current.getData());
+            if (replacement == null) {
+                throw new NullPointerException("Cannot set element to null");
+            }
+            current.setData(replacement);
+            current = current.getNext();
+        }
+    }
+
+    /**
+     * Performs the action for every element in one pass from head to tail.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null");
+        }
+        int expectedModCount = modCount;
+        MyDLLNode<E> current = head;
+        while (current != null) {
+            action.accept(current.getData());
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+            current = current.getNext();
+        }
+    }
+
+    /**
+     * Returns a view of the elements from fromIndex (inclusive) to toIndex
+     * (exclusive). Nothing is copied; reads and writes go straight to this list.
+     *
+     * @param fromIndex low endpoint (inclusive) of the view
+     * @param toIndex   high endpoint (exclusive) of the view
+     * @return a view of the range
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    @Override
+    public ListADT<E> subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
     @Override
     public boolean isEmpty() {
         return size == 0;
@@ -355,6 +667,165 @@ public class MyDLL<E> implements ListADT<E> {
         return new DLLIterator();
     }
 
+    /**
+     * Returns a bidirectional cursor positioned before the first element.
+     *
+     * @return a list iterator over this list
+     */
+    public ListIterator<E> listIterator() {
+        return new DLLListIterator(0);
+    }
+
+    /**
+     * Returns a bidirectional cursor positioned before the element at the
+     * given index, so the first call to next() returns that element.
+     * Finding the start position is O(n/2); every move, insert, remove and
+     * set after that is O(1).
+     *
+     * @param index the index of the first element to be returned by next()
+     * @return a list iterator over this list
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        checkIndexForAdd(index);
+        return new DLLListIterator(index);
+    }
+
+    /**
+     * Cursor implementation for MyDLL. The cursor sits between
+     * the node before it and the node after it; every operation only touches
+     * those nodes and the one last returned.
+     */
+    private class DLLListIterator implements ListIterator<E> {
+        /**
+         * Node after the cursor, or null if the cursor is at the end
+         */
+        private MyDLLNode<E> nextNode;
+
+        /**
+         * Node returned by the last call to next() or previous(),
+         * or null if there is none or it has been removed
+         */
+        private MyDLLNode<E> lastReturned;
+
+        /**
+         * Index of nextNode
+         */
+        private int nextIndex;
+
+        /**
+         * modCount this cursor expects; updated by its own add and remove
+         */
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates a cursor positioned before the given index.
+         *
+         * @param index the starting cursor position
+         */
+        DLLListIterator(int index) {
+            nextNode = index == size ? null : getNode(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() throws java.util.NoSuchElementException {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new java.util.NoSuchElementException("No more elements in iteration");
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() throws java.util.NoSuchElementException {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new java.util.NoSuchElementException("No previous element in iteration");
+            }
+            nextNode = nextNode == null ? tail : nextNode.getPrevious();
+            lastReturned = nextNode;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to remove");
+            }
+            checkForComodification();
+            if (lastReturned == nextNode) {
+                // removed after previous(): the cursor moves to the following node
+                nextNode = nextNode.getNext();
+            } else {
+                // removed after next(): the element was before the cursor
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E toSet) throws NullPointerException, IllegalStateException {
+            if (toSet == null) {
+                throw new NullPointerException("Cannot set element to null");
+            }
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to set");
+            }
+            checkForComodification();
+            lastReturned.setData(toSet);
+        }
+
+        @Override
+        public void add(E toAdd) throws NullPointerException {
+            if (toAdd == null) {
+                throw new NullPointerException("Cannot add null element to list");
+            }
+            checkForComodification();
+            linkBefore(toAdd, nextNode);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was structurally changed other than through this cursor.
+         *
+         * @throws java.util.ConcurrentModificationException if the list changed
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+
     /**
      * Iterator implementation for MyDLL.
      * Provides a way to traverse the list elements sequentially from head to tail.
@@ -365,6 +836,11 @@ public class MyDLL<E> implements ListADT<E> {
          */
         private MyDLLNode<E> current = head;
 
+        /**
+         * modCount when the iterator was created
+         */
+        private final int expectedModCount = modCount;
+
         @Override
         public boolean hasNext() {
             return current != null;
@@ -372,6 +848,9 @@ public class MyDLL<E> implements ListADT<E> {
 
         @Override
         public E next() throws java.util.NoSuchElementException {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
             if (!hasNext()) {
                 throw new java.util.NoSuchElementException("No more elements in iteration");
             }
@@ -446,46 +925,58 @@ public class MyDLL<E> implements ListADT<E> {
 
     /**
      * Additional utility method: Add element at the beginning of the list.
-     * This is very efficient for linked lists (O(1) operation).
+     * Links the node in front of the head directly, without an index lookup (O(1)).
      *
      * @param element the element to add at the beginning
      * @throws NullPointerException if element is null
      */
     public void addFirst(E element) throws NullPointerException {
-        add(0, element);
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element to list");
+        }
+        linkBefore(element, head);
     }
 
     /**
      * Additional utility method: Add element at the end of the list.
-     * This is very efficient for doubly linked lists (O(1) operation).
+     * Links the node after the tail directly, without an index lookup (O(1)).
      *
      * @param element the element to add at the end
      * @throws NullPointerException if element is null
      */
     public void addLast(E element) throws NullPointerException {
-        add(size, element);
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element to list");
+        }
+        linkBefore(element, null);
     }
 
     /**
      * Additional utility method: Remove and return the first element.
-     * This is very efficient for linked lists (O(1) operation).
+     * Unlinks the head directly (O(1)).
      *
      * @return the first element in the list
      * @throws IndexOutOfBoundsException if the list is empty
      */
     public E removeFirst() throws IndexOutOfBoundsException {
-        return remove(0);
+        if (head == null) {
+            throw new IndexOutOfBoundsException("Index: 0, Size: 0");
+        }
+        return unlink(head);
     }
 
     /**
      * Additional utility method: Remove and return the last element.
-     * This is very efficient for doubly linked lists (O(1) operation).
+     * Unlinks the tail directly (O(1)).
      *
      * @return the last element in the list
      * @throws IndexOutOfBoundsException if the list is empty
      */
     public E removeLast() throws IndexOutOfBoundsException {
-        return remove(size - 1);
+        if (tail == null) {
+            throw new IndexOutOfBoundsException("Index: -1, Size: 0");
+        }
+        return unlink(tail);
     }
 
     /**
@@ -495,7 +986,10 @@ public class MyDLL<E> implements ListADT<E> {
      * @throws IndexOutOfBoundsException if the list is empty
      */
     public E getFirst() throws IndexOutOfBoundsException {
-        return get(0);
+        if (head == null) {
+            throw new IndexOutOfBoundsException("Index: 0, Size: 0");
+        }
+        return head.getData();
     }
 
     /**
@@ -505,6 +999,148 @@ public class MyDLL<E> implements ListADT<E> {
      * @throws IndexOutOfBoundsException if the list is empty
      */
     public E getLast() throws IndexOutOfBoundsException {
-        return get(size - 1);
+        if (tail == null) {
+            throw new IndexOutOfBoundsException("Index: -1, Size: 0");
+        }
+        return tail.getData();
+    }
+
+    /**
+     * Deque operation: inserts the element at the front of the list (O(1)).
+     *
+     * @param element the element to add
+     * @return true always, since the list has no capacity limit
+     * @throws NullPointerException if element is null
+     */
+    public boolean offerFirst(E element) throws NullPointerException {
+        addFirst(element);
+        return true;
+    }
+
+    /**
+     * Deque operation: inserts the element at the end of the list (O(1)).
+     *
+     * @param element the element to add
+     * @return true always, since the list has no capacity limit
+     * @throws NullPointerException if element is null
+     */
+    public boolean offerLast(E element) throws NullPointerException {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Deque operation: removes and returns the first element, or returns
+     * null if the list is empty (O(1)).
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public E pollFirst() {
+        return head == null ? null : unlink(head);
+    }
+
+    /**
+     * Deque operation: removes and returns the last element, or returns
+     * null if the list is empty (O(1)).
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public E pollLast() {
+        return tail == null ? null : unlink(tail);
+    }
+
+    /**
+     * Deque operation: returns the first element without removing it, or
+     * null if the list is empty (O(1)).
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public E peekFirst() {
+        return head == null ? null : head.getData();
+    }
+
+    /**
+     * Deque operation: returns the last element without removing it, or
+     * null if the list is empty (O(1)).
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public E peekLast() {
+        return tail == null ? null : tail.getData();
+    }
+
+    /**
+     * Returns an iterator over the elements from tail to head.
+     * Fail-fast like the forward iterator.
+     *
+     * @return an iterator in reverse order
+     */
+    public Iterator<E> descendingIterator() {
+        return new Iterator<E>() {
+            private MyDLLNode<E> current = tail;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public E next() throws java.util.NoSuchElementException {
+                if (modCount != expectedModCount) {
+                    throw new java.util.ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("No more elements in iteration");
+                }
+                E data = current.getData();
+                current = current.getPrevious();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Writes the size followed by the elements from head to tail, walking
+     * the nodes in a loop. Nodes are never serialized, so a long list cannot
+     * overflow the stack the way recursive default serialization of the
+     * links would.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (MyDLLNode<E> node = head; node != null; node = node.getNext()) {
+            out.writeObject(node.getData());
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reads a list written by writeObject, linking each element at the tail.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stream holds an invalid size or a null element
+     * @throws ClassNotFoundException if an element's class cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0 || poolCapacity < 0) {
+            throw new InvalidObjectException("Invalid size or pool capacity");
+        }
+        int count = size;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            E element = (E) in.readObject();
+            if (element == null) {
+                throw new InvalidObjectException("Null element at index " + i);
+            }
+            linkBefore(element, null);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package implementations;
+
+import utilities.WaitStrategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer / multi-consumer queue backed by a ring buffer.
+ *
+ * Any number of threads may add and remove elements concurrently. Each slot
+ * carries its own sequence number which tells producers and consumers whose
+ * turn the slot is: a producer that claims position p waits for the slot's
+ * sequence to read p, fills it and publishes p + 1; the consumer of position p
+ * waits for p + 1, empties the slot and publishes p + capacity for the next lap.
+ * Positions are claimed with a compare-and-set on the padded head and tail
+ * counters, so no thread ever holds a lock.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * @param <E> the type of elements stored in this queue
+ */
+public class MyMpmcQueue<E> extends AbstractBoundedQueue<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Per-slot sequence numbers coordinating producers and consumers
+     */
+    private final transient AtomicLongArray sequences;
+
+    /**
+     * Next position to be claimed by a consumer
+     */
+    private final transient PaddedSequence head = new PaddedSequence(0);
+
+    /**
+     * Next position to be claimed by a producer
+     */
+    private final transient PaddedSequence tail = new PaddedSequence(0);
+
+    /**
+     * Constructs a queue whose waiting threads block on a lock condition.
+     *
+     * @param capacity the minimum capacity; rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public MyMpmcQueue(int capacity) {
+        this(capacity, new BlockingWaitStrategy());
+    }
+
+    /**
+     * Constructs a queue that waits using the given strategy.
+     *
+     * @param capacity     the minimum capacity; rounded up to a power of two
+     * @param waitStrategy how put() and take() wait
+     * @throws IllegalArgumentException if capacity is less than 1
+     * @throws NullPointerException     if waitStrategy is null
+     */
+    public MyMpmcQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        sequences = new AtomicLongArray(buffer.length);
+        for (int i = 0; i < buffer.length; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element at the rear if there is space.
+     *
+     * @param element element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot enqueue null element");
+        }
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // slot still holds an element from the previous lap
+            } else {
+                position = tail.get(); // another producer took this position
+            }
+        }
+        buffer[index] = element;
+        sequences.lazySet(index, position + 1);
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    /**
+     * Removes and returns the front element.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    public E poll() {
+        long position = head.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null; // slot not filled yet
+            } else {
+                position = head.get(); // another consumer took this position
+            }
+        }
+        E element = buffer[index];
+        buffer[index] = null; // Help garbage collection
+        sequences.lazySet(index, position + buffer.length);
+        waitStrategy.signalAll();
+        return element;
+    }
+
+    /**
+     * Returns the front element without removing it. Another consumer may
+     * remove it before the caller acts on the result.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    protected E peekOrNull() {
+        while (true) {
+            long position = head.get();
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                if (head.get() == position) {
+                    return null;
+                }
+                continue;
+            }
+            E element = buffer[index];
+            if (element != null && head.get() == position) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the queue at the moment of the call.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(t - h, buffer.length));
+    }
+
+    @Override
+    protected Object[] snapshot() {
+        long h = head.get();
+        long t = tail.get();
+        Object[] elements = new Object[(int) Math.max(0, Math.min(t - h, buffer.length))];
+        int count = 0;
+        for (long p = h; p < t && count < elements.length; p++) {
+            int index = (int) p & mask;
+            if (sequences.get(index) == p + 1) {
+                E element = buffer[index];
+                if (element != null) {
+                    elements[count++] = element;
+                }
+            }
+        }
+        return count == elements.length ? elements : java.util.Arrays.copyOf(elements, count);
+    }
+}
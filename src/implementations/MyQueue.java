@@ -1,9 +1,15 @@
 package implementations;
 
 import exceptions.EmptyQueueException;
+import utilities.GrowthPolicy;
 import utilities.QueueADT;
 import utilities.Iterator;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 /**
@@ -16,41 +22,51 @@ import java.util.NoSuchElementException;
  */
 public class MyQueue<E> implements QueueADT<E> {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * Default initial capacity of the queue
      */
     private static final int DEFAULT_CAPACITY = 10;
 
     /**
-     * Array to store queue elements
+     * Array to store queue elements; serialized as size plus live elements
+     * by writeObject
      */
-    private E[] queue;
+    private transient E[] queue;
 
     /**
      * Index of the front element in the queue
      */
-    private int front;
+    private transient int front;
 
     /**
      * Index where the next element will be inserted (rear + 1)
      */
-    private int rear;
+    private transient int rear;
 
     /**
      * Current number of elements in the queue
      */
     private int size;
 
+    /**
+     * Decides how far the array grows when it is full
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Number of structural changes (enqueues, dequeues and clears) made to this
+     * queue; iterators use it to detect changes made while they run
+     */
+    private transient int modCount;
+
 
     /**
      * Constructs an empty queue with default capacity.
      */
-    @SuppressWarnings("unchecked")
     public MyQueue() {
-        queue = (E[]) new Object[DEFAULT_CAPACITY];
-        front = 0;
-        rear = 0;
-        size = 0;
+        this(DEFAULT_CAPACITY, GrowthPolicies.doubling());
     }
 
     /**
@@ -59,15 +75,31 @@ public class MyQueue<E> implements QueueADT<E> {
      * @param initialCapacity the initial capacity of the queue
      * @throws IllegalArgumentException if initialCapacity is less than 1
      */
-    @SuppressWarnings("unchecked")
     public MyQueue(int initialCapacity) {
+        this(initialCapacity, GrowthPolicies.doubling());
+    }
+
+    /**
+     * Constructs an empty queue with specified initial capacity and growth policy.
+     *
+     * @param initialCapacity the initial capacity of the queue
+     * @param growthPolicy    decides how far the queue grows when it is full
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    @SuppressWarnings("unchecked")
+    public MyQueue(int initialCapacity, GrowthPolicy growthPolicy) {
         if (initialCapacity < 1) {
             throw new IllegalArgumentException("Initial capacity must be at least 1");
         }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null");
+        }
         queue = (E[]) new Object[initialCapacity];
         front = 0;
         rear = 0;
         size = 0;
+        this.growthPolicy = growthPolicy;
     }
 
     /**
@@ -83,13 +115,12 @@ public class MyQueue<E> implements QueueADT<E> {
             throw new NullPointerException("Cannot enqueue null element");
         }
 
-        if (size == queue.length) {
-            resize();
-        }
+        ensureCapacity(size + 1);
 
         queue[rear] = element;
         rear = (rear + 1) % queue.length;
         size++;
+        modCount++;
     }
 
     /**
@@ -108,6 +139,7 @@ public class MyQueue<E> implements QueueADT<E> {
         queue[front] = null; // Help garbage collection
         front = (front + 1) % queue.length;
         size--;
+        modCount++;
 
         return element;
     }
@@ -182,6 +214,7 @@ public class MyQueue<E> implements QueueADT<E> {
         front = 0;
         rear = 0;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -258,6 +291,7 @@ public class MyQueue<E> implements QueueADT<E> {
     private class QueueIterator implements Iterator<E> {
         private int current = front;
         private int remaining = size;
+        private final int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
@@ -266,6 +300,9 @@ public class MyQueue<E> implements QueueADT<E> {
 
         @Override
         public E next() throws NoSuchElementException {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
             if (!hasNext()) {
                 throw new NoSuchElementException("No more elements in queue");
             }
@@ -296,12 +333,46 @@ public class MyQueue<E> implements QueueADT<E> {
     }
 
     /**
-     * Resizes the internal array when full.
-     * Doubles the capacity and rearranges elements starting at index 0.
+     * Grows the internal array, as the growth policy decides, if it cannot
+     * hold minCapacity elements.
+     *
+     * @param minCapacity the number of elements the queue must be able to hold
+     * @throws IllegalStateException if the growth policy does not allow that capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > queue.length) {
+            resize(GrowthPolicies.newCapacity(growthPolicy, queue.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the internal array to the current size (at least one slot),
+     * releasing the unused slots.
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(size, 1);
+        if (newCapacity < queue.length) {
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Returns the length of the internal array.
+     *
+     * @return the number of elements the queue can hold without growing
+     */
+    public int capacity() {
+        return queue.length;
+    }
+
+    /**
+     * Moves the elements into a new array of the given capacity,
+     * rearranging them to start at index 0.
+     *
+     * @param newCapacity the new array length (at least size, at least 1)
      */
     @SuppressWarnings("unchecked")
-    private void resize() {
-        int newCapacity = queue.length * 2;
+    private void resize(int newCapacity) {
         E[] newQueue = (E[]) new Object[newCapacity];
 
         for (int i = 0; i < size; i++) {
@@ -310,7 +381,7 @@ public class MyQueue<E> implements QueueADT<E> {
 
         queue = newQueue;
         front = 0;
-        rear = size;
+        rear = size % newCapacity;
     }
 
     /**
@@ -363,6 +434,47 @@ public class MyQueue<E> implements QueueADT<E> {
         return -1;
     }
 
+    /**
+     * Writes the size followed by the live elements from front to rear. The
+     * unused capacity of the array is not written.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            out.writeObject(queue[(front + i) % queue.length]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
 
-
+    /**
+     * Reads a queue written by writeObject into an array of exactly the
+     * stored size (at least one slot), with the front at index 0.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stream holds a negative size or a null element
+     * @throws ClassNotFoundException if an element's class cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Negative size: " + size);
+        }
+        E[] elements = (E[]) new Object[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            elements[i] = (E) in.readObject();
+            if (elements[i] == null) {
+                throw new InvalidObjectException("Null element at position " + i);
+            }
+        }
+        queue = elements;
+        front = 0;
+        rear = size % elements.length;
+    }
 }
@@ -0,0 +1,550 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import utilities.QueueADT;
+import utilities.Iterator;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Ring-buffer implementation of the Queue Abstract Data Type (ADT).
+ * The capacity is always a power of two, so positions wrap with a bitmask
+ * instead of the modulo used by MyQueue. The live elements occupy at most
+ * two contiguous segments of the array (front to the end of the array, then
+ * the start of the array), which lets resizing, bulk transfers and scans
+ * work segment by segment with System.arraycopy.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * @param <E> the type of elements stored in this queue
+ */
+public class MyRingQueue<E> implements QueueADT<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default initial capacity of the queue (a power of two)
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Largest power-of-two capacity an array can have
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Array to store queue elements; its length is always a power of two.
+     * Serialized as size plus live elements by writeObject
+     */
+    private transient E[] queue;
+
+    /**
+     * queue.length - 1, used to wrap positions
+     */
+    private transient int mask;
+
+    /**
+     * Index of the front element in the queue
+     */
+    private transient int front;
+
+    /**
+     * Current number of elements in the queue
+     */
+    private int size;
+
+    /**
+     * Number of structural changes made to this queue; iterators use it to
+     * detect changes made while they run
+     */
+    private transient int modCount;
+
+    /**
+     * Constructs an empty queue with default capacity.
+     */
+    public MyRingQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue able to hold at least the given number of
+     * elements before resizing. The capacity is rounded up to a power of two.
+     *
+     * @param initialCapacity the minimum initial capacity of the queue
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    public MyRingQueue(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be at least 1");
+        }
+        queue = (E[]) new Object[powerOfTwoAtLeast(initialCapacity)];
+        mask = queue.length - 1;
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds an element to the rear (back) of the queue.
+     * Resizes array if necessary.
+     *
+     * @param element element to add
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void enqueue(E element) throws NullPointerException {
+        if (element == null) {
+            throw new NullPointerException("Cannot enqueue null element");
+        }
+        if (size == queue.length) {
+            resize(size + 1);
+        }
+        queue[(front + size) & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of the array to the rear of the queue, in array order.
+     * The queue grows at most once and the elements are copied in at most two blocks.
+     * Either every element is added or, if any element is null, none are.
+     *
+     * @param elements the elements to add
+     * @throws NullPointerException if the array or any of its elements is null
+     */
+    public void enqueueAll(E[] elements) throws NullPointerException {
+        if (elements == null) {
+            throw new NullPointerException("Cannot enqueue from null array");
+        }
+        for (E element : elements) {
+            if (element == null) {
+                throw new NullPointerException("Cannot enqueue null element");
+            }
+        }
+        int count = elements.length;
+        if (count == 0) {
+            return;
+        }
+        if (size + count > queue.length) {
+            resize(size + count);
+        }
+
+        int rear = (front + size) & mask;
+        int firstPart = Math.min(count, queue.length - rear);
+        System.arraycopy(elements, 0, queue, rear, firstPart);
+        System.arraycopy(elements, firstPart, queue, 0, count - firstPart);
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if queue is empty
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        if (size == 0) {
+            throw new EmptyQueueException("Cannot dequeue from empty queue");
+        }
+        E element = queue[front];
+        queue[front] = null; // Help garbage collection
+        front = (front + 1) & mask;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and stores them
+     * in the target array starting at index 0, front element first.
+     * The elements are copied out in at most two blocks.
+     *
+     * @param target the array to receive the elements
+     * @param max    the maximum number of elements to remove
+     * @return the number of elements removed (0 if the queue is empty)
+     * @throws NullPointerException     if the target array is null
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int drainTo(E[] target, int max) {
+        if (target == null) {
+            throw new NullPointerException("Target array cannot be null");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("Maximum must not be negative");
+        }
+        int count = Math.min(size, Math.min(max, target.length));
+        if (count == 0) {
+            return 0;
+        }
+
+        int firstPart = Math.min(count, queue.length - front);
+        System.arraycopy(queue, front, target, 0, firstPart);
+        System.arraycopy(queue, 0, target, firstPart, count - firstPart);
+        Arrays.fill(queue, front, front + firstPart, null);
+        Arrays.fill(queue, 0, count - firstPart, null);
+
+        front = (front + count) & mask;
+        size -= count;
+        modCount++;
+        return count;
+    }
+
+    /**
+     * Compares this queue to another QueueADT for equality.
+     * Two queues are equal if they contain the same elements in the same order.
+     *
+     * @param that the QueueADT to compare to
+     * @return true if equal, false otherwise
+     */
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (this == that) return true;
+        if (that == null || this.size() != that.size()) return false;
+
+        Iterator<E> thisIter = this.iterator();
+        Iterator<E> thatIter = that.iterator();
+
+        while (thisIter.hasNext() && thatIter.hasNext()) {
+            E e1 = thisIter.next();
+            E e2 = thatIter.next();
+            if (e1 == null ? e2 != null : !e1.equals(e2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the element at the front without removing it.
+     *
+     * @return the front element
+     * @throws EmptyQueueException if queue is empty
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        if (size == 0) {
+            throw new EmptyQueueException("Cannot peek at empty queue");
+        }
+        return queue[front];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the current capacity of the backing array (always a power of two).
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return queue.length;
+    }
+
+    /**
+     * Grows the backing array to the next power of two that can hold
+     * minCapacity elements, if it cannot already.
+     *
+     * @param minCapacity the number of elements the queue must be able to hold
+     * @throws IllegalStateException if the capacity would exceed the largest array size
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > queue.length) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the smallest power of two that holds the
+     * current elements (at least one slot), releasing the unused slots.
+     */
+    public void trimToSize() {
+        if (powerOfTwoAtLeast(Math.max(size, 1)) < queue.length) {
+            resize(Math.max(size, 1));
+        }
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Only the occupied segments are cleared.
+     */
+    public void clear() {
+        int firstPart = Math.min(size, queue.length - front);
+        Arrays.fill(queue, front, front + firstPart, null);
+        Arrays.fill(queue, 0, size - firstPart, null);
+        front = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Same as clear().
+     */
+    @Override
+    public void dequeueAll() {
+        clear();
+    }
+
+    /**
+     * Returns an array containing all elements in the queue.
+     * The front element is at index 0 of the array.
+     *
+     * @return array of queue elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        copyTo(result);
+        return result;
+    }
+
+    /**
+     * Converts the queue to an array of the same runtime type as the specified array.
+     * The front element is at index 0.
+     *
+     * @param holder the array into which the elements of the queue are to be stored,
+     *               if it is big enough; otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing the elements of the queue
+     * @throws NullPointerException if the holder array is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E[] toArray(E[] holder) {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null");
+        }
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder);
+        if (holder.length > size) {
+            holder[size] = null; // null-terminate if bigger than needed
+        }
+        return holder;
+    }
+
+    /**
+     * Copies the elements, front first, into the start of the destination array.
+     *
+     * @param destination an array with room for at least size elements
+     */
+    private void copyTo(Object[] destination) {
+        int firstPart = Math.min(size, queue.length - front);
+        System.arraycopy(queue, front, destination, 0, firstPart);
+        System.arraycopy(queue, 0, destination, firstPart, size - firstPart);
+    }
+
+    /**
+     * Returns a custom iterator over this queue.
+     * Traverses elements from front to rear.
+     *
+     * @return an iterator for this queue
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new RingQueueIterator();
+    }
+
+    /**
+     * Custom iterator implementation for MyRingQueue.
+     * Walks the first segment and then jumps to the start of the array
+     * for the second, so no wrap-around arithmetic is needed per element.
+     */
+    private class RingQueueIterator implements Iterator<E> {
+        private int current = front;
+        private int remaining = size;
+        private int segmentEnd = Math.min(front + size, queue.length);
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining <= 0) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            if (current == segmentEnd) {
+                current = 0;
+                segmentEnd = remaining;
+            }
+            remaining--;
+            return queue[current++];
+        }
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Elements are listed from front to rear.
+     *
+     * @return string representation of queue
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder("[");
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Grows the backing array to the next power of two that can hold
+     * minCapacity elements, moving the two live segments with System.arraycopy
+     * so that the front ends up at index 0.
+     *
+     * @param minCapacity the number of elements the queue must be able to hold
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int minCapacity) {
+        E[] newQueue = (E[]) new Object[powerOfTwoAtLeast(minCapacity)];
+        copyTo(newQueue);
+        queue = newQueue;
+        mask = newQueue.length - 1;
+        front = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that is greater than or equal to the value.
+     *
+     * @param value the minimum capacity
+     * @return a power-of-two capacity
+     * @throws IllegalStateException if the capacity would exceed the largest array size
+     */
+    private static int powerOfTwoAtLeast(int value) {
+        if (value > MAX_CAPACITY || value < 0) {
+            throw new IllegalStateException("Queue capacity exceeded");
+        }
+        int capacity = Integer.highestOneBit(value);
+        return capacity == value ? capacity : capacity << 1;
+    }
+
+    /**
+     * Returns true if the queue is full.
+     * Since this queue resizes dynamically, this always returns false.
+     *
+     * @return false always
+     */
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    /**
+     * Returns true if the queue contains the specified element.
+     * Uses equals() to check for equality.
+     *
+     * @param target the element to search for
+     * @return true if the element is found, false otherwise
+     */
+    @Override
+    public boolean contains(E target) {
+        return search(target) != -1;
+    }
+
+    /**
+     * Returns the 1-based position of the element in the queue starting from front.
+     * Returns -1 if the element is not found. Each live segment is scanned
+     * as a plain array range.
+     *
+     * @param target the element to search for
+     * @return position from front (1-based), or -1 if not found
+     */
+    @Override
+    public int search(E target) {
+        if (target == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        int firstPart = Math.min(size, queue.length - front);
+        for (int i = 0; i < firstPart; i++) {
+            if (target.equals(queue[front + i])) {
+                return i + 1;
+            }
+        }
+        for (int i = 0, secondPart = size - firstPart; i < secondPart; i++) {
+            if (target.equals(queue[i])) {
+                return firstPart + i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the size followed by the live elements from front to rear. The
+     * unused capacity of the backing array is not written.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            out.writeObject(queue[(front + i) & mask]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reads a queue written by writeObject into the smallest power-of-two
+     * array that holds it, with the front at index 0.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stream holds an invalid size or a null element
+     * @throws ClassNotFoundException if an element's class cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0 || size > MAX_CAPACITY) {
+            throw new InvalidObjectException("Invalid size: " + size);
+        }
+        E[] elements = (E[]) new Object[powerOfTwoAtLeast(Math.max(size, 1))];
+        for (int i = 0; i < size; i++) {
+            elements[i] = (E) in.readObject();
+            if (elements[i] == null) {
+                throw new InvalidObjectException("Null element at position " + i);
+            }
+        }
+        queue = elements;
+        mask = elements.length - 1;
+        front = 0;
+    }
+}
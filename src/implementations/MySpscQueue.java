@@ -0,0 +1,161 @@
+package implementations;
+
+import utilities.WaitStrategy;
+
+/**
+ * Bounded single-producer / single-consumer queue backed by a ring buffer.
+ *
+ * Exactly one thread may add elements and exactly one (possibly different)
+ * thread may remove them. Under that rule offer() and poll() are wait-free:
+ * each finishes in a fixed number of steps without locks or retry loops.
+ * The producer owns the tail counter and the consumer owns the head counter;
+ * each publishes its progress with a volatile store and only reads the other's
+ * counter when its cached copy says the queue looks full (or empty). The
+ * store must be volatile rather than release: the wait strategy reads its
+ * waiter count right after it, and only a full store-load ordering
+ * guarantees that a thread about to sleep sees the new counter value.
+ *
+ * The head and tail counters are padded so the two threads do not invalidate
+ * each other's cache line on every operation.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * @param <E> the type of elements stored in this queue
+ */
+public class MySpscQueue<E> extends AbstractBoundedQueue<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sequence number of the next element to remove (written by the consumer only)
+     */
+    private final transient PaddedSequence head = new PaddedSequence(0);
+
+    /**
+     * Sequence number of the next slot to fill (written by the producer only)
+     */
+    private final transient PaddedSequence tail = new PaddedSequence(0);
+
+    /**
+     * Producer's last seen value of head
+     */
+    private transient long headCache;
+
+    /**
+     * Consumer's last seen value of tail
+     */
+    private transient long tailCache;
+
+    /**
+     * Constructs a queue whose producer and consumer spin, then park, while waiting.
+     *
+     * @param capacity the minimum capacity; rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public MySpscQueue(int capacity) {
+        this(capacity, new SpinThenParkWaitStrategy());
+    }
+
+    /**
+     * Constructs a queue that waits using the given strategy.
+     *
+     * @param capacity     the minimum capacity; rounded up to a power of two
+     * @param waitStrategy how put() and take() wait
+     * @throws IllegalArgumentException if capacity is less than 1
+     * @throws NullPointerException     if waitStrategy is null
+     */
+    public MySpscQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    /**
+     * Adds an element at the rear if there is space. Producer thread only.
+     *
+     * @param element element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot enqueue null element");
+        }
+        long t = tail.get();
+        if (t - headCache >= buffer.length) {
+            headCache = head.get();
+            if (t - headCache >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = element;
+        tail.set(t + 1);
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    /**
+     * Removes and returns the front element. Consumer thread only.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    public E poll() {
+        long h = head.get();
+        if (h >= tailCache) {
+            tailCache = tail.get();
+            if (h >= tailCache) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        E element = buffer[index];
+        buffer[index] = null; // Help garbage collection
+        head.set(h + 1);
+        waitStrategy.signalAll();
+        return element;
+    }
+
+    /**
+     * Returns the front element without removing it. Consumer thread only.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    protected E peekOrNull() {
+        long h = head.get();
+        if (h >= tailCache) {
+            tailCache = tail.get();
+            if (h >= tailCache) {
+                return null;
+            }
+        }
+        return buffer[(int) h & mask];
+    }
+
+    /**
+     * Returns the number of elements in the queue at the moment of the call.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(t - h, buffer.length));
+    }
+
+    @Override
+    protected Object[] snapshot() {
+        long h = head.get();
+        long t = tail.get();
+        Object[] elements = new Object[(int) Math.max(0, Math.min(t - h, buffer.length))];
+        int count = 0;
+        for (long s = h; s < t && count < elements.length; s++) {
+            E element = buffer[(int) s & mask];
+            if (element != null) {
+                elements[count++] = element;
+            }
+        }
+        return count == elements.length ? elements : java.util.Arrays.copyOf(elements, count);
+    }
+}
@@ -1,29 +1,90 @@
 package implementations;
 
 import exceptions.EmptyStackException;
+import utilities.GrowthPolicy;
 import utilities.Iterator;
 import utilities.StackADT;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ConcurrentModificationException;
 
 /**
- * ArrayList-based implementation of the Stack Abstract Data Type (ADT).
- * Uses a dynamic array (MyArrayList) to store elements.
+ * Array-based implementation of the Stack Abstract Data Type (ADT).
+ * Elements live in a contiguous array with the bottom of the stack at index 0;
+ * the top is the last occupied slot, so push, pop and peek touch one slot
+ * directly. The array grows as its GrowthPolicy decides (doubling by default)
+ * and halves when it drops below a quarter full, never below its initial
+ * capacity, so a stack that was once deep does not hold on to its peak memory.
  *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
  *  @version 1, July 5, 2025.
  * @param <E> the type of elements held in this stack
  */
 public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
 
-    // Internal storage for stack elements
-    private MyArrayList<E> list;
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default initial capacity
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // Internal storage for stack elements, bottom at index 0;
+    // serialized as size plus live elements by writeObject
+    private transient E[] stack;
+
+    // Number of elements; the top element is at stack[size - 1]
+    private int size;
+
+    // Capacity the stack was created with; automatic shrinking stops here
+    private final int initialCapacity;
+
+    // Decides how far the array grows when it is full
+    private final GrowthPolicy growthPolicy;
+
+    // Number of pushes and pops so far; iterators use it to detect changes made while they run
+    private transient int modCount;
 
     /**
      * Creates an empty stack using a dynamic array.
      */
     public MyStack() {
+        this(DEFAULT_CAPACITY, GrowthPolicies.doubling());
+    }
 
-        list = new MyArrayList<>();
+    /**
+     * Creates an empty stack with the given initial capacity that doubles when full.
+     *
+     * @param initialCapacity the initial capacity of the stack
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     */
+    public MyStack(int initialCapacity) {
+        this(initialCapacity, GrowthPolicies.doubling());
+    }
+
+    /**
+     * Creates an empty stack with the given initial capacity and growth policy.
+     *
+     * @param initialCapacity the initial capacity of the stack
+     * @param growthPolicy    decides how far the stack grows when it is full
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    @SuppressWarnings("unchecked")
+    public MyStack(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be at least 1");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("Growth policy cannot be null");
+        }
+        stack = (E[]) new Object[initialCapacity];
+        size = 0;
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
     }
 
     /**
@@ -37,9 +98,33 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
         if (element == null) {
             throw new NullPointerException("Cannot push null element");
         }
-        list.add(element);
+        ensureCapacity(size + 1);
+        stack[size++] = element;
+        modCount++;
     }
 
+    /**
+     * Pushes all elements of the array in array order, so the last element
+     * ends up on top. The stack grows at most once and the elements are copied
+     * in one block. Either every element is pushed or, if any is null, none are.
+     *
+     * @param elements elements to push
+     * @throws NullPointerException if the array or any of its elements is null
+     */
+    public void pushAll(E[] elements) throws NullPointerException {
+        if (elements == null) {
+            throw new NullPointerException("Cannot push from null array");
+        }
+        for (E element : elements) {
+            if (element == null) {
+                throw new NullPointerException("Cannot push null element");
+            }
+        }
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, stack, size, elements.length);
+        size += elements.length;
+        modCount++;
+    }
 
     /**
      * Removes and returns the top element of the stack.
@@ -49,10 +134,44 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
      */
     @Override
     public E pop() {
-        if (isEmpty()) {
+        if (size == 0) {
             throw new EmptyStackException();
         }
-        return list.remove(list.size() - 1);
+        E element = stack[--size];
+        stack[size] = null; // Help garbage collection
+        modCount++;
+        shrinkIfSparse();
+        return element;
+    }
+
+    /**
+     * Pops up to n elements into the target array, top element first, in a
+     * single pass with one bounds check. Stops early if the stack or the
+     * target array runs out.
+     *
+     * @param target the array to receive the popped elements
+     * @param n      the maximum number of elements to pop
+     * @return the number of elements popped
+     * @throws NullPointerException     if the target array is null
+     * @throws IllegalArgumentException if n is negative
+     */
+    public int popN(E[] target, int n) {
+        if (target == null) {
+            throw new NullPointerException("Target array cannot be null");
+        }
+        if (n < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        int count = Math.min(size, Math.min(n, target.length));
+        int newSize = size - count;
+        for (int i = 0; i < count; i++) {
+            target[i] = stack[size - 1 - i];
+        }
+        java.util.Arrays.fill(stack, newSize, size, null);
+        size = newSize;
+        modCount++;
+        shrinkIfSparse();
+        return count;
     }
 
     /**
@@ -63,10 +182,10 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
      */
     @Override
     public E peek() {
-        if (isEmpty()) {
+        if (size == 0) {
             throw new EmptyStackException();
         }
-        return list.get(list.size() - 1);
+        return stack[size - 1];
     }
 
     /**
@@ -76,7 +195,7 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
      */
     @Override
     public boolean isEmpty() {
-        return list.size() == 0;
+        return size == 0;
     }
 
     /**
@@ -86,7 +205,16 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
      */
     @Override
     public int size() {
-        return list.size();
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return current capacity
+     */
+    public int capacity() {
+        return stack.length;
     }
 
     /**
@@ -94,7 +222,9 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
      */
     @Override
     public void clear() {
-        list.clear();
+        java.util.Arrays.fill(stack, 0, size, null);
+        size = 0;
+        modCount++;
     }
 
     /**
@@ -109,18 +239,26 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
         if (element == null) {
             throw new NullPointerException("Cannot check contains for null");
         }
-        return list.contains(element);
+        for (int i = size - 1; i >= 0; i--) {
+            if (element.equals(stack[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Returns an iterator over the elements from top to bottom.
+     * The iterator is fail-fast: if the stack is pushed or popped after the
+     * iterator was created, next() throws ConcurrentModificationException.
      *
      * @return iterator
      */
     public Iterator<E> iterator() {
-        // Return a custom iterator that iterates backwards over list (top first)
+        // Walk the array backwards (top first)
         return new Iterator<E>() {
-            private int current = list.size() - 1;
+            private int current = size - 1;
+            private final int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
@@ -129,10 +267,13 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
 
             @Override
             public E next() {
-                if (!hasNext()) {
+                if (modCount != expectedModCount) {
+                    throw new java.util.ConcurrentModificationException();
+                }
+                if (current < 0) {
                     throw new java.util.NoSuchElementException();
                 }
-                return list.get(current--);
+                return stack[current--];
             }
         };
     }
@@ -143,9 +284,9 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
      * @return array of elements
      */
     public Object[] toArray() {
-        Object[] arr = new Object[size()];
-        for (int i = 0; i < size(); i++) {
-            arr[i] = list.get(size() - 1 - i);
+        Object[] arr = new Object[size];
+        for (int i = 0, j = size - 1; j >= 0; i++, j--) {
+            arr[i] = stack[j];
         }
         return arr;
     }
@@ -165,13 +306,12 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
             throw new NullPointerException("Array is null");
         }
 
-        int size = size();
         if (a.length < size) {
             a = (E[]) java.lang.reflect.Array.newInstance(
                     a.getClass().getComponentType(), size);
         }
-        for (int i = 0; i < size; i++) {
-            a[i] = list.get(size - 1 - i);
+        for (int i = 0, j = size - 1; j >= 0; i++, j--) {
+            a[i] = stack[j];
         }
         if (a.length > size) {
             a[size] = null; // null-terminate if array larger than needed
@@ -190,10 +330,10 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
         if (element == null) {
             return -1;
         }
-        // Search from top (end of list) to bottom (start)
-        for (int i = list.size() - 1, pos = 1; i >= 0; i--, pos++) {
-            if (element.equals(list.get(i))) {
-                return pos;
+        // Search from top (end of array) to bottom (start)
+        for (int i = size - 1; i >= 0; i--) {
+            if (element.equals(stack[i])) {
+                return size - i;
             }
         }
         return -1;
@@ -234,9 +374,9 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
         if (isEmpty()) return "[]";
 
         StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < size(); i++) {
-            sb.append(list.get(i));
-            if (i < size() - 1) sb.append(", ");
+        for (int i = 0; i < size; i++) {
+            sb.append(stack[i]);
+            if (i < size - 1) sb.append(", ");
         }
         sb.append("]");
         return sb.toString();
@@ -252,8 +392,8 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
         try {
             // shallow copy of MyStack
             MyStack<E> copy = (MyStack<E>) super.clone();
-            // clone the internal list as well for deep copy
-            copy.list = this.list.clone();
+            // copy the internal array as well for deep copy
+            copy.stack = java.util.Arrays.copyOf(stack, stack.length);
             return copy;
         } catch (CloneNotSupportedException e) {
             // Should never happen because we implement Cloneable
@@ -270,4 +410,87 @@ public class MyStack<E> implements StackADT<E>, Cloneable, Serializable {
         return false;
     }
 
+    /**
+     * Grows the backing array, as the growth policy decides, if it cannot
+     * hold minCapacity elements.
+     *
+     * @param minCapacity the number of elements the stack must be able to hold
+     * @throws IllegalStateException if the growth policy does not allow that capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > stack.length) {
+            resize(GrowthPolicies.newCapacity(growthPolicy, stack.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size, releasing the unused slots.
+     */
+    public void trimToSize() {
+        if (size < stack.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Halves the backing array once the stack has dropped below a quarter of it,
+     * never going below the initial capacity. Leaving a gap between the grow and
+     * shrink points stops push/pop at the boundary from resizing back and forth.
+     */
+    private void shrinkIfSparse() {
+        if (stack.length > initialCapacity && size < stack.length / 4) {
+            resize(Math.max(initialCapacity, stack.length / 2));
+        }
+    }
+
+    /**
+     * Moves the elements into a new backing array of the given capacity.
+     *
+     * @param newCapacity the new array length (at least size)
+     */
+    private void resize(int newCapacity) {
+        stack = java.util.Arrays.copyOf(stack, newCapacity);
+    }
+
+    /**
+     * Writes the size followed by the live elements from bottom to top. The
+     * unused capacity of the backing array is not written.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            out.writeObject(stack[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reads a stack written by writeObject into a backing array of exactly
+     * the stored size.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stream holds a negative size or a null element
+     * @throws ClassNotFoundException if an element's class cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Negative size: " + size);
+        }
+        E[] elements = (E[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = (E) in.readObject();
+            if (elements[i] == null) {
+                throw new InvalidObjectException("Null element at position " + i);
+            }
+        }
+        stack = elements;
+    }
 }
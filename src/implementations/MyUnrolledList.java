@@ -0,0 +1,890 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * MyUnrolledList - An unrolled linked list implementation of the ListADT interface.
+ * Like MyDLL it is a doubly linked chain of nodes, but every node holds a small
+ * array of elements (64 by default) instead of a single element.
+ *
+ * Key Features:
+ * - Far fewer nodes than MyDLL, so far fewer pointer hops and cache misses
+ * - Elements inside a node are contiguous, so scans run over plain arrays
+ * - Inserting or removing only shifts the elements of one node, never the whole list
+ * - O(1) amortized add/remove at the head and tail
+ *
+ * Memory: with compressed references a MyDLLNode costs 24 bytes per element
+ * on top of the element itself. A full node here costs about 304 bytes for 64
+ * elements (node object plus its array), under 5 bytes per element; nodes
+ * that were split are at least half full, so about 10 bytes per element at worst.
+ * MyArrayList costs 4 to 8 bytes per element depending on spare capacity.
+ *
+ * Nodes are split in half when an insert hits a full node, except at the very
+ * head or tail where a new node is started instead so that appends leave full
+ * nodes behind. A node that drops below a quarter full is merged with its
+ * successor when the two fit in one node, and an empty node is unlinked.
+ *
+ * Indexed lookups skip whole nodes using their counts and remember the last
+ * node they reached, so sequential get(i) and set(i) are O(1) per call.
+ *
+ * Structure: head <-> [e0..e63] <-> [e64..e127] <-> ... <-> tail
+ *
+ * @param <E> the type of elements stored in this list
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ */
+public class MyUnrolledList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default number of elements each node can hold
+     */
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    /**
+     * Number of elements each node can hold
+     */
+    private final int nodeCapacity;
+
+    /**
+     * Reference to the first node in the list, null if the list is empty.
+     * The chain is serialized as size plus elements by writeObject
+     */
+    private transient Node<E> head;
+
+    /**
+     * Reference to the last node in the list, null if the list is empty
+     */
+    private transient Node<E> tail;
+
+    /**
+     * The current number of elements in the list
+     */
+    private int size;
+
+    /**
+     * Number of structural changes (adds and removes) made to this list;
+     * iterators use it to detect changes made while they run
+     */
+    private transient int modCount;
+
+    /**
+     * Node reached by the last indexed lookup, or null if a structural
+     * change has made it unusable
+     */
+    private transient Node<E> cursorNode;
+
+    /**
+     * Index of the first element of cursorNode
+     */
+    private transient int cursorBase;
+
+    /**
+     * Constructs an empty list with 64 elements per node.
+     */
+    public MyUnrolledList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given number of elements per node.
+     * Values between 32 and 128 suit most workloads.
+     *
+     * @param nodeCapacity the number of elements each node can hold
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public MyUnrolledList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Finds the node holding the element at the given index and caches it,
+     * together with the index of its first element, in cursorNode and
+     * cursorBase. The walk starts from whichever of the head, the tail and
+     * the cached node is closest and skips whole nodes at a time.
+     *
+     * @param index a valid element index
+     * @return the node holding that element; index - cursorBase is its offset
+     */
+    private Node<E> nodeFor(int index) {
+        Node<E> node;
+        int base;
+        if (cursorNode != null && Math.abs(index - cursorBase) < Math.min(index, size - index)) {
+            node = cursorNode;
+            base = cursorBase;
+        } else if (index < size / 2) {
+            node = head;
+            base = 0;
+        } else {
+            node = tail;
+            base = size - tail.count;
+        }
+        while (index >= base + node.count) {
+            base += node.count;
+            node = node.next;
+        }
+        while (index < base) {
+            node = node.prev;
+            base -= node.count;
+        }
+        cursorNode = node;
+        cursorBase = base;
+        return node;
+    }
+
+    /**
+     * Checks if the given index is valid for accessing elements.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Checks if the given index is valid for adding elements.
+     * Valid range is 0 to size (inclusive).
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Checks if the given range is valid for range operations.
+     *
+     * @param fromIndex low endpoint (inclusive)
+     * @param toIndex   high endpoint (exclusive)
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Links a new empty node after the given node.
+     *
+     * @param before the node to link after, or null to link at the head
+     * @return the new node
+     */
+    private Node<E> linkAfter(Node<E> before) {
+        Node<E> node = new Node<>(nodeCapacity);
+        Node<E> after = before == null ? head : before.next;
+        node.prev = before;
+        node.next = after;
+        if (before == null) {
+            head = node;
+        } else {
+            before.next = node;
+        }
+        if (after == null) {
+            tail = node;
+        } else {
+            after.prev = node;
+        }
+        return node;
+    }
+
+    /**
+     * Unlinks a node from the chain.
+     *
+     * @param node a node currently in the chain
+     */
+    private void unlinkNode(Node<E> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.next = null;
+        node.prev = null;
+    }
+
+    /**
+     * Moves the elements of node from offset onwards into a new node linked
+     * right after it.
+     *
+     * @param node   the node to split
+     * @param offset the first offset moved to the new node
+     * @return the new node
+     */
+    private Node<E> splitAt(Node<E> node, int offset) {
+        Node<E> second = linkAfter(node);
+        int moved = node.count - offset;
+        System.arraycopy(node.items, offset, second.items, 0, moved);
+        java.util.Arrays.fill(node.items, offset, node.count, null);
+        second.count = moved;
+        node.count = offset;
+        return second;
+    }
+
+    /**
+     * Inserts an element at the given offset of a node, splitting the node
+     * first if it is full.
+     *
+     * @param node   the node to insert into
+     * @param offset the offset within the node (0 to node.count)
+     * @param toAdd  the element to insert
+     */
+    private void insertAt(Node<E> node, int offset, E toAdd) {
+        if (node.count == nodeCapacity) {
+            int half = nodeCapacity / 2;
+            Node<E> second = splitAt(node, half);
+            if (offset > half) {
+                node = second;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = toAdd;
+        node.count++;
+        size++;
+        modCount++;
+        cursorNode = null;
+    }
+
+    /**
+     * Removes the element at the given offset of a node. An emptied node is
+     * unlinked; a node left under a quarter full absorbs its successor if
+     * both fit in one node.
+     *
+     * @param node   the node holding the element
+     * @param offset the offset of the element within the node
+     * @return the removed element
+     */
+    private E removeAt(Node<E> node, int offset) {
+        @SuppressWarnings("unchecked")
+        E removed = (E) node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+
+        if (node.count == 0) {
+            unlinkNode(node);
+        } else if (node.count < nodeCapacity / 4 && node.next != null
+                && node.count + node.next.count <= nodeCapacity) {
+            Node<E> next = node.next;
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            unlinkNode(next);
+        }
+
+        size--;
+        modCount++;
+        cursorNode = null;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        cursorNode = null;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element to list");
+        }
+        checkIndexForAdd(index);
+
+        if (index == size) {
+            addLast(toAdd);
+        } else if (index == 0) {
+            addFirst(toAdd);
+        } else {
+            Node<E> node = nodeFor(index);
+            insertAt(node, index - cursorBase, toAdd);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return add(size, toAdd);
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        return addAll(size, toAdd);
+    }
+
+    /**
+     * Inserts all elements of the given list at the specified index.
+     * The node at the insertion point is split once, the new elements are
+     * copied into full nodes in blocks, and the chain of new nodes is linked
+     * in between the two halves.
+     *
+     * @param index the index at which to insert the first element
+     * @param toAdd the list whose elements are inserted
+     * @return true if this list changed
+     * @throws NullPointerException      if the list or any of its elements is null
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @Override
+    public boolean addAll(int index, ListADT<? extends E> toAdd)
+            throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+        checkIndexForAdd(index);
+
+        // Snapshot first so adding a list to itself is safe
+        Object[] elementsToAdd = toAdd.toArray();
+        if (elementsToAdd.length == 0) {
+            return false;
+        }
+        for (Object element : elementsToAdd) {
+            if (element == null) {
+                throw new NullPointerException("Cannot add null element to list");
+            }
+        }
+
+        // Find the node the new elements go after
+        Node<E> before;
+        if (index == size) {
+            before = tail;
+        } else {
+            Node<E> node = nodeFor(index);
+            int offset = index - cursorBase;
+            if (offset == 0) {
+                before = node.prev;
+            } else {
+                splitAt(node, offset);
+                before = node;
+            }
+        }
+
+        // Top up the node before the gap, then fill new nodes
+        int copied = 0;
+        if (before != null) {
+            copied = Math.min(nodeCapacity - before.count, elementsToAdd.length);
+            System.arraycopy(elementsToAdd, 0, before.items, before.count, copied);
+            before.count += copied;
+        }
+        while (copied < elementsToAdd.length) {
+            Node<E> node = linkAfter(before);
+            int block = Math.min(nodeCapacity, elementsToAdd.length - copied);
+            System.arraycopy(elementsToAdd, copied, node.items, 0, block);
+            node.count = block;
+            copied += block;
+            before = node;
+        }
+
+        size += elementsToAdd.length;
+        modCount++;
+        cursorNode = null;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        Node<E> node = nodeFor(index);
+        return (E) node.items[index - cursorBase];
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        Node<E> node = nodeFor(index);
+        return removeAt(node, index - cursorBase);
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (toRemove.equals(node.items[i])) {
+                    return removeAt(node, i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the elements from fromIndex (inclusive) to toIndex (exclusive).
+     * Nodes that lie entirely inside the range are unlinked whole; only the
+     * first and last nodes of the range have elements shifted.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex);
+        int remaining = toIndex - fromIndex;
+        if (remaining == 0) {
+            return;
+        }
+        if (remaining == size) {
+            clear();
+            return;
+        }
+
+        Node<E> node = nodeFor(fromIndex);
+        int offset = fromIndex - cursorBase;
+        while (remaining > 0) {
+            Node<E> next = node.next;
+            int removed = Math.min(node.count - offset, remaining);
+            if (removed == node.count) {
+                unlinkNode(node);
+            } else {
+                System.arraycopy(node.items, offset + removed, node.items, offset, node.count - offset - removed);
+                java.util.Arrays.fill(node.items, node.count - removed, node.count, null);
+                node.count -= removed;
+            }
+            remaining -= removed;
+            node = next;
+            offset = 0;
+        }
+
+        size -= toIndex - fromIndex;
+        modCount++;
+        cursorNode = null;
+    }
+
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) {
+            throw new NullPointerException("Cannot set element to null");
+        }
+        checkIndex(index);
+        Node<E> node = nodeFor(index);
+        int offset = index - cursorBase;
+        @SuppressWarnings("unchecked")
+        E oldData = (E) node.items[offset];
+        node.items[offset] = toChange;
+        return oldData;
+    }
+
+    /**
+     * Replaces every element with the result of the operator, one node at a time.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the operator is null or returns null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null");
+        }
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                E replacement = operator.apply((E) node.items[i]);
+                if (replacement == null) {
+                    throw new NullPointerException("Cannot set element to null");
+                }
+                node.items[i] = replacement;
+            }
+        }
+    }
+
+    /**
+     * Performs the action for every element, one node at a time.
+     *
+     * @param action the action to perform
+     * @throws NullPointerException if the action is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null");
+        }
+        int expectedModCount = modCount;
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                action.accept((E) node.items[i]);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a view of the elements from fromIndex (inclusive) to toIndex
+     * (exclusive). Nothing is copied; reads and writes go straight to this list.
+     *
+     * @param fromIndex low endpoint (inclusive) of the view
+     * @param toIndex   high endpoint (exclusive) of the view
+     * @return a view of the range
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    @Override
+    public ListADT<E> subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (toFind.equals(node.items[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Destination array cannot be null");
+        }
+        if (toHold.length < size) {
+            @SuppressWarnings("unchecked")
+            E[] newArray = (E[]) java.lang.reflect.Array.newInstance(
+                    toHold.getClass().getComponentType(), size);
+            toHold = newArray;
+        }
+        copyTo(toHold);
+        if (toHold.length > size) {
+            toHold[size] = null;
+        }
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        copyTo(result);
+        return result;
+    }
+
+    /**
+     * Copies the elements, in order, into the start of the destination array
+     * with one arraycopy per node.
+     *
+     * @param destination an array with room for at least size elements
+     */
+    private void copyTo(Object[] destination) {
+        int index = 0;
+        for (Node<E> node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, destination, index, node.count);
+            index += node.count;
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Iterator implementation for MyUnrolledList. Walks each node's array
+     * and then moves to the next node. Fail-fast on structural changes.
+     */
+    private class UnrolledIterator implements Iterator<E> {
+        /**
+         * Node holding the next element
+         */
+        private Node<E> node = head;
+
+        /**
+         * Offset of the next element within node
+         */
+        private int offset = 0;
+
+        /**
+         * modCount when the iterator was created
+         */
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() throws NoSuchElementException {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in iteration");
+            }
+            E data = (E) node.items[offset++];
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Returns a string representation of this list.
+     * Format: [element1, element2, element3, ...]
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                sb.append(node.items[i]);
+                if (i < node.count - 1 || node.next != null) {
+                    sb.append(", ");
+                }
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Compares this list with another object for equality.
+     * Two lists are equal if they have the same size and contain
+     * the same elements in the same order.
+     *
+     * @param obj the object to compare with
+     * @return true if the lists are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ListADT)) return false;
+
+        ListADT<?> other = (ListADT<?>) obj;
+        if (this.size() != other.size()) return false;
+
+        Object[] otherArray = other.toArray();
+        int index = 0;
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (!node.items[i].equals(otherArray[index++])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code built from the elements in order, so lists that
+     * are equal have the same hash code.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                hash = 31 * hash + node.items[i].hashCode();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Add element at the beginning of the list. Starts a new head node when
+     * the current one is full, so this is O(1) amortized.
+     *
+     * @param element the element to add at the beginning
+     * @throws NullPointerException if element is null
+     */
+    public void addFirst(E element) throws NullPointerException {
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element to list");
+        }
+        if (head == null || head.count == nodeCapacity) {
+            linkAfter(null);
+        }
+        insertAt(head, 0, element);
+    }
+
+    /**
+     * Add element at the end of the list. Starts a new tail node when the
+     * current one is full, so this is O(1) amortized.
+     *
+     * @param element the element to add at the end
+     * @throws NullPointerException if element is null
+     */
+    public void addLast(E element) throws NullPointerException {
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element to list");
+        }
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        tail.items[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Remove and return the first element.
+     *
+     * @return the first element in the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public E removeFirst() throws IndexOutOfBoundsException {
+        checkIndex(0);
+        return removeAt(head, 0);
+    }
+
+    /**
+     * Remove and return the last element.
+     *
+     * @return the last element in the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public E removeLast() throws IndexOutOfBoundsException {
+        checkIndex(size - 1);
+        return removeAt(tail, tail.count - 1);
+    }
+
+    /**
+     * Get the first element without removing it.
+     *
+     * @return the first element in the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E getFirst() throws IndexOutOfBoundsException {
+        checkIndex(0);
+        return (E) head.items[0];
+    }
+
+    /**
+     * Get the last element without removing it.
+     *
+     * @return the last element in the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E getLast() throws IndexOutOfBoundsException {
+        checkIndex(size - 1);
+        return (E) tail.items[tail.count - 1];
+    }
+
+    /**
+     * Writes the node capacity and size followed by the elements in order,
+     * walking the nodes in a loop. Default serialization would follow the
+     * node links recursively, one stack frame per node, and could overflow
+     * the stack on a long list.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                out.writeObject(node.items[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reads a list written by writeObject, packing the elements into full nodes.
+     *
+     * @param in the stream to read from
+     * @throws IOException            if reading fails or the stream holds an invalid size, node capacity or a null element
+     * @throws ClassNotFoundException if an element's class cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0 || nodeCapacity < 2) {
+            throw new InvalidObjectException("Invalid size or node capacity");
+        }
+        int count = size;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            E element = (E) in.readObject();
+            if (element == null) {
+                throw new InvalidObjectException("Null element at index " + i);
+            }
+            if (tail == null || tail.count == nodeCapacity) {
+                linkAfter(tail);
+            }
+            tail.items[tail.count++] = element;
+            size++;
+        }
+    }
+
+    /**
+     * A node of the unrolled list: a fixed-size array of elements, the number
+     * of them in use, and links to the neighbouring nodes.
+     *
+     * @param <E> the type of elements held
+     */
+    private static final class Node<E> {
+        private final Object[] items;
+        private int count;
+        private Node<E> next;
+        private Node<E> prev;
+
+        /**
+         * @param capacity the number of elements the node can hold
+         */
+        Node(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+}
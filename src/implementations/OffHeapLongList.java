@@ -0,0 +1,438 @@
+package implementations;
+
+import utilities.LongIndexedListADT;
+import utilities.LongIterator;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Off-heap implementation of LongIndexedListADT.
+ * The values live in native memory obtained through the Foreign Function and
+ * Memory API, so a list of billions of offsets adds nothing to the Java heap
+ * and nothing for the garbage collector to scan, and it is not limited by the
+ * maximum array length.
+ *
+ * Memory is allocated in fixed-size chunks (1M values, 8 MiB, by default).
+ * A value's chunk and slot come straight from its 64-bit index with a shift
+ * and a mask. Growing only allocates a new chunk and never copies existing
+ * values, so the list never needs twice its size in memory while it grows.
+ * Inserts and removes in the middle shift the values after them with bulk
+ * segment copies, one piece per chunk boundary.
+ *
+ * Each chunk has its own shared arena. Any thread may read or write the list,
+ * but it is not synchronized. trimToSize releases the chunks beyond the
+ * current size and close releases all of them.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ */
+public class OffHeapLongList implements LongIndexedListADT {
+
+    /**
+     * Default number of values per chunk (a power of two)
+     */
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 20;
+
+    /**
+     * Bytes per value
+     */
+    private static final long STRIDE = Long.BYTES;
+
+    /**
+     * Largest list toArray() can return
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Values per chunk; always a power of two
+     */
+    private final long chunkCapacity;
+
+    /**
+     * log2(chunkCapacity), used to find a value's chunk
+     */
+    private final int chunkShift;
+
+    /**
+     * chunkCapacity - 1, used to find a value's slot within its chunk
+     */
+    private final long chunkMask;
+
+    /**
+     * Allocated chunks; only the first chunkCount entries are in use
+     */
+    private MemorySegment[] chunks;
+
+    /**
+     * Arena owning each chunk, parallel to chunks
+     */
+    private Arena[] arenas;
+
+    /**
+     * Number of allocated chunks
+     */
+    private int chunkCount;
+
+    /**
+     * Current number of values in the list
+     */
+    private long size;
+
+    /**
+     * Number of structural changes; iterators use it to detect changes made while they run
+     */
+    private int modCount;
+
+    /**
+     * True once close() has been called
+     */
+    private boolean closed;
+
+    /**
+     * Constructs an empty list with 1M values per chunk.
+     */
+    public OffHeapLongList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given number of values per chunk,
+     * rounded up to a power of two. No memory is allocated until the first add.
+     *
+     * @param chunkCapacity the number of values per chunk
+     * @throws IllegalArgumentException if chunkCapacity is less than 1 or above 2^30
+     */
+    public OffHeapLongList(int chunkCapacity) {
+        if (chunkCapacity < 1 || chunkCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Chunk capacity must be between 1 and 2^30");
+        }
+        int rounded = Integer.highestOneBit(chunkCapacity);
+        if (rounded != chunkCapacity) {
+            rounded <<= 1;
+        }
+        this.chunkCapacity = rounded;
+        this.chunkShift = Integer.numberOfTrailingZeros(rounded);
+        this.chunkMask = rounded - 1;
+        this.chunks = new MemorySegment[4];
+        this.arenas = new Arena[4];
+    }
+
+    /**
+     * Reads the value at a valid index.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    private long read(long index) {
+        return chunks[(int) (index >>> chunkShift)].getAtIndex(ValueLayout.JAVA_LONG, index & chunkMask);
+    }
+
+    /**
+     * Writes the value at an index inside the allocated chunks.
+     *
+     * @param index the index of the value
+     * @param value the value to store
+     */
+    private void write(long index, long value) {
+        chunks[(int) (index >>> chunkShift)].setAtIndex(ValueLayout.JAVA_LONG, index & chunkMask, value);
+    }
+
+    /**
+     * Moves count values from index from to index to. Overlapping ranges are
+     * handled by copying front to back when moving down and back to front
+     * when moving up. Each piece stays inside one source and one destination
+     * chunk.
+     *
+     * @param from  index of the first value to move
+     * @param to    index it moves to
+     * @param count number of values to move
+     */
+    private void move(long from, long to, long count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        if (to < from) {
+            long done = 0;
+            while (done < count) {
+                long source = from + done;
+                long target = to + done;
+                long piece = Math.min(count - done,
+                        Math.min(chunkCapacity - (source & chunkMask), chunkCapacity - (target & chunkMask)));
+                copy(source, target, piece);
+                done += piece;
+            }
+        } else {
+            long remaining = count;
+            while (remaining > 0) {
+                long sourceEnd = from + remaining;
+                long targetEnd = to + remaining;
+                long piece = Math.min(remaining,
+                        Math.min(((sourceEnd - 1) & chunkMask) + 1, ((targetEnd - 1) & chunkMask) + 1));
+                copy(sourceEnd - piece, targetEnd - piece, piece);
+                remaining -= piece;
+            }
+        }
+    }
+
+    /**
+     * Copies values between two ranges that each lie within a single chunk.
+     *
+     * @param from  index of the first source value
+     * @param to    index of the first target value
+     * @param count number of values to copy
+     */
+    private void copy(long from, long to, long count) {
+        MemorySegment.copy(chunks[(int) (from >>> chunkShift)], (from & chunkMask) * STRIDE,
+                chunks[(int) (to >>> chunkShift)], (to & chunkMask) * STRIDE, count * STRIDE);
+    }
+
+    /**
+     * Allocates chunks until the list can hold minCapacity values.
+     *
+     * @param minCapacity the number of values the list must be able to hold
+     */
+    private void ensureCapacity(long minCapacity) {
+        while ((long) chunkCount << chunkShift < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+                arenas = Arrays.copyOf(arenas, chunkCount * 2);
+            }
+            Arena arena = Arena.ofShared();
+            arenas[chunkCount] = arena;
+            chunks[chunkCount] = arena.allocate(chunkCapacity * STRIDE, STRIDE);
+            chunkCount++;
+        }
+    }
+
+    /**
+     * Returns the number of values the allocated chunks can hold.
+     *
+     * @return the capacity of the list
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Releases the chunks that hold no values.
+     */
+    public void trimToSize() {
+        checkOpen();
+        int needed = (int) ((size + chunkMask) >>> chunkShift);
+        while (chunkCount > needed) {
+            chunkCount--;
+            arenas[chunkCount].close();
+            arenas[chunkCount] = null;
+            chunks[chunkCount] = null;
+        }
+    }
+
+    /**
+     * Throws if the list has been closed.
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Checks if the given index is valid for accessing values.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    private void checkIndex(long index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Removes all values. The chunks are kept for reuse; call trimToSize
+     * to release them.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(long index, long toAdd) throws IndexOutOfBoundsException {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        write(index, toAdd);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean add(long toAdd) {
+        checkOpen();
+        ensureCapacity(size + 1);
+        write(size, toAdd);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public long get(long index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public long remove(long index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        long removed = read(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void removeRange(long fromIndex, long toIndex) throws IndexOutOfBoundsException {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public long set(long index, long toChange) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        long oldValue = read(index);
+        write(index, toChange);
+        return oldValue;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long indexOf(long toFind) {
+        checkOpen();
+        for (long index = 0; index < size; index++) {
+            if (read(index) == toFind) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(long toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    @Override
+    public long[] toArray() throws IllegalStateException {
+        checkOpen();
+        if (size > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("List of " + size + " values does not fit in an array");
+        }
+        long[] result = new long[(int) size];
+        int copied = 0;
+        for (int chunk = 0; copied < size; chunk++) {
+            int piece = (int) Math.min(chunkCapacity, size - copied);
+            MemorySegment.copy(chunks[chunk], ValueLayout.JAVA_LONG, 0, result, copied, piece);
+            copied += piece;
+        }
+        return result;
+    }
+
+    @Override
+    public LongIterator iterator() {
+        checkOpen();
+        return new LongIterator() {
+            private long cursor = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public long nextLong() throws NoSuchElementException {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in iteration");
+                }
+                return read(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Releases all native memory held by the list. Using the list afterwards
+     * throws IllegalStateException; closing it again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int i = 0; i < chunkCount; i++) {
+            arenas[i].close();
+            arenas[i] = null;
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the values in the form [v0, v1, ...], showing at most the
+     * first 64 values of a longer list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        if (closed) {
+            return "[closed]";
+        }
+        StringBuilder sb = new StringBuilder("[");
+        long shown = Math.min(size, 64);
+        for (long i = 0; i < shown; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(read(i));
+        }
+        if (shown < size) {
+            sb.append(", ... (").append(size - shown).append(" more)");
+        }
+        return sb.append(']').toString();
+    }
+}
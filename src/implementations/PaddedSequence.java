@@ -0,0 +1,88 @@
+package implementations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fields placed before the sequence value so it does not share a cache line
+ * with whatever the JVM lays out ahead of the object.
+ */
+abstract class SequenceLeftPadding {
+    protected long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Holds the sequence value between the two padding blocks.
+ */
+abstract class SequenceValue extends SequenceLeftPadding {
+    protected volatile long value;
+}
+
+/**
+ * PaddedSequence - a 64-bit counter surrounded by padding so that counters
+ * updated by different threads (for example a queue's head and tail) never
+ * sit on the same cache line and cause false sharing.
+ *
+ * The padding lives in superclasses because the JVM keeps superclass fields
+ * ahead of subclass fields, while it may reorder fields within a class.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ */
+final class PaddedSequence extends SequenceValue {
+
+    protected long p11, p12, p13, p14, p15, p16, p17;
+
+    /**
+     * Handle used for release stores and compare-and-set on the value
+     */
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Constructs a sequence with the given starting value.
+     *
+     * @param initialValue the starting value
+     */
+    PaddedSequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+     * Reads the value with volatile semantics.
+     *
+     * @return the current value
+     */
+    long get() {
+        return value;
+    }
+
+    /**
+     * Stores the value with volatile semantics. A release store would be
+     * cheaper, but it may be reordered with a later read (such as a wait
+     * strategy checking for sleeping threads), which can lose a wakeup.
+     *
+     * @param newValue the value to store
+     */
+    void set(long newValue) {
+        value = newValue;
+    }
+
+    /**
+     * Atomically sets the value if it currently equals the expected value.
+     *
+     * @param expected the expected current value
+     * @param newValue the value to store
+     * @return true if the value was updated
+     */
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+}
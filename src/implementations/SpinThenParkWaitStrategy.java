@@ -0,0 +1,74 @@
+package implementations;
+
+import utilities.WaitStrategy;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * WaitStrategy that busy-spins for a while, then yields, then parks for short
+ * periods until the condition holds. Reacts within nanoseconds under load and
+ * backs off to low CPU use when the other side goes quiet. Needs no signal.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ */
+public class SpinThenParkWaitStrategy implements WaitStrategy {
+
+    private static final int DEFAULT_SPINS = 1000;
+    private static final int DEFAULT_YIELDS = 100;
+    private static final long DEFAULT_PARK_NANOS = 50_000L;
+
+    private final int spins;       // Busy-spin attempts before yielding
+    private final int yields;      // Yield attempts before parking
+    private final long parkNanos;  // Length of each park
+
+    /**
+     * Constructs a strategy with default spin, yield and park settings.
+     */
+    public SpinThenParkWaitStrategy() {
+        this(DEFAULT_SPINS, DEFAULT_YIELDS, DEFAULT_PARK_NANOS);
+    }
+
+    /**
+     * Constructs a strategy with the given settings.
+     *
+     * @param spins     busy-spin attempts before yielding
+     * @param yields    yield attempts before parking
+     * @param parkNanos how long to park between later attempts, in nanoseconds
+     * @throws IllegalArgumentException if any setting is negative or parkNanos is zero
+     */
+    public SpinThenParkWaitStrategy(int spins, int yields, long parkNanos) {
+        if (spins < 0 || yields < 0 || parkNanos <= 0) {
+            throw new IllegalArgumentException("Invalid wait strategy settings");
+        }
+        this.spins = spins;
+        this.yields = yields;
+        this.parkNanos = parkNanos;
+    }
+
+    @Override
+    public void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        int attempt = 0;
+        while (!condition.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (attempt < spins) {
+                Thread.onSpinWait();
+            } else if (attempt < spins + yields) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, parkNanos);
+            }
+            if (attempt < Integer.MAX_VALUE) {
+                attempt++;
+            }
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        // waiters poll the condition themselves
+    }
+}
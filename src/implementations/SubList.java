@@ -0,0 +1,342 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A zero-copy view of a contiguous range of another list, returned by
+ * {@link ListADT#subList(int, int)}.
+ *
+ * The view stores only its parent, its offset into the parent and its own
+ * size. Every operation is translated into the matching operation on the
+ * parent, so bulk operations such as removeRange and addAll keep the parent's
+ * efficient implementation (one arraycopy for MyArrayList, one relink for
+ * MyDLL). A view of a view is layered on top of this view, so changes made
+ * through the inner view keep every outer view's size correct.
+ *
+ * Changes made to the parent other than through the view leave the view
+ * undefined.
+ *
+ * ListADT is Serializable, but a view is not: it holds no elements of its
+ * own. Serializing one throws NotSerializableException; copy the range into
+ * a list of its own first.
+ *
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * @param <E> the type of elements stored in the list
+ */
+class SubList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The list this view is backed by
+     */
+    private final ListADT<E> parent;
+
+    /**
+     * Index in the parent of the first element of the view
+     */
+    private final int offset;
+
+    /**
+     * Current number of elements in the view
+     */
+    private int size;
+
+    /**
+     * Number of structural changes made through this view; its iterators
+     * use it to detect changes made while they run
+     */
+    private transient int modCount;
+
+    /**
+     * Constructs a view of parent from fromIndex (inclusive) to toIndex (exclusive).
+     * The caller has already checked the range against the parent.
+     *
+     * @param parent    the backing list
+     * @param fromIndex low endpoint (inclusive) of the view
+     * @param toIndex   high endpoint (exclusive) of the view
+     */
+    SubList(ListADT<E> parent, int fromIndex, int toIndex) {
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+    }
+
+    /**
+     * Checks if the given index is valid for accessing elements.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Checks if the given index is valid for adding elements.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Checks if the given range lies inside the view.
+     *
+     * @param fromIndex low endpoint (inclusive)
+     * @param toIndex   high endpoint (exclusive)
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        parent.removeRange(offset, offset + size);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        checkIndexForAdd(index);
+        parent.add(offset + index, toAdd);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return add(size, toAdd);
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        return addAll(size, toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, ListADT<? extends E> toAdd)
+            throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+        checkIndexForAdd(index);
+        // read before the parent changes, in case toAdd is this view
+        int count = toAdd.size();
+        boolean modified = parent.addAll(offset + index, toAdd);
+        if (modified) {
+            size += count;
+            modCount++;
+        }
+        return modified;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        E removed = parent.remove(offset + index);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+        for (int i = 0; i < size; i++) {
+            if (toRemove.equals(parent.get(offset + i))) {
+                return remove(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex);
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        checkIndex(index);
+        return parent.set(offset + index, toChange);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        if (operator == null) {
+            throw new NullPointerException("Operator cannot be null");
+        }
+        for (int i = 0; i < size; i++) {
+            parent.set(offset + i, operator.apply(parent.get(offset + i)));
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null");
+        }
+        int expectedModCount = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept(parent.get(offset + i));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public ListADT<E> subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        for (int i = 0; i < size; i++) {
+            if (toFind.equals(parent.get(offset + i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Destination array cannot be null");
+        }
+        if (toHold.length < size) {
+            @SuppressWarnings("unchecked")
+            E[] newArray = (E[]) java.lang.reflect.Array.newInstance(
+                    toHold.getClass().getComponentType(), size);
+            toHold = newArray;
+        }
+        for (int i = 0; i < size; i++) {
+            toHold[i] = parent.get(offset + i);
+        }
+        if (toHold.length > size) {
+            toHold[size] = null;
+        }
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = parent.get(offset + i);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int cursor = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() throws NoSuchElementException {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in iteration");
+                }
+                return parent.get(offset + cursor++);
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of the view.
+     * Format: [element1, element2, element3, ...]
+     *
+     * @return a string representation of the view
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(parent.get(offset + i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Refuses to serialize the view.
+     *
+     * @param out the stream that would be written to
+     * @throws NotSerializableException always
+     */
+    private void writeObject(ObjectOutputStream out) throws NotSerializableException {
+        throw new NotSerializableException(getClass().getName() + " cannot be serialized");
+    }
+
+    /**
+     * Refuses to deserialize the view.
+     *
+     * @param in the stream that would be read from
+     * @throws InvalidObjectException always
+     */
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException(getClass().getName() + " cannot be deserialized");
+    }
+}
@@ -2,15 +2,23 @@ package test.unitTests;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import implementations.GrowthPolicies;
 import implementations.MyArrayList;
 import implementations.MyDLL;
 import utilities.Iterator;
+import utilities.ListADT;
 
 /**
  *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
@@ -404,6 +412,76 @@ public class ArrayListTest
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert a DLL into the middle of the list in one step.
+	 */
+	@Test
+	public void testAddAllIndex_Middle()
+	{
+		MyDLL<Integer> intList = new MyDLL<>();
+		intList.add( two );
+		intList.add( three );
+		intList.add( four );
+
+		myList.add( one );
+		myList.add( five );
+
+		assertTrue( "Failed to return true.", myList.addAll( 1, intList ) );
+		assertEquals( "Failed to update size.", 5, myList.size() );
+		for( int i = 0; i < myList.size(); i++ )
+		{
+			int expectedValue = i + 1;
+			int actualValue = myList.get( i );
+			assertEquals( "Failed to add item to the correct position.", expectedValue, actualValue );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert the list into itself at the head and grow past the default capacity.
+	 */
+	@Test
+	public void testAddAllIndex_SelfAtHead()
+	{
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i );
+		}
+		assertTrue( myList.addAll( 0, myList ) );
+		assertEquals( "Failed to update size.", 16, myList.size() );
+		for( int i = 0; i < 16; i++ )
+		{
+			assertEquals( "Failed to add item to the correct position.", i % 8, (int) myList.get( i ) );
+		}
+		assertFalse( "Failed to return false for empty list.", myList.addAll( 3, new MyArrayList<Integer>() ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to throw IndexOutOfBoundsException when the index is past the end.
+	 */
+	@Test
+	public void testAddAllIndex_IndexOutOfBoundsException()
+	{
+		MyArrayList<Integer> other = new MyArrayList<>();
+		other.add( two );
+		myList.add( one );
+		try
+		{
+			myList.addAll( 2, other );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave list unchanged.", 1, myList.size() );
+	}
+
 	/**
 	 * Test method for {@link implementations.MyArrayList#clear()}
 	 * to clear a non-empty list.
@@ -1299,4 +1377,341 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeRange(int, int)}
+	 * to remove a run from the middle and keep the rest in order.
+	 */
+	@Test
+	public void testRemoveRange_Middle()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		myList.removeRange( 2, 7 );
+		assertEquals( "Failed to update size.", 5, myList.size() );
+		assertArrayEquals( "Failed to remove the range.", new Integer[] { 0, 1, 7, 8, 9 }, myList.toArray() );
+
+		myList.removeRange( 0, 2 );
+		myList.removeRange( 1, 3 );
+		assertArrayEquals( "Failed to remove head and tail runs.", new Integer[] { 7 }, myList.toArray() );
+
+		myList.add( one );
+		assertEquals( "Failed to keep list usable.", one, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeRange(int, int)}
+	 * to throw IndexOutOfBoundsException for an invalid range.
+	 */
+	@Test
+	public void testRemoveRange_IndexOutOfBoundsException()
+	{
+		myList.add( one );
+		myList.add( two );
+		try
+		{
+			myList.removeRange( 1, 3 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.removeRange( 2, 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave list unchanged.", 2, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to return a view that reads and writes through to the list.
+	 */
+	@Test
+	public void testSubList_WriteThrough()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( four );
+		myList.add( five );
+
+		ListADT<Integer> view = myList.subList( 1, 4 );
+		assertEquals( "Failed to size the view.", 3, view.size() );
+		assertEquals( "Failed to offset the view.", two, view.get( 0 ) );
+
+		view.set( 0, 22 );
+		assertEquals( "Failed to write through the view.", Integer.valueOf( 22 ), myList.get( 1 ) );
+
+		view.remove( 1 );
+		view.add( 33 );
+		assertArrayEquals( "Failed to change the list through the view.",
+				new Integer[] { one, 22, four, 33, five }, myList.toArray() );
+		assertArrayEquals( "Failed to keep the view in step.", new Integer[] { 22, four, 33 }, view.toArray() );
+
+		view.clear();
+		assertTrue( "Failed to empty the view.", view.isEmpty() );
+		assertArrayEquals( "Failed to clear the range.", new Integer[] { one, five }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to keep an outer view's size correct when an inner view changes.
+	 */
+	@Test
+	public void testSubList_Nested()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		ListADT<Integer> outer = myList.subList( 2, 8 );
+		ListADT<Integer> inner = outer.subList( 1, 3 );
+		assertArrayEquals( "Failed to offset the inner view.", new Integer[] { 3, 4 }, inner.toArray() );
+
+		inner.removeRange( 0, 2 );
+		assertEquals( "Failed to shrink the outer view.", 4, outer.size() );
+		assertEquals( "Failed to shrink the list.", 8, myList.size() );
+		assertArrayEquals( "Failed to keep the outer view in step.", new Integer[] { 2, 5, 6, 7 }, outer.toArray() );
+
+		try
+		{
+			myList.subList( 3, 9 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to fail fast when forEach's action changes the view.
+	 */
+	@Test
+	public void testSubList_ForEachConcurrentModification()
+	{
+		for( int i = 0; i < 6; i++ )
+		{
+			myList.add( i );
+		}
+		final ListADT<Integer> view = myList.subList( 1, 5 );
+		try
+		{
+			view.forEach( value -> view.remove( 0 ) );
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to refuse serializing a view.
+	 */
+	@Test
+	public void testSubList_SerializationRejected() throws Exception
+	{
+		myList.add( one );
+		myList.add( two );
+		try( ObjectOutputStream out = new ObjectOutputStream( new ByteArrayOutputStream() ) )
+		{
+			out.writeObject( myList.subList( 0, 1 ) );
+			fail( "Failed to throw NotSerializableException." );
+		}
+		catch( NotSerializableException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#replaceAll(java.util.function.UnaryOperator)}
+	 * and {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to visit every item in order.
+	 */
+	@Test
+	public void testReplaceAllForEach()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		myList.replaceAll( x -> x * 10 );
+		assertArrayEquals( "Failed to replace every item.", new Integer[] { 10, 20, 30 }, myList.toArray() );
+
+		StringBuilder visited = new StringBuilder();
+		myList.forEach( x -> visited.append( x ).append( ' ' ) );
+		assertEquals( "Failed to visit items in order.", "10 20 30 ", visited.toString() );
+
+		try
+		{
+			myList.replaceAll( x -> null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#iterator()}
+	 * to throw ConcurrentModificationException when the list changes during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModification()
+	{
+		myList.add( one );
+		myList.add( two );
+		Iterator<Integer> it = myList.iterator();
+		it.next();
+		myList.set( 0, three );
+		assertEquals( "Failed to allow set during iteration.", two, it.next() );
+
+		it = myList.iterator();
+		it.next();
+		myList.add( four );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.forEach( x -> myList.remove( x ) );
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#ensureCapacity(int)} and
+	 * {@link implementations.MyArrayList#trimToSize()}
+	 * to grow the backing array once and release its unused slots.
+	 */
+	@Test
+	public void testEnsureCapacityTrimToSize()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>( 2 );
+		assertEquals( "Failed to use initial capacity.", 2, list.capacity() );
+		list.ensureCapacity( 100 );
+		assertEquals( "Failed to grow to the requested capacity.", 100, list.capacity() );
+		list.add( one );
+		list.add( two );
+		list.trimToSize();
+		assertEquals( "Failed to trim to size.", 2, list.capacity() );
+		assertEquals( "Failed to keep elements.", two, list.get( 1 ) );
+		list.clear();
+		list.trimToSize();
+		list.add( three );
+		assertEquals( "Failed to grow from empty.", three, list.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int, utilities.GrowthPolicy)}
+	 * to grow as the policy decides and stop at a cap.
+	 */
+	@Test
+	public void testGrowthPolicy()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>( 4,
+				GrowthPolicies.capped( GrowthPolicies.halfAgain(), 7 ) );
+		for( int i = 0; i < 5; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( "Failed to grow by half.", 6, list.capacity() );
+		list.add( 5 );
+		list.add( 6 );
+		assertEquals( "Failed to stop at the cap.", 7, list.capacity() );
+		try
+		{
+			list.add( 7 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave list unchanged.", 7, list.size() );
+		try
+		{
+			new MyArrayList<Integer>( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyArrayList}
+	 * to keep the elements and growth policy and drop the spare capacity.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		MyArrayList<Integer> list = new MyArrayList<>( 1000, GrowthPolicies.fixed( 3 ) );
+		list.add( one );
+		list.add( two );
+		list.add( three );
+		MyArrayList<Integer> copy = roundTrip( list );
+		assertArrayEquals( "Failed to keep elements.", list.toArray(), copy.toArray() );
+		assertEquals( "Failed to drop spare capacity.", 3, copy.capacity() );
+		copy.add( four );
+		assertEquals( "Failed to keep growth policy.", 6, copy.capacity() );
+		assertEquals( "Failed to copy empty list.", 0, roundTrip( new MyArrayList<Integer>() ).size() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
 }
@@ -0,0 +1,302 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.TagEvent;
+import appDomain.TagListener;
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for XMLParser checkpoints: a parse interrupted part way resumes from
+ * its last checkpoint and reports the same errors as a full parse, and a
+ * checkpoint that no longer matches the file is ignored.
+ */
+
+public class CheckpointTest
+{
+	// Attributes
+	private TempXMLFile xml;
+	private File checkpoint;
+
+	/**
+	 * Creates the temporary XML and checkpoint files before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "checkpoint" );
+		checkpoint = xml.sibling( ".ckp" );
+	}
+
+	/**
+	 * Deletes the temporary files after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+	}
+
+	/**
+	 * Writes a document of the given number of records, with a few
+	 * misnested, unclosed and unterminated tags so the parse has errors
+	 * to carry over.
+	 */
+	private void writeDocument( int records ) throws IOException
+	{
+		StringBuilder sb = new StringBuilder( "<?xml version=\"1.0\"?>\n<catalog>\n" );
+		for( int i = 0; i < records; i++ )
+		{
+			sb.append( "  <book id=\"" ).append( i ).append( "\">\n" );
+			if( i % 17 == 3 )
+			{
+				sb.append( "    <title>Misnested<b></title></b>\n" );
+			}
+			else
+			{
+				sb.append( "    <title>Book ").append( i ).append( "</title><br/>\n" );
+			}
+			if( i % 13 == 4 )
+			{
+				sb.append( "    <note\n" );
+			}
+			if( i % 29 != 7 )
+			{
+				sb.append( "  </book>\n" );
+			}
+		}
+		sb.append( "</catalog>\n" );
+		xml.write( sb.toString() );
+	}
+
+	/**
+	 * Parses with checkpoints every few hundred bytes and stops the parse
+	 * with an exception at the given line, leaving a checkpoint behind.
+	 */
+	private void interruptAt( final int line ) throws IOException
+	{
+		interruptAt( line, false );
+	}
+
+	/**
+	 * Like interruptAt( line ), optionally saving statistics in the checkpoint.
+	 */
+	private void interruptAt( final int line, boolean collectStatistics ) throws IOException
+	{
+		XMLParser parser = new XMLParser();
+		parser.setCollectStatistics( collectStatistics );
+		parser.enableCheckpoints( checkpoint.getPath(), 256 );
+		parser.addListener( new TagListener()
+		{
+			@Override
+			public void onOpen( TagEvent event )
+			{
+				if( event.getLine() >= line )
+				{
+					throw new IllegalStateException( "Interrupted" );
+				}
+			}
+		} );
+		try
+		{
+			parser.parseFile( xml.getPath() );
+			fail( "Failed to interrupt the parse." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for resuming an interrupted parse from its checkpoint.
+	 */
+	@Test
+	public void testResume_SameErrorsAsFullParse() throws IOException
+	{
+		writeDocument( 200 );
+		interruptAt( 400 );
+		assertTrue( "Failed to leave a checkpoint.", checkpoint.exists() );
+
+		XMLParser parser = new XMLParser();
+		parser.enableCheckpoints( checkpoint.getPath(), 256 );
+		boolean valid = parser.parseFile( xml.getPath() );
+		assertTrue( "Failed to resume from the checkpoint.", parser.getResumedOffset() > 0 );
+		assertFalse( "Failed to report errors.", valid );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+		assertFalse( "Failed to delete the checkpoint after parsing.", checkpoint.exists() );
+	}
+
+	/**
+	 * Test method for ignoring a checkpoint whose parsed prefix was edited.
+	 */
+	@Test
+	public void testResume_EditedPrefixStartsOver() throws IOException
+	{
+		writeDocument( 200 );
+		interruptAt( 400 );
+		byte[] bytes = Files.readAllBytes( xml.toPath() );
+		String text = new String( bytes, StandardCharsets.UTF_8 ).replaceFirst( "<book id=\"0\">", "<book id=\"0\"><extra>" );
+		xml.write( text );
+
+		XMLParser parser = new XMLParser();
+		parser.enableCheckpoints( checkpoint.getPath(), 256 );
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to start over.", 0, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for ignoring a corrupt checkpoint file.
+	 */
+	@Test
+	public void testResume_CorruptCheckpointIgnored() throws IOException
+	{
+		writeDocument( 50 );
+		Files.write( checkpoint.toPath(), new byte[] { 'X', 'C', 'K', 'P', 1, 2, 3 } );
+
+		XMLParser parser = new XMLParser();
+		parser.enableCheckpoints( checkpoint.getPath(), 256 );
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to start over.", 0, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for checkpoints staying small as the parse goes on: the
+	 * errors go to the append-only error log and no tag history is saved.
+	 */
+	@Test
+	public void testCheckpoint_SizeIndependentOfProgress() throws IOException
+	{
+		writeDocument( 2000 );
+		File errorLog = xml.sibling( ".ckp.errors" );
+		interruptAt( 400 );
+		long early = checkpoint.length();
+		long earlyLog = errorLog.length();
+		interruptAt( 5000 );
+		long late = checkpoint.length();
+		long lateLog = errorLog.length();
+
+		assertTrue( "Failed to write the errors to the error log.", lateLog > earlyLog && earlyLog > 0 );
+		assertTrue( "Failed to keep the checkpoint small: " + early + " then " + late + " bytes.", late < early + 256 );
+
+		XMLParser parser = new XMLParser();
+		parser.enableCheckpoints( checkpoint.getPath(), 256 );
+		parser.parseFile( xml.getPath() );
+		assertTrue( "Failed to resume from the checkpoint.", parser.getResumedOffset() > 0 );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+		assertFalse( "Failed to delete the error log after parsing.", errorLog.exists() );
+	}
+
+	/**
+	 * Test method for ignoring errors a crash left in the error log after
+	 * the last checkpoint, and for a missing error log.
+	 */
+	@Test
+	public void testResume_ErrorLogLeftoversIgnored() throws IOException
+	{
+		writeDocument( 200 );
+		File errorLog = xml.sibling( ".ckp.errors" );
+		interruptAt( 400 );
+		Files.write( errorLog.toPath(), new byte[] { 0, 0, 0, 3, 'X', 'Y', 'Z' }, StandardOpenOption.APPEND );
+
+		XMLParser parser = new XMLParser();
+		parser.enableCheckpoints( checkpoint.getPath(), 256 );
+		parser.parseFile( xml.getPath() );
+		assertTrue( "Failed to resume from the checkpoint.", parser.getResumedOffset() > 0 );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+
+		interruptAt( 400 );
+		errorLog.delete();
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to start over without the error log.", 0, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for ignoring a checkpoint whose statistics claim an
+	 * impossible maximum depth.
+	 */
+	@Test
+	public void testResume_CorruptStatisticsDepthIgnored() throws IOException
+	{
+		writeDocument( 200 );
+		List<String> expected = xml.fullParseErrors();
+		int[] corruptDepths = { Integer.MAX_VALUE, 1_000_000_000, 2 };
+		for( int corrupt : corruptDepths )
+		{
+			interruptAt( 400, true );
+			byte[] bytes = Files.readAllBytes( checkpoint.toPath() );
+			// Statistics end the file: max depth, one long per depth, then the depth sum
+			int at = -1;
+			for( int depth = 1; depth < 16 && at < 0; depth++ )
+			{
+				int position = bytes.length - 8 - 8 * depth - 4;
+				if( ByteBuffer.wrap( bytes, position, 4 ).getInt() == depth )
+				{
+					at = position;
+				}
+			}
+			assertTrue( "Failed to find the depth field.", at >= 0 );
+			assertTrue( "Failed to pick a different depth.", ByteBuffer.wrap( bytes, at, 4 ).getInt() != corrupt );
+			ByteBuffer.wrap( bytes, at, 4 ).putInt( corrupt );
+			Files.write( checkpoint.toPath(), bytes );
+
+			XMLParser parser = new XMLParser();
+			parser.setCollectStatistics( true );
+			parser.enableCheckpoints( checkpoint.getPath(), 256 );
+			parser.parseFile( xml.getPath() );
+			assertEquals( "Failed to start over.", 0, parser.getResumedOffset() );
+			assertEquals( "Failed to report the same errors as a full parse.", expected, parser.getErrors() );
+		}
+	}
+
+	/**
+	 * Test method for checkpointing tag names and errors longer than the
+	 * 65,535 bytes writeUTF can hold.
+	 */
+	@Test
+	public void testCheckpoint_LongTagName() throws IOException
+	{
+		StringBuilder name = new StringBuilder();
+		for( int i = 0; i < 70_000; i++ )
+		{
+			name.append( (char) ('a' + i % 26) );
+		}
+		String text = "<root>\n<" + name + ">\n</other>\n</root>\n";
+		xml.write( text );
+		List<String> expected = xml.fullParseErrors();
+		assertFalse( "Failed to find the mismatch.", expected.isEmpty() );
+
+		XMLParser parser = new XMLParser();
+		parser.enableCheckpoints( checkpoint.getPath(), 1 );
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to report the same errors with checkpoints.", expected, parser.getErrors() );
+
+		// Saved state holding the long name must also read back
+		XMLParser incremental = new XMLParser();
+		incremental.parseFileIncremental( xml.getPath(), checkpoint.getPath() );
+		assertEquals( "Failed to report the same errors incrementally.", expected, incremental.getErrors() );
+		incremental.parseFileIncremental( xml.getPath(), checkpoint.getPath() );
+		assertEquals( "Failed to resume from the saved state.", xml.length(), incremental.getResumedOffset() );
+		assertEquals( "Failed to report the same errors after resuming.", expected, incremental.getErrors() );
+	}
+}
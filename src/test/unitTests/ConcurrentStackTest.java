@@ -0,0 +1,272 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyStackException;
+import utilities.Iterator;
+import implementations.ConcurrentMyStack;
+import implementations.MyStack;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the lock-free (Treiber with elimination) implementation of the
+ * StackADT defined in the CPRG 304 Assignment 2.
+ */
+
+public class ConcurrentStackTest
+{
+	// Attributes
+	private ConcurrentMyStack<Integer> stack;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a ConcurrentMyStack instance and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new ConcurrentMyStack<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ConcurrentMyStack#push(java.lang.Object)},
+	 * {@link implementations.ConcurrentMyStack#peek()} and
+	 * {@link implementations.ConcurrentMyStack#pop()}
+	 * to return items last-in first-out.
+	 */
+	@Test
+	public void testPushPop_Order()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		assertEquals( "Failed to return correct size", 3, stack.size() );
+		assertEquals( "Failed to peek top.", three, stack.peek() );
+		assertEquals( "Failed to pop top.", three, stack.pop() );
+		assertEquals( "Failed to pop top.", two, stack.pop() );
+		assertEquals( "Failed to pop top.", one, stack.pop() );
+		assertTrue( stack.isEmpty() );
+		assertNull( "Failed to return null when empty.", stack.tryPop() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ConcurrentMyStack#pop()} and
+	 * {@link implementations.ConcurrentMyStack#push(java.lang.Object)}
+	 * to throw on an empty stack and a null item.
+	 */
+	@Test
+	public void testPopPush_Exceptions()
+	{
+		try
+		{
+			stack.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			stack.push( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ConcurrentMyStack#toArray()},
+	 * {@link implementations.ConcurrentMyStack#iterator()} and
+	 * {@link implementations.ConcurrentMyStack#search(java.lang.Object)}
+	 * to list items from top to bottom.
+	 */
+	@Test
+	public void testSnapshotOperations()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		assertArrayEquals( "Failed to convert stack to array.", new Integer[] { three, two, one }, stack.toArray() );
+		assertEquals( "Failed to find item", 1, stack.search( three ) );
+		assertEquals( "Failed to find item", 3, stack.search( one ) );
+		assertTrue( stack.contains( two ) );
+
+		Iterator<Integer> it = stack.iterator();
+		assertEquals( three, it.next() );
+		assertEquals( two, it.next() );
+		assertEquals( one, it.next() );
+		assertFalse( it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ConcurrentMyStack#equals(utilities.StackADT)} and
+	 * {@link implementations.ConcurrentMyStack#clear()}
+	 * to compare with a MyStack and empty the stack.
+	 */
+	@Test
+	public void testEqualsClear()
+	{
+		MyStack<Integer> other = new MyStack<Integer>();
+		stack.push( one );
+		stack.push( two );
+		other.push( one );
+		other.push( two );
+		assertTrue( stack.equals( other ) );
+
+		stack.clear();
+		assertTrue( stack.isEmpty() );
+		assertEquals( "Failed to clear size.", 0, stack.size() );
+		assertFalse( stack.equals( other ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ConcurrentMyStack#push(java.lang.Object)} and
+	 * {@link implementations.ConcurrentMyStack#tryPop()}
+	 * to lose and duplicate no items when many threads push and pop at once.
+	 * @throws Exception
+	 */
+	@Test
+	public void testPushPop_Contended() throws Exception
+	{
+		final int threads = 8;
+		final int perThread = 20000;
+		final ConcurrentMyStack<Integer> shared = new ConcurrentMyStack<Integer>( 4 );
+		final AtomicLong popped = new AtomicLong();
+		Thread[] workers = new Thread[threads];
+
+		for( int t = 0; t < threads; t++ )
+		{
+			workers[t] = new Thread( () -> {
+				for( int i = 1; i <= perThread; i++ )
+				{
+					shared.push( i );
+					Integer item = shared.tryPop();
+					if( item != null )
+					{
+						popped.addAndGet( item );
+					}
+				}
+			} );
+		}
+		for( Thread t : workers )
+		{
+			t.start();
+		}
+		for( Thread t : workers )
+		{
+			t.join();
+		}
+
+		long remaining = 0;
+		Integer item;
+		while( ( item = shared.tryPop() ) != null )
+		{
+			remaining += item;
+		}
+		long expected = (long) threads * perThread * ( perThread + 1 ) / 2;
+		assertEquals( "Failed to keep every item exactly once.", expected, popped.get() + remaining );
+		assertEquals( "Failed to track size.", 0, shared.size() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.ConcurrentMyStack}
+	 * to keep the elements from top to bottom.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		ConcurrentMyStack<Integer> copy = roundTrip( stack );
+		assertEquals( "Failed to keep size.", 3, copy.size() );
+		assertArrayEquals( "Failed to keep order.", stack.toArray(), copy.toArray() );
+		assertEquals( "Failed to keep top.", three, copy.pop() );
+		copy.push( one );
+		assertEquals( "Failed to keep stack usable.", one, copy.peek() );
+	}
+
+	/**
+	 * Test method for serialization of a stack too deep to write node by
+	 * node recursively.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization_DeepStack() throws Exception
+	{
+		for( int i = 0; i < 100_000; i++ )
+		{
+			stack.push( i );
+		}
+		ConcurrentMyStack<Integer> copy = roundTrip( stack );
+		assertEquals( "Failed to keep size.", 100_000, copy.size() );
+		for( int i = 99_999; i >= 0; i-- )
+		{
+			assertEquals( "Failed to keep order.", Integer.valueOf( i ), copy.pop() );
+		}
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+}
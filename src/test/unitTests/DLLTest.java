@@ -2,7 +2,13 @@ package test.unitTests;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
@@ -11,6 +17,8 @@ import org.junit.Test;
 import implementations.MyArrayList;
 import implementations.MyDLL;
 import utilities.Iterator;
+import utilities.ListADT;
+import utilities.ListIterator;
 
 /**
  *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
@@ -1325,4 +1333,613 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeRange(int, int)}
+	 * to remove a run from the middle and keep the rest in order.
+	 */
+	@Test
+	public void testRemoveRange_Middle()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		myList.removeRange( 2, 7 );
+		assertEquals( "Failed to update size.", 5, myList.size() );
+		assertArrayEquals( "Failed to remove the range.", new Integer[] { 0, 1, 7, 8, 9 }, myList.toArray() );
+
+		myList.removeRange( 0, 2 );
+		myList.removeRange( 1, 3 );
+		assertArrayEquals( "Failed to remove head and tail runs.", new Integer[] { 7 }, myList.toArray() );
+
+		myList.add( one );
+		assertEquals( "Failed to keep list usable.", one, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeRange(int, int)}
+	 * to throw IndexOutOfBoundsException for an invalid range.
+	 */
+	@Test
+	public void testRemoveRange_IndexOutOfBoundsException()
+	{
+		myList.add( one );
+		myList.add( two );
+		try
+		{
+			myList.removeRange( 1, 3 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.removeRange( 2, 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave list unchanged.", 2, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#subList(int, int)}
+	 * to return a view that reads and writes through to the list.
+	 */
+	@Test
+	public void testSubList_WriteThrough()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( four );
+		myList.add( five );
+
+		ListADT<Integer> view = myList.subList( 1, 4 );
+		assertEquals( "Failed to size the view.", 3, view.size() );
+		assertEquals( "Failed to offset the view.", two, view.get( 0 ) );
+
+		view.set( 0, 22 );
+		assertEquals( "Failed to write through the view.", Integer.valueOf( 22 ), myList.get( 1 ) );
+
+		view.remove( 1 );
+		view.add( 33 );
+		assertArrayEquals( "Failed to change the list through the view.",
+				new Integer[] { one, 22, four, 33, five }, myList.toArray() );
+		assertArrayEquals( "Failed to keep the view in step.", new Integer[] { 22, four, 33 }, view.toArray() );
+
+		view.clear();
+		assertTrue( "Failed to empty the view.", view.isEmpty() );
+		assertArrayEquals( "Failed to clear the range.", new Integer[] { one, five }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#subList(int, int)}
+	 * to keep an outer view's size correct when an inner view changes.
+	 */
+	@Test
+	public void testSubList_Nested()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		ListADT<Integer> outer = myList.subList( 2, 8 );
+		ListADT<Integer> inner = outer.subList( 1, 3 );
+		assertArrayEquals( "Failed to offset the inner view.", new Integer[] { 3, 4 }, inner.toArray() );
+
+		inner.removeRange( 0, 2 );
+		assertEquals( "Failed to shrink the outer view.", 4, outer.size() );
+		assertEquals( "Failed to shrink the list.", 8, myList.size() );
+		assertArrayEquals( "Failed to keep the outer view in step.", new Integer[] { 2, 5, 6, 7 }, outer.toArray() );
+
+		try
+		{
+			myList.subList( 3, 9 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#replaceAll(java.util.function.UnaryOperator)}
+	 * and {@link implementations.MyDLL#forEach(java.util.function.Consumer)}
+	 * to visit every item in order.
+	 */
+	@Test
+	public void testReplaceAllForEach()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		myList.replaceAll( x -> x * 10 );
+		assertArrayEquals( "Failed to replace every item.", new Integer[] { 10, 20, 30 }, myList.toArray() );
+
+		StringBuilder visited = new StringBuilder();
+		myList.forEach( x -> visited.append( x ).append( ' ' ) );
+		assertEquals( "Failed to visit items in order.", "10 20 30 ", visited.toString() );
+
+		try
+		{
+			myList.replaceAll( x -> null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(int, utilities.ListADT)}
+	 * to splice a list in at the head, the middle and the tail.
+	 */
+	@Test
+	public void testAddAllIndex_Splice()
+	{
+		MyArrayList<Integer> block = new MyArrayList<>();
+		block.add( two );
+		block.add( three );
+
+		myList.add( one );
+		myList.add( four );
+		assertTrue( "Failed to return true.", myList.addAll( 1, block ) );
+		assertTrue( "Failed to return true.", myList.addAll( 0, block ) );
+		assertTrue( "Failed to return true.", myList.addAll( myList.size(), myList ) );
+		assertFalse( "Failed to return false.", myList.addAll( 2, new MyArrayList<Integer>() ) );
+
+		Integer[] expected = { two, three, one, two, three, four, two, three, one, two, three, four };
+		assertArrayEquals( "Failed to splice in order.", expected, myList.toArray() );
+		assertEquals( "Failed to link tail.", four, myList.getLast() );
+		assertEquals( "Failed to link head.", two, myList.getFirst() );
+		assertEquals( "Failed to link backwards.", one, myList.get( 8 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to walk forwards and backwards and report cursor indexes.
+	 */
+	@Test
+	public void testListIterator_Bidirectional()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator();
+		assertFalse( it.hasPrevious() );
+		assertEquals( "Failed to report start index.", -1, it.previousIndex() );
+		assertEquals( "Failed to return item at position.", one, it.next() );
+		assertEquals( "Failed to return item at position.", two, it.next() );
+		assertEquals( "Failed to return item at position.", three, it.next() );
+		assertFalse( it.hasNext() );
+		assertEquals( "Failed to report end index.", 3, it.nextIndex() );
+		assertEquals( "Failed to return item at position.", three, it.previous() );
+		assertEquals( "Failed to return item at position.", two, it.previous() );
+		assertEquals( "Failed to report cursor index.", 1, it.nextIndex() );
+
+		it = myList.listIterator( 3 );
+		assertEquals( "Failed to start at the end.", three, it.previous() );
+		try
+		{
+			myList.listIterator( 4 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator(int)}
+	 * to add, remove and set items at the cursor.
+	 */
+	@Test
+	public void testListIterator_EditAtCursor()
+	{
+		myList.add( one );
+		myList.add( three );
+		myList.add( five );
+
+		ListIterator<Integer> it = myList.listIterator( 1 );
+		it.add( two );
+		assertEquals( "Failed to keep next item.", three, it.next() );
+		it.set( 33 );
+		it.add( four );
+		assertEquals( "Failed to return the added item.", four, it.previous() );
+		it.remove();
+		assertEquals( "Failed to move past removed item.", five, it.next() );
+		it.remove();
+		assertFalse( it.hasNext() );
+
+		it = myList.listIterator();
+		it.next();
+		it.remove();
+		it.add( 11 );
+
+		assertArrayEquals( "Failed to edit at the cursor.", new Integer[] { 11, two, 33 }, myList.toArray() );
+		assertEquals( "Failed to link tail.", Integer.valueOf( 33 ), myList.getLast() );
+		assertEquals( "Failed to link head.", Integer.valueOf( 11 ), myList.getFirst() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to throw IllegalStateException when removing or setting without a current item.
+	 */
+	@Test
+	public void testListIterator_IllegalStateException()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.remove();
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		it.next();
+		it.remove();
+		try
+		{
+			it.set( two );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertTrue( "Failed to remove item.", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#iterator()}
+	 * to throw ConcurrentModificationException when the list changes during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModification()
+	{
+		myList.add( one );
+		myList.add( two );
+		Iterator<Integer> it = myList.iterator();
+		it.next();
+		myList.remove( one );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to accept its own edits but fail fast on edits made around it.
+	 */
+	@Test
+	public void testListIterator_ConcurrentModification()
+	{
+		myList.add( one );
+		myList.add( two );
+		ListIterator<Integer> it = myList.listIterator();
+		it.next();
+		it.remove();
+		it.add( three );
+		assertEquals( "Failed to continue after own edits.", two, it.next() );
+
+		myList.addFirst( four );
+		try
+		{
+			it.previous();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#get(int)} and
+	 * {@link implementations.MyDLL#set(int, java.lang.Object)}
+	 * to return the right items when scanning up, down and jumping around the list.
+	 */
+	@Test
+	public void testGetSet_IndexedScan()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to return item at position.", Integer.valueOf( i ), myList.get( i ) );
+		}
+		for( int i = 999; i >= 0; i-- )
+		{
+			myList.set( i, i * 2 );
+		}
+		int[] jumps = { 500, 499, 501, 10, 990, 250, 750, 0, 999 };
+		for( int index : jumps )
+		{
+			assertEquals( "Failed to return item at position.", Integer.valueOf( index * 2 ), myList.get( index ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#get(int)}
+	 * to stay consistent with MyArrayList through a mix of indexed adds, removes and reads.
+	 */
+	@Test
+	public void testGet_AfterMixedEdits()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		Random random = new Random( 42 );
+		for( int step = 0; step < 2000; step++ )
+		{
+			int choice = random.nextInt( 4 );
+			if( choice == 0 || expected.size() == 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else if( choice == 1 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove item at position.", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to return item at position.", expected.get( index ), myList.get( index ) );
+			}
+		}
+		assertArrayEquals( "Failed to keep list in order.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#MyDLL(int)}
+	 * to recycle removed nodes up to the pool capacity and reuse them for adds.
+	 */
+	@Test
+	public void testNodePool_Churn()
+	{
+		MyDLL<Integer> pooled = new MyDLL<>( 4 );
+		for( int i = 0; i < 10; i++ )
+		{
+			pooled.addLast( i );
+		}
+		for( int i = 0; i < 6; i++ )
+		{
+			assertEquals( "Failed to remove head.", Integer.valueOf( i ), pooled.removeFirst() );
+		}
+		assertEquals( "Failed to bound the pool.", 4, pooled.pooledNodeCount() );
+
+		pooled.addLast( 10 );
+		pooled.add( 1, 11 );
+		assertEquals( "Failed to reuse pooled nodes.", 2, pooled.pooledNodeCount() );
+		assertArrayEquals( "Failed to keep list in order.", new Integer[] { 6, 11, 7, 8, 9, 10 }, pooled.toArray() );
+
+		pooled.removeRange( 1, 3 );
+		pooled.clear();
+		assertEquals( "Failed to bound the pool.", 4, pooled.pooledNodeCount() );
+		assertTrue( "Failed to clear list.", pooled.isEmpty() );
+
+		pooled.addLast( one );
+		pooled.addFirst( two );
+		assertArrayEquals( "Failed to link reused nodes.", new Integer[] { two, one }, pooled.toArray() );
+		assertEquals( "Failed to link tail.", one, pooled.getLast() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#MyDLL(int)}
+	 * to keep no nodes without a pool and reject a negative pool capacity.
+	 */
+	@Test
+	public void testNodePool_Disabled()
+	{
+		myList.add( one );
+		myList.remove( 0 );
+		assertEquals( "Failed to leave pooling off.", 0, myList.pooledNodeCount() );
+		try
+		{
+			new MyDLL<Integer>( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#offerFirst(java.lang.Object)},
+	 * {@link implementations.MyDLL#offerLast(java.lang.Object)},
+	 * {@link implementations.MyDLL#pollFirst()} and
+	 * {@link implementations.MyDLL#pollLast()}
+	 * to work as a deque at both ends.
+	 */
+	@Test
+	public void testDeque_OfferPoll()
+	{
+		assertTrue( myList.offerLast( two ) );
+		assertTrue( myList.offerFirst( one ) );
+		assertTrue( myList.offerLast( three ) );
+		assertEquals( "Failed to peek head.", one, myList.peekFirst() );
+		assertEquals( "Failed to peek tail.", three, myList.peekLast() );
+
+		assertEquals( "Failed to poll tail.", three, myList.pollLast() );
+		assertEquals( "Failed to poll head.", one, myList.pollFirst() );
+		assertEquals( "Failed to poll last item.", two, myList.pollFirst() );
+		assertNull( "Failed to return null when empty.", myList.pollFirst() );
+		assertNull( "Failed to return null when empty.", myList.pollLast() );
+		assertNull( "Failed to return null when empty.", myList.peekFirst() );
+		assertNull( "Failed to return null when empty.", myList.peekLast() );
+
+		myList.offerFirst( four );
+		assertEquals( "Failed to relink after emptying.", four, myList.getLast() );
+		try
+		{
+			myList.offerFirst( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeFirst()},
+	 * {@link implementations.MyDLL#removeLast()},
+	 * {@link implementations.MyDLL#getFirst()} and
+	 * {@link implementations.MyDLL#getLast()}
+	 * to throw IndexOutOfBoundsException when the list is empty.
+	 */
+	@Test
+	public void testDeque_EmptyExceptions()
+	{
+		try
+		{
+			myList.removeFirst();
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.removeLast();
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.getFirst();
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.getLast();
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#descendingIterator()}
+	 * to walk the list from tail to head.
+	 */
+	@Test
+	public void testDescendingIterator()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		Iterator<Integer> it = myList.descendingIterator();
+		assertEquals( "Failed to return item at position.", three, it.next() );
+		assertEquals( "Failed to return item at position.", two, it.next() );
+		assertEquals( "Failed to return item at position.", one, it.next() );
+		assertFalse( it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyDLL}
+	 * to copy a list long enough to overflow the stack if nodes were
+	 * serialized recursively.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization_LongList() throws Exception
+	{
+		MyDLL<Integer> list = new MyDLL<>( 8 );
+		for( int i = 0; i < 100_000; i++ )
+		{
+			list.add( i );
+		}
+		MyDLL<Integer> copy = roundTrip( list );
+		assertEquals( "Failed to keep size.", 100_000, copy.size() );
+		assertEquals( "Failed to keep order.", Integer.valueOf( 0 ), copy.getFirst() );
+		assertEquals( "Failed to keep order.", Integer.valueOf( 99_999 ), copy.getLast() );
+		assertEquals( "Failed to relink nodes.", Integer.valueOf( 50_000 ), copy.get( 50_000 ) );
+		copy.removeFirst();
+		assertEquals( "Failed to keep pool capacity.", 1, copy.pooledNodeCount() );
+		assertTrue( "Failed to copy empty list.", roundTrip( new MyDLL<Integer>() ).isEmpty() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
 }
@@ -0,0 +1,257 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.ElementIndex;
+import appDomain.TagEvent;
+import appDomain.TagListener;
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for ElementIndex: the offsets and lines XMLParser records point at the
+ * element's tags in the file's bytes, the depth range and find work, and a
+ * file that is not a complete index is rejected.
+ */
+
+public class ElementIndexTest
+{
+	// Attributes
+	private TempXMLFile xml;
+	private File index;
+
+	/**
+	 * Creates the temporary XML and index files before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "index" );
+		index = xml.sibling( ".idx" );
+	}
+
+	/**
+	 * Deletes the temporary files after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+	}
+
+	/**
+	 * Writes the document and parses it with the index enabled for the given depths.
+	 */
+	private byte[] parse( String text, int minDepth, int maxDepth ) throws IOException
+	{
+		byte[] bytes = xml.write( text );
+		XMLParser parser = new XMLParser();
+		parser.enableElementIndex( index.getPath(), minDepth, maxDepth );
+		parser.parseFile( xml.getPath() );
+		return bytes;
+	}
+
+	/**
+	 * Returns the UTF-8 text of the file between two byte offsets.
+	 */
+	private static String slice( byte[] bytes, long from, long to )
+	{
+		return new String( Arrays.copyOfRange( bytes, (int) from, (int) to ), StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Test method for the exact offsets, lines and depths of a small document.
+	 */
+	@Test
+	public void testOffsets_SmallDocument() throws IOException
+	{
+		parse( "<root>\n<a>x</a><b/>\n</root>\n", 1, Integer.MAX_VALUE );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to index every element.", 3, ix.size() );
+
+			assertEquals( "Failed to name the root.", "root", ix.getTagName( 0 ) );
+			assertEquals( "Failed to find the root's start.", 0, ix.getStart( 0 ) );
+			assertEquals( "Failed to find the root's end.", 27, ix.getEnd( 0 ) );
+			assertEquals( "Failed to find the root's line.", 1, ix.getLine( 0 ) );
+			assertEquals( "Failed to find the root's end line.", 3, ix.getEndLine( 0 ) );
+			assertEquals( "Failed to find the root's depth.", 1, ix.getDepth( 0 ) );
+
+			assertEquals( "Failed to name the child.", "a", ix.getTagName( 1 ) );
+			assertEquals( "Failed to find the child's start.", 7, ix.getStart( 1 ) );
+			assertEquals( "Failed to find the child's end.", 15, ix.getEnd( 1 ) );
+			assertEquals( "Failed to find the child's line.", 2, ix.getLine( 1 ) );
+			assertEquals( "Failed to find the child's depth.", 2, ix.getDepth( 1 ) );
+
+			assertEquals( "Failed to name the self-closing tag.", "b", ix.getTagName( 2 ) );
+			assertEquals( "Failed to find the self-closing start.", 15, ix.getStart( 2 ) );
+			assertEquals( "Failed to find the self-closing end.", 19, ix.getEnd( 2 ) );
+			assertEquals( "Failed to find the self-closing end line.", 2, ix.getEndLine( 2 ) );
+		}
+	}
+
+	/**
+	 * Test method for byte offsets past multi-byte characters, tabs and CRLF line ends.
+	 */
+	@Test
+	public void testOffsets_MatchBytes() throws IOException
+	{
+		byte[] bytes = parse( "<?xml version=\"1.0\"?>\r\n  <root>\n\t<r a=\"é😀\">ünï</r><r>x</r>\r\n"
+				+ " <r/><b>日本<c>ç</c></b>\n<d>\n</d></root>\n", 1, Integer.MAX_VALUE );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to index every element.", 7, ix.size() );
+			for( long i = 0; i < ix.size(); i++ )
+			{
+				String name = ix.getTagName( i );
+				String element = slice( bytes, ix.getStart( i ), ix.getEnd( i ) );
+				assertTrue( "Failed to start at the opening tag of " + name + ".", element.startsWith( "<" + name ) );
+				assertTrue( "Failed to end after the closing tag of " + name + ".",
+						element.endsWith( "</" + name + ">" ) || element.endsWith( "/>" ) );
+			}
+		}
+	}
+
+	/**
+	 * Test method for elements that are never closed.
+	 */
+	@Test
+	public void testUnclosed_EndIsMinusOne() throws IOException
+	{
+		parse( "<root>\n<a>\n<b></b>\n", 1, Integer.MAX_VALUE );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to index every element.", 3, ix.size() );
+			assertEquals( "Failed to mark the root unclosed.", -1, ix.getEnd( 0 ) );
+			assertEquals( "Failed to mark the root's end line unknown.", -1, ix.getEndLine( 0 ) );
+			assertEquals( "Failed to mark the child unclosed.", -1, ix.getEnd( 1 ) );
+			assertTrue( "Failed to close the inner element.", ix.getEnd( 2 ) > ix.getStart( 2 ) );
+		}
+	}
+
+	/**
+	 * Test method for indexing only a range of depths.
+	 */
+	@Test
+	public void testDepthFilter() throws IOException
+	{
+		parse( "<root>\n<rec><f/></rec>\n<rec><f/></rec>\n</root>\n", 2, 2 );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to index only depth 2.", 2, ix.size() );
+			assertEquals( "Failed to keep the records.", "rec", ix.getTagName( 0 ) );
+			assertEquals( "Failed to keep the records.", "rec", ix.getTagName( 1 ) );
+			assertEquals( "Failed to store the depth.", 2, ix.getDepth( 1 ) );
+		}
+	}
+
+	/**
+	 * Test method for finding the n-th element with a name.
+	 */
+	@Test
+	public void testFind() throws IOException
+	{
+		parse( "<root>\n<r/><s/><r/><r/>\n</root>\n", 1, Integer.MAX_VALUE );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to find the first r.", 1, ix.find( "r", 0 ) );
+			assertEquals( "Failed to find the third r.", 4, ix.find( "r", 2 ) );
+			assertEquals( "Failed to report too few elements.", -1, ix.find( "r", 3 ) );
+			assertEquals( "Failed to report an unknown name.", -1, ix.find( "zz", 0 ) );
+			assertEquals( "Failed to reject a negative n.", -1, ix.find( "r", -1 ) );
+		}
+	}
+
+	/**
+	 * Test method for rejecting a file that is not an element index.
+	 */
+	@Test
+	public void testOpen_CorruptFileRejected() throws IOException
+	{
+		Files.write( index.toPath(), "not an index at all, just some text".getBytes( StandardCharsets.UTF_8 ) );
+		try
+		{
+			ElementIndex.open( index.getPath() ).close();
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for rejecting an index whose records were cut off.
+	 */
+	@Test
+	public void testOpen_TruncatedFileRejected() throws IOException
+	{
+		parse( "<root>\n<r/><r/><r/>\n</root>\n", 1, Integer.MAX_VALUE );
+		byte[] bytes = Files.readAllBytes( index.toPath() );
+		Files.write( index.toPath(), Arrays.copyOf( bytes, bytes.length - 40 ) );
+		try
+		{
+			ElementIndex.open( index.getPath() ).close();
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for a failed parse leaving the earlier index in place and
+	 * no temporary file behind.
+	 */
+	@Test
+	public void testFailedParse_KeepsEarlierIndex() throws IOException
+	{
+		parse( "<root>\n<r/><r/>\n</root>\n", 1, Integer.MAX_VALUE );
+		XMLParser parser = new XMLParser();
+		parser.enableElementIndex( index.getPath() );
+		parser.addListener( new TagListener()
+		{
+			@Override
+			public void onSelfClosing( TagEvent event )
+			{
+				throw new IllegalStateException( "Interrupted" );
+			}
+		} );
+		try
+		{
+			parser.parseFile( xml.getPath() );
+			fail( "Failed to interrupt the parse." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertFalse( "Failed to delete the temporary file.", xml.sibling( ".idx.tmp" ).exists() );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to keep the earlier index.", 3, ix.size() );
+		}
+
+		parse( "<root>\n<r/>\n</root>\n", 1, Integer.MAX_VALUE );
+		assertFalse( "Failed to move the temporary file into place.", xml.sibling( ".idx.tmp" ).exists() );
+		try( ElementIndex ix = ElementIndex.open( index.getPath() ) )
+		{
+			assertEquals( "Failed to replace the earlier index.", 2, ix.size() );
+		}
+	}
+}
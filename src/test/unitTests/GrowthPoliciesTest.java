@@ -0,0 +1,81 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import implementations.GrowthPolicies;
+import utilities.GrowthPolicy;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the standard growth policies.
+ */
+
+public class GrowthPoliciesTest
+{
+	/**
+	 * Test method for
+	 * {@link implementations.GrowthPolicies#doubling()} and
+	 * {@link implementations.GrowthPolicies#halfAgain()}.
+	 */
+	@Test
+	public void testFactors()
+	{
+		assertEquals( "Failed to double.", 20, GrowthPolicies.doubling().grow( 10, 11 ) );
+		assertEquals( "Failed to grow by half.", 15, GrowthPolicies.halfAgain().grow( 10, 11 ) );
+		assertEquals( "Failed to saturate.", Integer.MAX_VALUE - 8,
+				GrowthPolicies.doubling().grow( Integer.MAX_VALUE - 100, Integer.MAX_VALUE - 99 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GrowthPolicies#fixed(int)}.
+	 */
+	@Test
+	public void testFixed()
+	{
+		assertEquals( "Failed to add increment.", 42, GrowthPolicies.fixed( 32 ).grow( 10, 11 ) );
+		try
+		{
+			GrowthPolicies.fixed( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GrowthPolicies#capped(GrowthPolicy, int)}.
+	 */
+	@Test
+	public void testCapped()
+	{
+		GrowthPolicy capped = GrowthPolicies.capped( GrowthPolicies.doubling(), 100 );
+		assertEquals( "Failed to grow below the cap.", 80, capped.grow( 40, 41 ) );
+		assertEquals( "Failed to stop at the cap.", 100, capped.grow( 80, 81 ) );
+		try
+		{
+			capped.grow( 100, 101 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			GrowthPolicies.capped( null, 100 );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for XMLParser.parseFileIncremental: after an append only the new
+ * bytes are parsed, the result always matches a full parse, and an edited
+ * or unterminated file is handled without losing errors.
+ */
+
+public class IncrementalTest
+{
+	// Attributes
+	private TempXMLFile xml;
+	private File state;
+
+	/**
+	 * Creates the temporary XML and state files before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "incremental" );
+		state = xml.sibling( ".state" );
+	}
+
+	/**
+	 * Deletes the temporary files after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+	}
+
+	/**
+	 * Returns a block of log records, some with an unclosed tag.
+	 */
+	private String records( int from, int to )
+	{
+		StringBuilder sb = new StringBuilder();
+		for( int i = from; i < to; i++ )
+		{
+			if( i % 11 == 5 )
+			{
+				sb.append( "  <entry><msg>bad</entry>\n" );
+			}
+			else
+			{
+				sb.append( "  <entry id=\"" ).append( i ).append( "\"><msg>ok</msg><br/></entry>\n" );
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Test method for resuming after an append at the previous file length.
+	 */
+	@Test
+	public void testAppend_ResumesAtPreviousLength() throws IOException
+	{
+		xml.write( "<log>\n" + records( 0, 50 ) );
+		XMLParser parser = new XMLParser();
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to parse from the start the first time.", 0, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+		assertTrue( "Failed to save the state.", state.exists() );
+
+		long previousLength = xml.length();
+		xml.append( records( 50, 120 ) + "</log>\n" );
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to resume at the previous length.", previousLength, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for several appends in a row.
+	 */
+	@Test
+	public void testAppend_Repeated() throws IOException
+	{
+		xml.write( "<log>\n" );
+		XMLParser parser = new XMLParser();
+		for( int i = 0; i < 5; i++ )
+		{
+			long previousLength = xml.length();
+			xml.append( records( i * 20, i * 20 + 20 ) );
+			parser.parseFileIncremental( xml.getPath(), state.getPath() );
+			assertEquals( "Failed to resume at the previous length.", i == 0 ? 0 : previousLength, parser.getResumedOffset() );
+			assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+		}
+		xml.append( "</log>\n" );
+		boolean valid = parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertFalse( "Failed to report the unclosed tags.", valid );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for starting over when the parsed part of the file was edited.
+	 */
+	@Test
+	public void testEditedPrefix_StartsOver() throws IOException
+	{
+		xml.write( "<log>\n" + records( 0, 30 ) );
+		XMLParser parser = new XMLParser();
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+
+		xml.write( "<log>\n<extra>\n" + records( 0, 30 ) + "</log>\n" );
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to start over.", 0, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for a last line without a terminator being extended by an append.
+	 */
+	@Test
+	public void testUnterminatedLastLine_Extended() throws IOException
+	{
+		xml.write( "<log>\n  <entry><msg>ok</msg></en" );
+		XMLParser parser = new XMLParser();
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+
+		xml.append( "try>\n</log>\n" );
+		boolean valid = parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to resume before the unterminated line.", "<log>\n".length(), parser.getResumedOffset() );
+		assertTrue( "Failed to validate the completed line.", valid );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+
+	/**
+	 * Test method for a missing or corrupt state file.
+	 */
+	@Test
+	public void testCorruptState_FullParse() throws IOException
+	{
+		xml.write( "<log>\n" + records( 0, 30 ) + "</log>\n" );
+		Files.write( state.toPath(), new byte[] { 'X', 'C', 'K', 'P', 9 } );
+		XMLParser parser = new XMLParser();
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to start over.", 0, parser.getResumedOffset() );
+		assertEquals( "Failed to report the same errors as a full parse.", xml.fullParseErrors(), parser.getErrors() );
+	}
+}
@@ -0,0 +1,223 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.MyMpmcQueue;
+import implementations.MyQueue;
+import implementations.SpinThenParkWaitStrategy;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the lock-free multi-producer/multi-consumer implementation of the
+ * QueueADT defined in the CPRG 304 Assignment 2.
+ */
+
+public class MpmcQueueTest
+{
+	// Attributes
+	private MyMpmcQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyMpmcQueue instance and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyMpmcQueue<Integer>( 3 );
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMpmcQueue#MyMpmcQueue(int)}
+	 * to round the capacity up to a power of two.
+	 */
+	@Test
+	public void testConstructor_Capacity()
+	{
+		assertEquals( "Failed to round capacity up.", 4, queue.capacity() );
+		assertTrue( queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMpmcQueue#offer(java.lang.Object)} and
+	 * {@link implementations.MyMpmcQueue#poll()}
+	 * to keep first-in first-out order across several laps of the ring.
+	 */
+	@Test
+	public void testOfferPoll_SeveralLaps()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			assertTrue( queue.offer( i ) );
+			assertTrue( queue.offer( i + 100 ) );
+			assertEquals( Integer.valueOf( i ), queue.poll() );
+			assertEquals( Integer.valueOf( i + 100 ), queue.poll() );
+		}
+		assertNull( queue.poll() );
+
+		for( int i = 0; i < 4; i++ )
+		{
+			assertTrue( queue.offer( i ) );
+		}
+		assertFalse( "Failed to reject when full.", queue.offer( one ) );
+		assertTrue( queue.isFull() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMpmcQueue#dequeue()} and
+	 * {@link implementations.MyMpmcQueue#peek()}
+	 * to throw EmptyQueueException when the queue is empty.
+	 */
+	@Test
+	public void testDequeuePeek_Empty()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		queue.enqueue( one );
+		assertEquals( "Failed to peek front.", one, queue.peek() );
+		assertEquals( "Failed to maintain size.", 1, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMpmcQueue#equals(utilities.QueueADT)}
+	 * to compare equal to a MyQueue holding the same items.
+	 */
+	@Test
+	public void testEquals_MyQueue()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( one );
+		queue.enqueue( two );
+		other.enqueue( one );
+		other.enqueue( two );
+		assertTrue( queue.equals( other ) );
+
+		queue.enqueue( three );
+		assertFalse( queue.equals( other ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMpmcQueue#put(java.lang.Object)} and
+	 * {@link implementations.MyMpmcQueue#take()}
+	 * to deliver every item exactly once with several producers and consumers.
+	 * @throws Exception
+	 */
+	@Test
+	public void testPutTake_ManyProducersConsumers() throws Exception
+	{
+		final int threads = 4;
+		final int perProducer = 25000;
+		final MyMpmcQueue<Integer> shared = new MyMpmcQueue<Integer>( 16, new SpinThenParkWaitStrategy() );
+		final AtomicLong sum = new AtomicLong();
+		Thread[] workers = new Thread[threads * 2];
+
+		for( int p = 0; p < threads; p++ )
+		{
+			workers[p] = new Thread( () -> {
+				try
+				{
+					for( int i = 1; i <= perProducer; i++ )
+					{
+						shared.put( i );
+					}
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			} );
+		}
+		for( int c = 0; c < threads; c++ )
+		{
+			workers[threads + c] = new Thread( () -> {
+				try
+				{
+					for( int i = 0; i < perProducer; i++ )
+					{
+						sum.addAndGet( shared.take() );
+					}
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			} );
+		}
+		for( Thread t : workers )
+		{
+			t.start();
+		}
+		for( Thread t : workers )
+		{
+			t.join();
+		}
+
+		long expected = (long) threads * perProducer * ( perProducer + 1 ) / 2;
+		assertEquals( "Failed to deliver every item exactly once.", expected, sum.get() );
+		assertTrue( shared.isEmpty() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyMpmcQueue}, which
+	 * is refused rather than failing on its wait strategy.
+	 * @throws Exception if writing fails for another reason
+	 */
+	@Test
+	public void testSerialization_Rejected() throws Exception
+	{
+		MyMpmcQueue<Integer> other = new MyMpmcQueue<Integer>( 4 );
+		other.enqueue( one );
+		try( ObjectOutputStream out = new ObjectOutputStream( new ByteArrayOutputStream() ) )
+		{
+			out.writeObject( other );
+			fail( "Failed to throw NotSerializableException." );
+		}
+		catch( NotSerializableException e )
+		{
+			assertTrue( e.getMessage().contains( "MyMpmcQueue" ) );
+		}
+	}
+}
@@ -0,0 +1,250 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.OffHeapLongList;
+import utilities.LongIterator;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the off-heap implementation of the LongIndexedListADT. A chunk
+ * capacity of 4 is used so that values cross chunk boundaries often.
+ */
+
+public class OffHeapLongListTest
+{
+	// Attributes
+	private OffHeapLongList list;
+
+	/**
+	 * Initializes a new OffHeapLongList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		list = new OffHeapLongList( 4 );
+	}
+
+	/**
+	 * Releases the list's memory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		list.close();
+		list = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#add(long)} and
+	 * {@link implementations.OffHeapLongList#get(long)}
+	 * to store values across many chunks.
+	 */
+	@Test
+	public void testAddGet_ManyChunks()
+	{
+		for( long i = 0; i < 50; i++ )
+		{
+			list.add( i * 1_000_000_000L );
+		}
+		assertEquals( "Failed to update size.", 50, list.size() );
+		assertEquals( "Failed to allocate whole chunks.", 52, list.capacity() );
+		for( long i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to return value at position.", i * 1_000_000_000L, list.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#OffHeapLongList(int)}
+	 * to round the chunk capacity up and reject invalid values.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		try( OffHeapLongList other = new OffHeapLongList( 5 ) )
+		{
+			other.add( 1L );
+			assertEquals( "Failed to round chunk capacity up.", 8, other.capacity() );
+		}
+		try
+		{
+			new OffHeapLongList( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#add(long, long)} and
+	 * {@link implementations.OffHeapLongList#remove(long)}
+	 * to shift values across chunk boundaries in both directions.
+	 */
+	@Test
+	public void testInsertRemove_ShiftAcrossChunks()
+	{
+		for( long i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		list.add( 1, 100L );
+		list.add( 0, 200L );
+		list.add( list.size(), 300L );
+		assertArrayEquals( "Failed to shift values up.",
+				new long[] { 200, 0, 100, 1, 2, 3, 4, 5, 6, 7, 8, 9, 300 }, list.toArray() );
+
+		assertEquals( "Failed to return removed value.", 200L, list.remove( 0 ) );
+		assertEquals( "Failed to return removed value.", 4L, list.remove( 5 ) );
+		assertArrayEquals( "Failed to shift values down.",
+				new long[] { 0, 100, 1, 2, 3, 5, 6, 7, 8, 9, 300 }, list.toArray() );
+		try
+		{
+			list.add( 12, 1L );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			list.get( -1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#removeRange(long, long)} and
+	 * {@link implementations.OffHeapLongList#trimToSize()}
+	 * to remove a run spanning chunks and release the chunks left empty.
+	 */
+	@Test
+	public void testRemoveRangeTrim()
+	{
+		for( long i = 0; i < 20; i++ )
+		{
+			list.add( i );
+		}
+		list.removeRange( 3, 17 );
+		assertArrayEquals( "Failed to remove the range.", new long[] { 0, 1, 2, 17, 18, 19 }, list.toArray() );
+
+		list.trimToSize();
+		assertEquals( "Failed to release empty chunks.", 8, list.capacity() );
+		list.add( 20L );
+		assertEquals( "Failed to keep list usable.", 20L, list.get( 6 ) );
+
+		list.clear();
+		list.trimToSize();
+		assertEquals( "Failed to release all chunks.", 0, list.capacity() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#set(long, long)},
+	 * {@link implementations.OffHeapLongList#indexOf(long)} and
+	 * {@link implementations.OffHeapLongList#contains(long)}.
+	 */
+	@Test
+	public void testSetIndexOf()
+	{
+		for( long i = 0; i < 9; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( "Failed to return old value.", 7L, list.set( 7, -7L ) );
+		assertEquals( "Failed to find value.", 7, list.indexOf( -7L ) );
+		assertTrue( list.contains( 8L ) );
+		assertFalse( list.contains( 7L ) );
+		assertEquals( "Failed to return -1 for missing value.", -1, list.indexOf( 99L ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#iterator()}
+	 * to return every value in order and fail fast on changes.
+	 */
+	@Test
+	public void testIterator()
+	{
+		list.add( 5L );
+		list.add( 6L );
+		LongIterator it = list.iterator();
+		assertEquals( "Failed to return value at position.", 5L, it.nextLong() );
+		assertEquals( "Failed to return value at position.", 6L, it.nextLong() );
+		try
+		{
+			it.nextLong();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+
+		it = list.iterator();
+		list.add( 7L );
+		try
+		{
+			it.nextLong();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapLongList#close()}
+	 * to release the list so that further use throws IllegalStateException.
+	 */
+	@Test
+	public void testClose()
+	{
+		list.add( 1L );
+		list.close();
+		list.close();
+		assertEquals( "Failed to report empty after close.", 0, list.size() );
+		try
+		{
+			list.add( 2L );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			list.get( 0 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
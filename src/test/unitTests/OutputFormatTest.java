@@ -0,0 +1,135 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.OutputFormat;
+import appDomain.Parser;
+import appDomain.ValidationResult;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for OutputFormat: JSON strings are escaped, CSV fields are quoted when
+ * needed, format names are parsed, and a file that cannot be read is reported
+ * as an ERROR result in every format.
+ */
+
+public class OutputFormatTest
+{
+	// Attributes
+	private StringBuilder out;
+
+	/**
+	 * Creates the output buffer before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		out = new StringBuilder();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		out = null;
+	}
+
+	/**
+	 * Test method for escaping quotes, backslashes and control characters in JSONL.
+	 */
+	@Test
+	public void testJsonl_Escaping()
+	{
+		ValidationResult result = new ValidationResult( "dir\\a \"b\".xml", false,
+				Arrays.asList( "line1\nline2\r\tend", "bell\u0007 nul\u0000 é" ), 12, 34 );
+		OutputFormat.JSONL.appendResult( result, out );
+		assertEquals( "Failed to escape the record.",
+				"{\"path\":\"dir\\\\a \\\"b\\\".xml\",\"valid\":false,"
+						+ "\"errors\":[\"line1\\nline2\\r\\tend\",\"bell\\u0007 nul\\u0000 é\"],"
+						+ "\"bytes\":12,\"nanos\":34}\n",
+				out.toString() );
+		assertEquals( "Failed to keep the record on one line.", out.length() - 1, out.indexOf( "\n" ) );
+	}
+
+	/**
+	 * Test method for quoting CSV fields with commas, quotes and line breaks.
+	 */
+	@Test
+	public void testCsv_Quoting()
+	{
+		ValidationResult result = new ValidationResult( "a,b.xml", false,
+				Arrays.asList( "say \"hi\"", "two\nlines" ), 5, 6 );
+		OutputFormat.CSV.appendResult( result, out );
+		assertEquals( "Failed to quote the fields.",
+				"\"a,b.xml\",false,2,\"say \"\"hi\"\" | two\nlines\",5,6\n", out.toString() );
+
+		out.setLength( 0 );
+		OutputFormat.CSV.appendResult( new ValidationResult( "plain.xml", true, Collections.<String>emptyList(), 1, 2 ), out );
+		assertEquals( "Failed to leave plain fields unquoted.", "plain.xml,true,0,,1,2\n", out.toString() );
+		assertEquals( "Failed to write the header.", "path,valid,error_count,errors,bytes,nanos\n", OutputFormat.CSV.header() );
+		assertEquals( "Failed to write no JSONL header.", "", OutputFormat.JSONL.header() );
+	}
+
+	/**
+	 * Test method for parsing format names.
+	 */
+	@Test
+	public void testFromString()
+	{
+		assertEquals( "Failed to parse jsonl.", OutputFormat.JSONL, OutputFormat.fromString( "jsonl" ) );
+		assertEquals( "Failed to ignore case and spaces.", OutputFormat.CSV, OutputFormat.fromString( " Csv " ) );
+		assertFalse( "Failed to treat text as human-readable.", OutputFormat.fromString( "TEXT" ).isMachineReadable() );
+		try
+		{
+			OutputFormat.fromString( "xml" );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for the ERROR result of a file that cannot be read.
+	 */
+	@Test
+	public void testValidateFile_MissingFile() throws Exception
+	{
+		File missing = File.createTempFile( "missing", ".xml" );
+		missing.delete();
+		ValidationResult result = new Parser( OutputFormat.TEXT, 1, true ).validateFile( missing.getPath() );
+
+		assertFalse( "Failed to report the file as invalid.", result.isValid() );
+		assertNotNull( "Failed to report the failure.", result.getFailure() );
+		assertEquals( "Failed to report a single error.", 1, result.getErrors().size() );
+		assertEquals( "Failed to prefix the error.", "ERROR: " + result.getFailure(), result.getErrors().get( 0 ) );
+		assertEquals( "Failed to report no bytes.", 0, result.getBytes() );
+
+		OutputFormat.TEXT.appendResult( result, out );
+		assertTrue( "Failed to print the text error.", out.toString().contains( "  ✗ ERROR: " + result.getFailure() + "\n" ) );
+
+		out.setLength( 0 );
+		OutputFormat.JSONL.appendResult( result, out );
+		assertTrue( "Failed to write the JSONL error.", out.toString().contains( "\"valid\":false,\"errors\":[\"ERROR: " ) );
+
+		out.setLength( 0 );
+		OutputFormat.CSV.appendResult( result, out );
+		assertTrue( "Failed to write the CSV error.", out.toString().contains( ",false,1," ) );
+		assertTrue( "Failed to write the CSV error message.", out.toString().contains( "ERROR: " ) );
+	}
+}
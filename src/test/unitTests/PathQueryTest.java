@@ -0,0 +1,190 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.PathQuery;
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for PathQuery: child, descendant and wildcard steps match the right
+ * elements during a parse, with their offsets and lines, and invalid paths
+ * are rejected.
+ */
+
+public class PathQueryTest
+{
+	// Attributes
+	private static final String DOCUMENT = "<catalog>\n"
+			+ "<book><title>A</title><author/></book>\n"
+			+ "<book><title>B</title><ch><title>C</title></ch></book>\n"
+			+ "<shelf><book><title>D</title></book></shelf>\n"
+			+ "</catalog>\n";
+	private TempXMLFile xml;
+	private XMLParser parser;
+
+	/**
+	 * Creates the temporary XML file and a parser before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "query" );
+		xml.write( DOCUMENT );
+		parser = new XMLParser();
+	}
+
+	/**
+	 * Deletes the temporary file after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+		parser = null;
+	}
+
+	/**
+	 * Adds a query, parses the file and returns the number of matches.
+	 */
+	private int count( String path ) throws IOException
+	{
+		parser.clearPathQueries();
+		PathQuery query = parser.addPathQuery( path );
+		parser.parseFile( xml.getPath() );
+		return query.getMatchCount();
+	}
+
+	/**
+	 * Test method for child steps from the root.
+	 */
+	@Test
+	public void testCount_ChildSteps() throws IOException
+	{
+		assertEquals( "Failed to match child steps.", 2, count( "/catalog/book/title" ) );
+		assertEquals( "Failed to match the root.", 1, count( "/catalog" ) );
+		assertEquals( "Failed to require the first step at the root.", 0, count( "/book" ) );
+	}
+
+	/**
+	 * Test method for descendant steps.
+	 */
+	@Test
+	public void testCount_DescendantSteps() throws IOException
+	{
+		assertEquals( "Failed to match //book/title.", 3, count( "//book/title" ) );
+		assertEquals( "Failed to match //title.", 4, count( "//title" ) );
+		assertEquals( "Failed to match /catalog//title.", 4, count( "/catalog//title" ) );
+		assertEquals( "Failed to match /catalog/book//title.", 3, count( "/catalog/book//title" ) );
+		assertEquals( "Failed to match //book.", 3, count( "//book" ) );
+	}
+
+	/**
+	 * Test method for wildcard steps.
+	 */
+	@Test
+	public void testCount_Wildcard() throws IOException
+	{
+		assertEquals( "Failed to match /catalog/*.", 3, count( "/catalog/*" ) );
+		assertEquals( "Failed to match /catalog/*/title.", 2, count( "/catalog/*/title" ) );
+		assertEquals( "Failed to match //*.", 11, count( "//*" ) );
+	}
+
+	/**
+	 * Test method for the offsets and lines of matches.
+	 */
+	@Test
+	public void testMatches_OffsetsAndLines() throws IOException
+	{
+		PathQuery titles = parser.addPathQuery( "//title" );
+		PathQuery authors = parser.addPathQuery( "//author" );
+		parser.parseFile( xml.getPath() );
+
+		assertEquals( "Failed to match every title.", 4, titles.getMatchCount() );
+		long start = DOCUMENT.indexOf( "<title>A" );
+		assertEquals( "Failed to find the start of the first title.", start, titles.getStart( 0 ) );
+		assertEquals( "Failed to find the end of the first title.", start + "<title>A</title>".length(), titles.getEnd( 0 ) );
+		assertEquals( "Failed to find the line of the first title.", 2, titles.getLine( 0 ) );
+		assertEquals( "Failed to find the start of the nested title.", DOCUMENT.indexOf( "<title>C" ), titles.getStart( 2 ) );
+		assertEquals( "Failed to find the line of the last title.", 4, titles.getLine( 3 ) );
+
+		long author = DOCUMENT.indexOf( "<author/>" );
+		assertEquals( "Failed to match the self-closing tag.", 1, authors.getMatchCount() );
+		assertEquals( "Failed to find the self-closing start.", author, authors.getStart( 0 ) );
+		assertEquals( "Failed to find the self-closing end.", author + "<author/>".length(), authors.getEnd( 0 ) );
+	}
+
+	/**
+	 * Test method for matches that are never closed, and for resetting between parses.
+	 */
+	@Test
+	public void testMatches_UnclosedAndReset() throws IOException
+	{
+		PathQuery query = parser.addPathQuery( "/a/b" );
+		xml.write( "<a>\n<b>\n" );
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to match the unclosed element.", 1, query.getMatchCount() );
+		assertEquals( "Failed to mark the match unclosed.", -1, query.getEnd( 0 ) );
+
+		xml.write( "<a><b/><b/></a>\n" );
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to reset the matches between parses.", 2, query.getMatchCount() );
+		assertTrue( "Failed to close the match.", query.getEnd( 0 ) > query.getStart( 0 ) );
+	}
+
+	/**
+	 * Test method for rejecting invalid paths.
+	 */
+	@Test
+	public void testInvalidPaths() throws IOException
+	{
+		String[] invalid = { "book", "", "/", "/a//", "/a/ b", "/a/<b>", "///a" };
+		for( String path : invalid )
+		{
+			try
+			{
+				new PathQuery( path );
+				fail( "Failed to throw IllegalArgumentException for '" + path + "'." );
+			}
+			catch( IllegalArgumentException e )
+			{
+				assertTrue( true );
+			}
+		}
+
+		StringBuilder tooLong = new StringBuilder();
+		for( int i = 0; i < 64; i++ )
+		{
+			tooLong.append( "/a" );
+		}
+		try
+		{
+			new PathQuery( tooLong.toString() );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+
+		try
+		{
+			new PathQuery( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
@@ -0,0 +1,359 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.CharArrayList;
+import implementations.IntArrayList;
+import implementations.LongArrayList;
+import utilities.IntIterator;
+import utilities.LongIterator;
+import utilities.CharIterator;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the primitive-specialized array lists (IntArrayList, LongArrayList
+ * and CharArrayList). The three classes share one implementation pattern, so
+ * IntArrayList is covered in depth and the other two for their own types.
+ */
+
+public class PrimitiveArrayListTest
+{
+	// Attributes
+	private IntArrayList ints;
+	private LongArrayList longs;
+	private CharArrayList chars;
+
+	/**
+	 * Initializes the three lists before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		ints = new IntArrayList();
+		longs = new LongArrayList();
+		chars = new CharArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		ints = null;
+		longs = null;
+		chars = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int)} and
+	 * {@link implementations.IntArrayList#get(int)}
+	 * to store values past the default capacity.
+	 */
+	@Test
+	public void testIntAddGet_Grow()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			ints.add( i * 3 );
+		}
+		assertEquals( "Failed to update size.", 100, ints.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to return value at position.", i * 3, ints.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int, int)},
+	 * {@link implementations.IntArrayList#remove(int)} and
+	 * {@link implementations.IntArrayList#removeValue(int)}
+	 * to shift values on insert and remove.
+	 */
+	@Test
+	public void testIntInsertRemove()
+	{
+		ints.add( 10 );
+		ints.add( 30 );
+		ints.add( 1, 20 );
+		ints.add( 0, 5 );
+		assertArrayEquals( "Failed to insert in order.", new int[] { 5, 10, 20, 30 }, ints.toArray() );
+
+		assertEquals( "Failed to return removed value.", 10, ints.remove( 1 ) );
+		assertTrue( "Failed to remove value.", ints.removeValue( 30 ) );
+		assertFalse( "Failed to report missing value.", ints.removeValue( 99 ) );
+		assertArrayEquals( "Failed to remove in order.", new int[] { 5, 20 }, ints.toArray() );
+		try
+		{
+			ints.get( 2 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			ints.add( 3, 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#addAll(int, implementations.IntArrayList)} and
+	 * {@link implementations.IntArrayList#removeRange(int, int)}
+	 * to move blocks of values, including adding a list to itself.
+	 */
+	@Test
+	public void testIntBulkOperations()
+	{
+		ints.addAll( new int[] { 1, 2, 3 } );
+		ints.addAll( 1, ints );
+		assertArrayEquals( "Failed to insert list into itself.", new int[] { 1, 1, 2, 3, 2, 3 }, ints.toArray() );
+
+		ints.removeRange( 1, 4 );
+		assertArrayEquals( "Failed to remove range.", new int[] { 1, 2, 3 }, ints.toArray() );
+		assertFalse( "Failed to return false for empty add.", ints.addAll( new int[0] ) );
+		try
+		{
+			ints.removeRange( 2, 4 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#iterator()}
+	 * to return every value in order and fail fast on changes.
+	 */
+	@Test
+	public void testIntIterator()
+	{
+		ints.add( 7 );
+		ints.add( 8 );
+		IntIterator it = ints.iterator();
+		assertEquals( "Failed to return value at position.", 7, it.nextInt() );
+		assertEquals( "Failed to return value at position.", 8, it.nextInt() );
+		assertFalse( it.hasNext() );
+		try
+		{
+			it.nextInt();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+
+		it = ints.iterator();
+		ints.add( 9 );
+		try
+		{
+			it.nextInt();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#set(int, int)},
+	 * {@link implementations.IntArrayList#contains(int)},
+	 * {@link implementations.IntArrayList#equals(java.lang.Object)} and
+	 * {@link implementations.IntArrayList#toString()}.
+	 */
+	@Test
+	public void testIntSetContainsEquals()
+	{
+		IntArrayList other = new IntArrayList();
+		ints.add( 1 );
+		ints.add( 2 );
+		other.add( 1 );
+		other.add( 4 );
+		assertFalse( ints.equals( other ) );
+
+		assertEquals( "Failed to return old value.", 4, other.set( 1, 2 ) );
+		assertTrue( ints.equals( other ) );
+		assertEquals( "Failed to match hash codes.", ints.hashCode(), other.hashCode() );
+		assertTrue( ints.contains( 2 ) );
+		assertEquals( "Failed to format list.", "[1, 2]", ints.toString() );
+
+		ints.clear();
+		assertTrue( "Failed to clear.", ints.isEmpty() );
+		assertEquals( "Failed to find nothing.", -1, ints.indexOf( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList}
+	 * to hold values beyond the int range.
+	 */
+	@Test
+	public void testLongList()
+	{
+		long big = 5_000_000_000L;
+		for( int i = 0; i < 20; i++ )
+		{
+			longs.add( big + i );
+		}
+		longs.add( 0, -1L );
+		assertEquals( "Failed to update size.", 21, longs.size() );
+		assertEquals( "Failed to return value at position.", big + 19, longs.get( 20 ) );
+		assertEquals( "Failed to find value.", 1, longs.indexOf( big ) );
+
+		LongIterator it = longs.iterator();
+		assertEquals( "Failed to return value at position.", -1L, it.nextLong() );
+		assertEquals( "Failed to return value at position.", big, it.nextLong() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.CharArrayList}
+	 * to hold characters in order.
+	 */
+	@Test
+	public void testCharList()
+	{
+		chars.addAll( new char[] { 'x', 'm', 'l' } );
+		chars.add( 0, '<' );
+		chars.add( '>' );
+		assertArrayEquals( "Failed to keep order.", "<xml>".toCharArray(), chars.toArray() );
+		assertEquals( "Failed to remove value.", 'x', chars.remove( 1 ) );
+
+		CharIterator it = chars.iterator();
+		StringBuilder text = new StringBuilder();
+		while( it.hasNext() )
+		{
+			text.append( it.nextChar() );
+		}
+		assertEquals( "Failed to iterate in order.", "<ml>", text.toString() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#writeTo(java.io.DataOutput)},
+	 * {@link implementations.LongArrayList#readFrom(java.io.DataInput)} and
+	 * the matching methods of the other lists, across several blocks.
+	 * @throws Exception if writing or reading fails
+	 */
+	@Test
+	public void testBinaryCodec() throws Exception
+	{
+		for( int i = 0; i < 5000; i++ )
+		{
+			ints.add( i * 7 );
+			longs.add( i * 1_000_000_007L );
+			chars.add( (char) ( 'a' + i % 26 ) );
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream( bytes );
+		ints.writeTo( out );
+		longs.writeTo( out );
+		chars.writeTo( out );
+		new IntArrayList().writeTo( out );
+		assertEquals( "Failed to write the compact form.", 4 * 4 + 5000 * ( 4 + 8 + 2 ), out.size() );
+
+		DataInputStream in = new DataInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+		assertEquals( "Failed to read ints.", ints, IntArrayList.readFrom( in ) );
+		assertEquals( "Failed to read longs.", longs, LongArrayList.readFrom( in ) );
+		assertEquals( "Failed to read chars.", chars, CharArrayList.readFrom( in ) );
+		assertTrue( "Failed to read empty list.", IntArrayList.readFrom( in ).isEmpty() );
+
+		DataInputStream big = new DataInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+		assertEquals( "Failed to match DataOutput order.", 5000, big.readInt() );
+		big.readInt();
+		assertEquals( "Failed to match DataOutput order.", 7, big.readInt() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#readFrom(java.io.DataInput)}
+	 * to reject a size larger than the data that follows.
+	 */
+	@Test
+	public void testBinaryCodec_Truncated()
+	{
+		byte[] data = { 0x7f, 0, 0, 0, 0, 0, 0, 1 };
+		try
+		{
+			IntArrayList.readFrom( new DataInputStream( new ByteArrayInputStream( data ) ) );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for Java serialization of the primitive lists.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		ints.add( 3 );
+		ints.add( -4 );
+		longs.add( Long.MIN_VALUE );
+		chars.add( 'z' );
+		assertEquals( "Failed to copy ints.", ints, roundTrip( ints ) );
+		assertEquals( "Failed to copy longs.", longs, roundTrip( longs ) );
+		assertEquals( "Failed to copy chars.", chars, roundTrip( chars ) );
+		IntArrayList copy = roundTrip( ints );
+		copy.add( 5 );
+		assertEquals( "Failed to keep list usable.", 5, copy.get( 2 ) );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+}
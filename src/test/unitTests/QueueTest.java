@@ -2,6 +2,11 @@ package test.unitTests;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -10,6 +15,7 @@ import org.junit.Test;
 
 import exceptions.EmptyQueueException;
 import utilities.Iterator;
+import implementations.GrowthPolicies;
 import implementations.MyQueue;
 
 /**
@@ -613,4 +619,103 @@ public class QueueTest
 			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
 		} 
  
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#iterator()}
+	 * to throw ConcurrentModificationException when the queue changes during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModification()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		it.next();
+		queue.dequeue();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#ensureCapacity(int)} and
+	 * {@link implementations.MyQueue#trimToSize()}
+	 * to keep the elements in order when the wrapped array is resized.
+	 */
+	@Test
+	public void testEnsureCapacityTrimToSize()
+	{
+		MyQueue<Integer> small = new MyQueue<>( 4, GrowthPolicies.halfAgain() );
+		for( int i = 0; i < 4; i++ )
+		{
+			small.enqueue( i );
+		}
+		small.dequeue();
+		small.enqueue( 4 );
+		small.enqueue( 5 );
+		assertEquals( "Failed to grow by half.", 6, small.capacity() );
+		small.ensureCapacity( 50 );
+		assertEquals( "Failed to grow to the requested capacity.", 50, small.capacity() );
+		small.trimToSize();
+		assertEquals( "Failed to trim to size.", 5, small.capacity() );
+		small.enqueue( 6 );
+		assertArrayEquals( "Failed to keep order.", new Object[] { 1, 2, 3, 4, 5, 6 }, small.toArray() );
+		small.dequeueAll();
+		small.trimToSize();
+		assertEquals( "Failed to keep one slot.", 1, small.capacity() );
+		small.enqueue( 7 );
+		assertEquals( "Failed to enqueue after trim.", Integer.valueOf( 7 ), small.peek() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyQueue}
+	 * to keep the elements of a wrapped queue in order.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		MyQueue<Integer> wrapped = new MyQueue<>( 4 );
+		wrapped.enqueue( one );
+		wrapped.enqueue( two );
+		wrapped.enqueue( three );
+		wrapped.dequeue();
+		wrapped.enqueue( four );
+		wrapped.enqueue( five );
+		MyQueue<Integer> copy = roundTrip( wrapped );
+		assertArrayEquals( "Failed to keep order.", wrapped.toArray(), copy.toArray() );
+		assertEquals( "Failed to drop spare capacity.", 4, copy.capacity() );
+		copy.enqueue( one );
+		assertEquals( "Failed to keep queue usable.", two, copy.dequeue() );
+		assertEquals( "Failed to copy empty queue.", 0, roundTrip( new MyQueue<Integer>() ).size() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
 }
@@ -0,0 +1,351 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.OutputFormat;
+import appDomain.ResultWriter;
+import appDomain.ValidationResult;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for ResultWriter: results reach the channel in batch order or in
+ * completion order, large output is written in blocks, and a writer that
+ * fails or is interrupted never leaves workers blocked.
+ */
+
+public class ResultWriterTest
+{
+	// Attributes
+	private ByteArrayOutputStream bytes;
+	private WritableByteChannel channel;
+
+	/**
+	 * A channel that fails every write.
+	 */
+	private static class FailingChannel implements WritableByteChannel
+	{
+		private final RuntimeException unchecked;
+
+		FailingChannel( RuntimeException unchecked )
+		{
+			this.unchecked = unchecked;
+		}
+
+		@Override
+		public int write( ByteBuffer src ) throws IOException
+		{
+			if( unchecked != null )
+			{
+				throw unchecked;
+			}
+			throw new IOException( "Disk full" );
+		}
+
+		@Override
+		public boolean isOpen()
+		{
+			return true;
+		}
+
+		@Override
+		public void close()
+		{
+		}
+	}
+
+	/**
+	 * A channel that discards its input and remembers the thread writing to it.
+	 */
+	private static class WatchedChannel implements WritableByteChannel
+	{
+		private volatile Thread writer;
+
+		@Override
+		public int write( ByteBuffer src )
+		{
+			writer = Thread.currentThread();
+			int n = src.remaining();
+			src.position( src.limit() );
+			return n;
+		}
+
+		@Override
+		public boolean isOpen()
+		{
+			return true;
+		}
+
+		@Override
+		public void close()
+		{
+		}
+	}
+
+	/**
+	 * Creates the in-memory channel before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		bytes = new ByteArrayOutputStream();
+		channel = Channels.newChannel( bytes );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		bytes = null;
+		channel = null;
+	}
+
+	/**
+	 * Returns a valid result for the file with the given number.
+	 */
+	private static ValidationResult result( int n )
+	{
+		return new ValidationResult( String.format( "file-%05d.xml", n ), true, Collections.<String>emptyList(), n, 0 );
+	}
+
+	/**
+	 * Returns what has been written to the in-memory channel.
+	 */
+	private String output()
+	{
+		return new String( bytes.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Checks that the output holds the given files as JSONL records in the given order.
+	 */
+	private void assertOrder( String message, int... files )
+	{
+		String[] lines = output().split( "\n" );
+		assertEquals( message, files.length, lines.length );
+		for( int i = 0; i < files.length; i++ )
+		{
+			assertTrue( message, lines[i].startsWith( "{\"path\":\"" + String.format( "file-%05d.xml", files[i] ) + "\"" ) );
+		}
+	}
+
+	/**
+	 * Runs the given number of workers, each appending results from a shared
+	 * counter, and checks that all of them finish.
+	 */
+	private static void runWorkers( final ResultWriter writer, int workers, final int results ) throws InterruptedException
+	{
+		final AtomicInteger next = new AtomicInteger();
+		Thread[] threads = new Thread[workers];
+		for( int i = 0; i < workers; i++ )
+		{
+			threads[i] = new Thread( () -> {
+				ResultWriter.Buffer buffer = writer.newBuffer();
+				int index;
+				while( ( index = next.getAndIncrement() ) < results )
+				{
+					buffer.append( index, result( index ) );
+				}
+				buffer.flush();
+			} );
+			threads[i].start();
+		}
+		for( Thread t : threads )
+		{
+			t.join( 10000 );
+			assertFalse( "Failed to let the worker finish.", t.isAlive() );
+		}
+	}
+
+	/**
+	 * Test method for ordered mode releasing results in batch order.
+	 */
+	@Test
+	public void testOrdered_BatchOrder() throws IOException
+	{
+		ResultWriter writer = new ResultWriter( OutputFormat.JSONL, true, channel, 4 );
+		ResultWriter.Buffer first = writer.newBuffer();
+		ResultWriter.Buffer second = writer.newBuffer();
+		second.append( 2, result( 2 ) );
+		second.append( 3, result( 3 ) );
+		first.append( 0, result( 0 ) );
+		second.append( 1, result( 1 ) );
+		first.flush();
+		second.flush();
+		writer.close();
+		assertOrder( "Failed to write the results in batch order.", 0, 1, 2, 3 );
+	}
+
+	/**
+	 * Test method for unordered mode releasing results in completion order.
+	 */
+	@Test
+	public void testUnordered_CompletionOrder() throws IOException
+	{
+		ResultWriter writer = new ResultWriter( OutputFormat.JSONL, false, channel, 4 );
+		ResultWriter.Buffer buffer = writer.newBuffer();
+		buffer.append( 2, result( 2 ) );
+		buffer.append( 0, result( 0 ) );
+		buffer.append( 1, result( 1 ) );
+		buffer.flush();
+		writer.close();
+		assertOrder( "Failed to write the results in completion order.", 2, 0, 1 );
+	}
+
+	/**
+	 * Test method for output larger than one block, including a single record
+	 * larger than a block, with the header written once.
+	 */
+	@Test
+	public void testBlocks_LargeOutput() throws IOException
+	{
+		ResultWriter writer = new ResultWriter( OutputFormat.CSV, false, channel, 8 );
+		ResultWriter.Buffer buffer = writer.newBuffer();
+		for( int i = 0; i < 3000; i++ )
+		{
+			buffer.append( i, result( i ) );
+		}
+		String huge = "x".repeat( 100 * 1024 );
+		buffer.append( 3000, new ValidationResult( huge, true, Collections.<String>emptyList(), 1, 0 ) );
+		buffer.flush();
+		writer.close();
+
+		String text = output();
+		assertTrue( "Failed to write more than one block.", text.length() > 64 * 1024 * 2 );
+		assertTrue( "Failed to start with the header.", text.startsWith( OutputFormat.CSV.header() ) );
+		assertEquals( "Failed to write the header once.", text.indexOf( "path,valid" ), text.lastIndexOf( "path,valid" ) );
+		String[] lines = text.split( "\n" );
+		assertEquals( "Failed to write every record.", 3002, lines.length );
+		assertTrue( "Failed to keep the record order.", lines[3000].startsWith( "file-02999.xml," ) );
+		assertTrue( "Failed to write the record larger than a block.", lines[3001].startsWith( huge + "," ) );
+	}
+
+	/**
+	 * Test method for many workers in ordered mode with a small queue, so workers
+	 * ahead of the next result to be written have to wait.
+	 */
+	@Test
+	public void testOrdered_ManyThreads() throws IOException, InterruptedException
+	{
+		ResultWriter writer = new ResultWriter( OutputFormat.JSONL, true, channel, 4 );
+		runWorkers( writer, 8, 5000 );
+		writer.close();
+
+		int[] files = new int[5000];
+		for( int i = 0; i < files.length; i++ )
+		{
+			files[i] = i;
+		}
+		assertOrder( "Failed to write the results in batch order.", files );
+	}
+
+	/**
+	 * Test method for a writer that stops and closes without any result.
+	 */
+	@Test
+	public void testClose_Empty() throws IOException
+	{
+		new ResultWriter( OutputFormat.CSV, true, channel, 4 ).close();
+		assertEquals( "Failed to write only the header.", OutputFormat.CSV.header(), output() );
+	}
+
+	/**
+	 * Test method for a channel that fails: workers finish and close reports the failure.
+	 */
+	@Test
+	public void testFailure_WorkersFinish() throws InterruptedException
+	{
+		for( boolean ordered : new boolean[] { true, false } )
+		{
+			ResultWriter writer = new ResultWriter( OutputFormat.JSONL, ordered, new FailingChannel( null ), 2 );
+			runWorkers( writer, 4, 2000 );
+			try
+			{
+				writer.close();
+				fail( "Failed to throw IOException." );
+			}
+			catch( IOException e )
+			{
+				assertEquals( "Failed to report the write failure.", "Disk full", e.getMessage() );
+			}
+		}
+	}
+
+	/**
+	 * Test method for a channel that throws an unchecked exception.
+	 */
+	@Test
+	public void testFailure_RuntimeException() throws InterruptedException
+	{
+		IllegalStateException cause = new IllegalStateException( "Broken channel" );
+		ResultWriter writer = new ResultWriter( OutputFormat.JSONL, true, new FailingChannel( cause ), 2 );
+		runWorkers( writer, 4, 2000 );
+		try
+		{
+			writer.close();
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertSame( "Failed to keep the cause.", cause, e.getCause() );
+		}
+	}
+
+	/**
+	 * Test method for interrupting the writer thread while it waits for output.
+	 */
+	@Test
+	public void testFailure_WriterInterrupted() throws InterruptedException
+	{
+		WatchedChannel watched = new WatchedChannel();
+		ResultWriter writer = new ResultWriter( OutputFormat.JSONL, true, watched, 2 );
+		ResultWriter.Buffer buffer = writer.newBuffer();
+		buffer.append( 0, result( 0 ) );
+
+		long deadline = System.currentTimeMillis() + 10000;
+		while( ( watched.writer == null || watched.writer.getState() != Thread.State.WAITING )
+				&& System.currentTimeMillis() < deadline )
+		{
+			Thread.sleep( 1 );
+		}
+		assertNotNull( "Failed to write the first result.", watched.writer );
+		watched.writer.interrupt();
+
+		Thread worker = new Thread( () -> {
+			for( int i = 1; i < 2000; i++ )
+			{
+				buffer.append( i, result( i ) );
+			}
+		} );
+		worker.start();
+		worker.join( 10000 );
+		assertFalse( "Failed to let the worker finish.", worker.isAlive() );
+		try
+		{
+			writer.close();
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( "Failed to report the interrupt.", e.getCause() instanceof InterruptedException );
+		}
+	}
+}
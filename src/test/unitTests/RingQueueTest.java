@@ -0,0 +1,456 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyQueue;
+import implementations.MyRingQueue;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the power-of-two ring-buffer implementation of the QueueADT defined
+ * in the CPRG 304 Assignment 2.
+ */
+
+public class RingQueueTest
+{
+	// Attributes
+	private MyRingQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+
+	/**
+	 * Initializes a MyRingQueue instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyRingQueue<Integer>( 4 );
+		one = 111;
+		two = 222;
+		three = 333;
+		four = 444;
+		five = 555;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#MyRingQueue(int)}
+	 * to round the capacity up to a power of two.
+	 */
+	@Test
+	public void testConstructor_PowerOfTwoCapacity()
+	{
+		assertEquals( "Failed to keep power-of-two capacity.", 4, queue.capacity() );
+		assertEquals( "Failed to round capacity up.", 8, new MyRingQueue<Integer>( 5 ).capacity() );
+		assertEquals( "Failed to round capacity up.", 1, new MyRingQueue<Integer>( 1 ).capacity() );
+		assertEquals( "Failed to create empty queue.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#MyRingQueue(int)}
+	 * to throw IllegalArgumentException for a capacity below one.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyRingQueue<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#enqueue(java.lang.Object)} and
+	 * {@link implementations.MyRingQueue#dequeue()}
+	 * to keep first-in first-out order while the positions wrap around and the queue grows.
+	 */
+	@Test
+	public void testEnqueueDequeue_WrapAroundAndGrow()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		assertEquals( "Failed to dequeue front.", one, queue.dequeue() );
+		assertEquals( "Failed to dequeue front.", two, queue.dequeue() );
+
+		// rear wraps to the start of the array
+		queue.enqueue( four );
+		queue.enqueue( five );
+		queue.enqueue( one );
+		// full and wrapped: growing must unwrap the two segments
+		queue.enqueue( two );
+
+		assertEquals( "Failed to grow to next power of two.", 8, queue.capacity() );
+		Integer[] expected = { three, four, five, one, two };
+		assertArrayEquals( "Failed to keep order across resize.", expected, queue.toArray() );
+		assertEquals( "Failed to dequeue front after resize.", three, queue.dequeue() );
+		assertEquals( "Failed to update size.", 4, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#enqueue(java.lang.Object)}
+	 * to throw a NullPointerException when a null is passed.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		queue.enqueue( one );
+		try
+		{
+			queue.enqueue( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain queue size.", 1, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#dequeue()} and
+	 * {@link implementations.MyRingQueue#peek()}
+	 * to throw EmptyQueueException when the queue is empty.
+	 */
+	@Test
+	public void testDequeuePeek_Empty()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			queue.peek();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#enqueueAll(java.lang.Object[])}
+	 * to append a block of items across the wrap point.
+	 */
+	@Test
+	public void testEnqueueAll_Wrapped()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+		queue.dequeue();
+
+		queue.enqueueAll( new Integer[] { four, five } );
+		assertEquals( "Failed to avoid growing.", 4, queue.capacity() );
+		assertArrayEquals( "Failed to append in order.", new Integer[] { three, four, five }, queue.toArray() );
+
+		queue.enqueueAll( new Integer[] { one, two, three } );
+		assertEquals( "Failed to grow once.", 8, queue.capacity() );
+		assertArrayEquals( "Failed to append in order.",
+				new Integer[] { three, four, five, one, two, three }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#enqueueAll(java.lang.Object[])}
+	 * to add nothing when the block contains a null.
+	 */
+	@Test
+	public void testEnqueueAll_NullPointerException()
+	{
+		queue.enqueue( one );
+		try
+		{
+			queue.enqueueAll( new Integer[] { two, null } );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave queue unchanged.", 1, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#drainTo(java.lang.Object[], int)}
+	 * to remove a wrapped block of items front first.
+	 */
+	@Test
+	public void testDrainTo()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		Integer[] block = new Integer[3];
+		int count = queue.drainTo( block, 10 );
+		assertEquals( "Failed to limit to array length.", 3, count );
+		assertArrayEquals( "Failed to drain front first.", new Integer[] { two, three, four }, block );
+		assertEquals( "Failed to update size.", 1, queue.size() );
+		assertEquals( "Failed to keep remaining item.", five, queue.peek() );
+
+		count = queue.drainTo( block, 0 );
+		assertEquals( "Failed to respect maximum.", 0, count );
+
+		count = queue.drainTo( block, 3 );
+		assertEquals( "Failed to drain remaining item.", 1, count );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		assertEquals( "Failed to report empty drain.", 0, queue.drainTo( block, 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#iterator()}
+	 * to iterate over both segments of a wrapped queue from front to rear.
+	 */
+	@Test
+	public void testIterator_Wrapped()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+		queue.dequeue();
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( "Failed to return item at position.", three, it.next() );
+		assertEquals( "Failed to return item at position.", four, it.next() );
+		assertEquals( "Failed to return item at position.", five, it.next() );
+		assertFalse( it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#contains(java.lang.Object)} and
+	 * {@link implementations.MyRingQueue#search(java.lang.Object)}
+	 * to find items in both segments of a wrapped queue.
+	 */
+	@Test
+	public void testContainsSearch_Wrapped()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+		queue.dequeue();
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		assertTrue( queue.contains( three ) );
+		assertTrue( queue.contains( five ) );
+		assertFalse( queue.contains( one ) );
+		assertEquals( "Failed to find item", 1, queue.search( three ) );
+		assertEquals( "Failed to find item", 3, queue.search( five ) );
+		assertEquals( "Failed to return -1 for not found", -1, queue.search( two ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#toArray(E[])}
+	 * to allocate a new array when the one passed is too small.
+	 */
+	@Test
+	public void testToArrayEArray_InsufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		Integer[] actualArray = queue.toArray( new Integer[1] );
+		assertArrayEquals( "Failed to convert queue to array.", new Integer[] { one, two, three }, actualArray );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#equals(utilities.QueueADT)}
+	 * to compare equal to a MyQueue holding the same items.
+	 */
+	@Test
+	public void testEquals_MyQueue()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( one );
+		queue.enqueue( two );
+		other.enqueue( one );
+		other.enqueue( two );
+		assertTrue( queue.equals( other ) );
+
+		other.enqueue( three );
+		assertFalse( queue.equals( other ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#dequeueAll()}
+	 * to empty the queue so it can be reused.
+	 */
+	@Test
+	public void testDequeueAll()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeue();
+		queue.enqueue( three );
+		queue.dequeueAll();
+
+		assertEquals( "Failed to clear.", 0, queue.size() );
+		queue.enqueue( four );
+		assertEquals( "Failed to reuse queue.", four, queue.peek() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#iterator()}
+	 * to throw ConcurrentModificationException when the queue changes during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModification()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		it.next();
+		queue.dequeue();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyRingQueue#ensureCapacity(int)} and
+	 * {@link implementations.MyRingQueue#trimToSize()}
+	 * to keep power-of-two capacities and the element order.
+	 */
+	@Test
+	public void testEnsureCapacityTrimToSize()
+	{
+		queue.ensureCapacity( 100 );
+		assertEquals( "Failed to round up to a power of two.", 128, queue.capacity() );
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.trimToSize();
+		assertEquals( "Failed to trim to a power of two.", 4, queue.capacity() );
+		assertArrayEquals( "Failed to keep order.", new Object[] { one, two, three }, queue.toArray() );
+		queue.clear();
+		queue.trimToSize();
+		assertEquals( "Failed to keep one slot.", 1, queue.capacity() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyRingQueue}
+	 * to keep the elements of a wrapped queue in order.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+		queue.enqueue( four );
+		queue.enqueue( five );
+		queue.ensureCapacity( 64 );
+		MyRingQueue<Integer> copy = roundTrip( queue );
+		assertArrayEquals( "Failed to keep order.", queue.toArray(), copy.toArray() );
+		assertEquals( "Failed to drop spare capacity.", 4, copy.capacity() );
+		copy.enqueue( one );
+		assertEquals( "Failed to keep queue usable.", two, copy.dequeue() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.BlockingWaitStrategy;
+import implementations.MySpscQueue;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the single-producer/single-consumer implementation of the QueueADT
+ * defined in the CPRG 304 Assignment 2.
+ */
+
+public class SpscQueueTest
+{
+	// Attributes
+	private MySpscQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MySpscQueue instance and three Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MySpscQueue<Integer>( 2 );
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#offer(java.lang.Object)} and
+	 * {@link implementations.MySpscQueue#poll()}
+	 * to respect the capacity and keep first-in first-out order.
+	 */
+	@Test
+	public void testOfferPoll_Bounded()
+	{
+		assertTrue( queue.offer( one ) );
+		assertTrue( queue.offer( two ) );
+		assertFalse( "Failed to reject when full.", queue.offer( three ) );
+		assertTrue( queue.isFull() );
+		assertEquals( "Failed to report size.", 2, queue.size() );
+
+		assertEquals( "Failed to poll front.", one, queue.poll() );
+		assertTrue( queue.offer( three ) );
+		assertEquals( "Failed to poll front.", two, queue.poll() );
+		assertEquals( "Failed to poll front.", three, queue.poll() );
+		assertNull( "Failed to return null when empty.", queue.poll() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#enqueue(java.lang.Object)} and
+	 * {@link implementations.MySpscQueue#dequeue()}
+	 * to throw when the queue is full or empty.
+	 */
+	@Test
+	public void testEnqueueDequeue_FullAndEmpty()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		try
+		{
+			queue.enqueue( three );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		queue.dequeueAll();
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#iterator()},
+	 * {@link implementations.MySpscQueue#search(java.lang.Object)} and
+	 * {@link implementations.MySpscQueue#peek()}
+	 * on a queue that has wrapped around the ring.
+	 */
+	@Test
+	public void testSnapshotOperations_Wrapped()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeue();
+		queue.enqueue( three );
+
+		assertEquals( "Failed to peek front.", two, queue.peek() );
+		assertEquals( "Failed to find item", 2, queue.search( three ) );
+		assertFalse( queue.contains( one ) );
+		assertArrayEquals( "Failed to convert queue to array.", new Integer[] { two, three }, queue.toArray() );
+
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( two, it.next() );
+		assertEquals( three, it.next() );
+		assertFalse( it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#put(java.lang.Object)} and
+	 * {@link implementations.MySpscQueue#take()}
+	 * to pass every item from one producer thread to the consumer in order.
+	 * @throws Exception
+	 */
+	@Test
+	public void testPutTake_ProducerConsumer() throws Exception
+	{
+		final int count = 100000;
+		final MySpscQueue<Integer> shared = new MySpscQueue<Integer>( 64, new BlockingWaitStrategy() );
+		Thread producer = new Thread( () -> {
+			try
+			{
+				for( int i = 0; i < count; i++ )
+				{
+					shared.put( i );
+				}
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		producer.start();
+
+		for( int i = 0; i < count; i++ )
+		{
+			int actual = shared.take();
+			if( actual != i )
+			{
+				fail( "Failed to keep order: expected " + i + " but was " + actual );
+			}
+		}
+		producer.join();
+		assertTrue( shared.isEmpty() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MySpscQueue}, which
+	 * is refused rather than failing on its wait strategy.
+	 * @throws Exception if writing fails for another reason
+	 */
+	@Test
+	public void testSerialization_Rejected() throws Exception
+	{
+		MySpscQueue<Integer> other = new MySpscQueue<Integer>( 4, new BlockingWaitStrategy() );
+		other.enqueue( one );
+		try( ObjectOutputStream out = new ObjectOutputStream( new ByteArrayOutputStream() ) )
+		{
+			out.writeObject( other );
+			fail( "Failed to throw NotSerializableException." );
+		}
+		catch( NotSerializableException e )
+		{
+			assertTrue( e.getMessage().contains( "MySpscQueue" ) );
+		}
+	}
+}
@@ -3,6 +3,11 @@ package test.unitTests;
 import static org.junit.Assert.*;
 
 import exceptions.EmptyStackException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -10,6 +15,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import utilities.Iterator;
+import implementations.GrowthPolicies;
 import implementations.MyStack;
 
 /**
@@ -649,4 +655,202 @@ public class StackTest
 	{
 		assertFalse(stack.stackOverflow());
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#pushAll(java.lang.Object[])}
+	 * to push a block of items so the last one ends up on top.
+	 */
+	@Test
+	public void testPushAll()
+	{
+		stack.push( one );
+		stack.pushAll( new Integer[] { two, three, four, five } );
+
+		assertEquals( "Failed to return correct size", 5, stack.size() );
+		assertEquals( "Failed to put last item on top.", five, stack.peek() );
+		assertArrayEquals( "Failed to keep order.", new Integer[] { five, four, three, two, one }, stack.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#pushAll(java.lang.Object[])}
+	 * to push nothing when the block contains a null.
+	 */
+	@Test
+	public void testPushAll_NullPointerException()
+	{
+		stack.push( one );
+		try
+		{
+			stack.pushAll( new Integer[] { two, null } );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave stack unchanged.", 1, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#popN(java.lang.Object[], int)}
+	 * to pop a block of items top first.
+	 */
+	@Test
+	public void testPopN()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+
+		Integer[] popped = new Integer[3];
+		assertEquals( "Failed to pop requested count.", 2, stack.popN( popped, 2 ) );
+		assertEquals( "Failed to pop top first.", four, popped[0] );
+		assertEquals( "Failed to pop top first.", three, popped[1] );
+		assertEquals( "Failed to update size.", 2, stack.size() );
+		assertEquals( "Failed to expose new top.", two, stack.peek() );
+
+		assertEquals( "Failed to stop at bottom.", 2, stack.popN( popped, 10 ) );
+		assertTrue( stack.isEmpty() );
+		assertEquals( "Failed to pop nothing from empty stack.", 0, stack.popN( popped, 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#pop()}
+	 * to release capacity once a deep stack has been mostly emptied.
+	 */
+	@Test
+	public void testPop_ShrinksCapacity()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			stack.push( i );
+		}
+		int peak = stack.capacity();
+		while( stack.size() > 5 )
+		{
+			stack.pop();
+		}
+		assertTrue( "Failed to shrink capacity.", stack.capacity() < peak / 4 );
+		assertEquals( "Failed to keep remaining items.", Integer.valueOf( 4 ), stack.peek() );
+		assertEquals( "Failed to keep remaining items.", 5, stack.search( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#iterator()}
+	 * to throw ConcurrentModificationException when the stack changes during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModification()
+	{
+		stack.push( one );
+		stack.push( two );
+		Iterator<Integer> it = stack.iterator();
+		it.next();
+		stack.pop();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#MyStack(int, utilities.GrowthPolicy)},
+	 * {@link implementations.MyStack#ensureCapacity(int)} and
+	 * {@link implementations.MyStack#trimToSize()}.
+	 */
+	@Test
+	public void testCapacityControl()
+	{
+		MyStack<Integer> fixed = new MyStack<>( 3, GrowthPolicies.fixed( 5 ) );
+		for( int i = 0; i < 4; i++ )
+		{
+			fixed.push( i );
+		}
+		assertEquals( "Failed to grow by the fixed increment.", 8, fixed.capacity() );
+		fixed.ensureCapacity( 20 );
+		assertEquals( "Failed to grow to the requested capacity.", 20, fixed.capacity() );
+		fixed.trimToSize();
+		assertEquals( "Failed to trim to size.", 4, fixed.capacity() );
+		assertEquals( "Failed to keep elements.", Integer.valueOf( 3 ), fixed.peek() );
+		try
+		{
+			new MyStack<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyStack#pop()}
+	 * to stop shrinking at the initial capacity.
+	 */
+	@Test
+	public void testPop_ShrinksToInitialCapacity()
+	{
+		MyStack<Integer> deep = new MyStack<>( 64 );
+		for( int i = 0; i < 1000; i++ )
+		{
+			deep.push( i );
+		}
+		while( !deep.isEmpty() )
+		{
+			deep.pop();
+		}
+		assertEquals( "Failed to keep initial capacity.", 64, deep.capacity() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyStack}
+	 * to keep the elements from bottom to top.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		MyStack<Integer> copy = roundTrip( stack );
+		assertTrue( "Failed to keep elements.", stack.equals( copy ) );
+		assertEquals( "Failed to drop spare capacity.", 3, copy.capacity() );
+		assertEquals( "Failed to keep top.", three, copy.pop() );
+		copy.push( four );
+		assertEquals( "Failed to keep stack usable.", four, copy.peek() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
 }
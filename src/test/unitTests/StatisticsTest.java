@@ -0,0 +1,145 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.DocumentStatistics;
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the DocumentStatistics XMLParser gathers while validating,
+ * including statistics carried over when a parse resumes from saved state.
+ */
+
+public class StatisticsTest
+{
+	// Attributes
+	private TempXMLFile xml;
+	private File state;
+	private XMLParser parser;
+
+	/**
+	 * Creates a parser that collects statistics and a temporary file before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "statistics" );
+		state = xml.sibling( ".state" );
+		parser = new XMLParser();
+		parser.setCollectStatistics( true );
+	}
+
+	/**
+	 * Deletes the temporary files after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+	}
+
+	/**
+	 * Test method for counting elements per tag and per depth.
+	 */
+	@Test
+	public void testCounts() throws IOException
+	{
+		xml.write( "<?xml version=\"1.0\"?>\n<!-- comment -->\n<catalog>\n  <book><title>A</title><br/></book>\n"
+				+ "  <book><title>B</title></book>\n</catalog>\n" );
+		assertTrue( parser.parseFile( xml.getPath() ) );
+		DocumentStatistics statistics = parser.getStatistics();
+		assertEquals( "Failed to count elements.", 6, statistics.getElementCount() );
+		assertEquals( "Failed to count tags.", 4, statistics.getTagCount() );
+		assertEquals( "Failed to count <book>.", 2, statistics.getCount( "book" ) );
+		assertEquals( "Failed to count <title>.", 2, statistics.getCount( "title" ) );
+		assertEquals( "Failed to count a self-closing tag under its name.", 1, statistics.getCount( "br" ) );
+		assertEquals( "Failed to report an unknown tag as 0.", 0, statistics.getCount( "missing" ) );
+		assertEquals( "Failed to find the maximum depth.", 3, statistics.getMaxDepth() );
+		assertEquals( "Failed to count the root depth.", 1, statistics.getElementsAtDepth( 1 ) );
+		assertEquals( "Failed to count depth 2.", 2, statistics.getElementsAtDepth( 2 ) );
+		assertEquals( "Failed to count depth 3.", 3, statistics.getElementsAtDepth( 3 ) );
+		assertEquals( "Failed to average the depths.", 14.0 / 6, statistics.getAverageDepth(), 1e-9 );
+	}
+
+	/**
+	 * Test method for starting each parse from empty statistics.
+	 */
+	@Test
+	public void testCounts_ResetBetweenFiles() throws IOException
+	{
+		xml.write( "<a><b/><b/></a>\n" );
+		parser.parseFile( xml.getPath() );
+		parser.parseFile( xml.getPath() );
+		assertEquals( "Failed to reset counts between parses.", 3, parser.getStatistics().getElementCount() );
+	}
+
+	/**
+	 * Test method for statistics being off by default.
+	 */
+	@Test
+	public void testDisabled() throws IOException
+	{
+		XMLParser plain = new XMLParser();
+		xml.write( "<a/>\n" );
+		plain.parseFile( xml.getPath() );
+		assertNull( "Failed to leave statistics off by default.", plain.getStatistics() );
+	}
+
+	/**
+	 * Test method for statistics restored from saved state matching a full parse.
+	 */
+	@Test
+	public void testIncremental_SameAsFullParse() throws IOException
+	{
+		StringBuilder text = new StringBuilder( "<log>\n" );
+		for( int i = 0; i < 20; i++ )
+		{
+			text.append( "  <entry><id>" ).append( i ).append( "</id></entry>\n" );
+		}
+		xml.write( text.toString() );
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		text.append( "  <entry><id>20</id><flag/></entry>\n</log>\n" );
+		xml.write( text.toString() );
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertTrue( "Failed to resume.", parser.getResumedOffset() > 0 );
+
+		XMLParser full = new XMLParser();
+		full.setCollectStatistics( true );
+		full.parseFile( xml.getPath() );
+		StringBuilder expected = new StringBuilder();
+		full.getStatistics().appendTo( expected );
+		StringBuilder actual = new StringBuilder();
+		parser.getStatistics().appendTo( actual );
+		assertEquals( "Failed to restore statistics from saved state.", expected.toString(), actual.toString() );
+	}
+
+	/**
+	 * Test method for saving statistics with a tag name longer than 65,535 bytes.
+	 */
+	@Test
+	public void testIncremental_LongTagName() throws IOException
+	{
+		StringBuilder name = new StringBuilder();
+		for( int i = 0; i < 70_000; i++ )
+		{
+			name.append( 'n' );
+		}
+		xml.write( "<root>\n<" + name + "/>\n</root>\n" );
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		parser.parseFileIncremental( xml.getPath(), state.getPath() );
+		assertEquals( "Failed to resume from the saved state.", xml.length(), parser.getResumedOffset() );
+		assertEquals( "Failed to restore the long tag name.", 1, parser.getStatistics().getCount( name.toString() ) );
+	}
+}
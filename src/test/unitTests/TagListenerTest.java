@@ -0,0 +1,262 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.TagEvent;
+import appDomain.TagListener;
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for TagListener: XMLParser reports opening, closing and self-closing
+ * tags in document order with their depths, reports the same errors as
+ * getErrors, reuses one event object, and stops calling removed listeners.
+ */
+
+public class TagListenerTest
+{
+	// Attributes
+	private TempXMLFile xml;
+	private XMLParser parser;
+	private Recorder recorder;
+
+	/**
+	 * Records each event as a short line of text.
+	 */
+	private static class Recorder implements TagListener
+	{
+		private final List<String> events = new ArrayList<>();
+		private final List<String> errors = new ArrayList<>();
+		private final List<TagEvent> instances = new ArrayList<>();
+
+		@Override
+		public void onOpen( TagEvent event )
+		{
+			keep( event );
+			events.add( "open " + event.getName() + " " + event.getDepth() );
+		}
+
+		@Override
+		public void onClose( TagEvent event )
+		{
+			keep( event );
+			events.add( "close " + event.getName() + " " + event.getDepth() + ( event.isMatched() ? "" : " unmatched" ) );
+		}
+
+		@Override
+		public void onSelfClosing( TagEvent event )
+		{
+			keep( event );
+			events.add( "self " + event.getName() + " " + event.getDepth() );
+		}
+
+		@Override
+		public void onError( TagEvent event )
+		{
+			keep( event );
+			errors.add( event.getMessage() );
+		}
+
+		private void keep( TagEvent event )
+		{
+			if( !instances.contains( event ) )
+			{
+				instances.add( event );
+			}
+		}
+	}
+
+	/**
+	 * Creates the temporary XML file, a parser and a recording listener before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "listener" );
+		parser = new XMLParser();
+		recorder = new Recorder();
+		parser.addListener( recorder );
+	}
+
+	/**
+	 * Deletes the temporary file after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+		parser = null;
+		recorder = null;
+	}
+
+	/**
+	 * Writes the document and parses it.
+	 */
+	private boolean parse( String text ) throws IOException
+	{
+		xml.write( text );
+		return parser.parseFile( xml.getPath() );
+	}
+
+	/**
+	 * Test method for the order and depths of events in a valid document.
+	 */
+	@Test
+	public void testEvents_OrderAndDepth() throws IOException
+	{
+		assertTrue( "Failed to validate the document.", parse( "<a>\n<b><c/></b>\n<d></d>\n</a>\n" ) );
+		assertEquals( "Failed to report events in document order.",
+				Arrays.asList( "open a 1", "open b 2", "self c 3", "close b 2", "open d 2", "close d 2", "close a 1" ),
+				recorder.events );
+		assertTrue( "Failed to report no errors.", recorder.errors.isEmpty() );
+	}
+
+	/**
+	 * Test method for the offsets and line of an event.
+	 */
+	@Test
+	public void testEvents_Offsets() throws IOException
+	{
+		final List<String> positions = new ArrayList<>();
+		parser.addListener( new TagListener()
+		{
+			@Override
+			public void onOpen( TagEvent event )
+			{
+				positions.add( event.getName() + " " + event.getStart() + ".." + event.getEnd() + " line " + event.getLine() );
+			}
+		} );
+		parse( "<a>\n  <bb x=\"1\">\n</bb></a>\n" );
+		assertEquals( "Failed to report the tag offsets.", Arrays.asList( "a 0..3 line 1", "bb 6..16 line 2" ), positions );
+	}
+
+	/**
+	 * Test method for errors and for elements closed without a matching tag.
+	 */
+	@Test
+	public void testEvents_Errors() throws IOException
+	{
+		assertFalse( "Failed to report the errors.", parse( "<a>\n<b><c>\n</a>\n<d>\n" ) );
+		assertEquals( "Failed to report the same errors as getErrors.", parser.getErrors(), recorder.errors );
+
+		int opened = 0;
+		int closed = 0;
+		for( String event : recorder.events )
+		{
+			if( event.startsWith( "open " ) )
+			{
+				opened++;
+			}
+			else if( event.startsWith( "close " ) )
+			{
+				closed++;
+			}
+		}
+		assertEquals( "Failed to close every opened element.", opened, closed );
+		assertTrue( "Failed to close c unmatched.", recorder.events.contains( "close c 3 unmatched" ) );
+		assertTrue( "Failed to close b unmatched.", recorder.events.contains( "close b 2 unmatched" ) );
+		assertTrue( "Failed to close a matched.", recorder.events.contains( "close a 1" ) );
+		assertTrue( "Failed to close d unmatched at the end.", recorder.events.contains( "close d 1 unmatched" ) );
+	}
+
+	/**
+	 * Test method for the parser passing one event object to every call.
+	 */
+	@Test
+	public void testEvents_SingleInstance() throws IOException
+	{
+		parse( "<a>\n<b/><c></c>\n</x>\n" );
+		assertEquals( "Failed to reuse the event object.", 1, recorder.instances.size() );
+	}
+
+	/**
+	 * Test method for listeners being called in the order they were added, and for removing one.
+	 */
+	@Test
+	public void testListeners_OrderAndRemove() throws IOException
+	{
+		final List<String> calls = new ArrayList<>();
+		TagListener second = new TagListener()
+		{
+			@Override
+			public void onOpen( TagEvent event )
+			{
+				calls.add( "second " + event.getName() );
+			}
+		};
+		parser.removeListener( recorder );
+		parser.addListener( new TagListener()
+		{
+			@Override
+			public void onOpen( TagEvent event )
+			{
+				calls.add( "first " + event.getName() );
+			}
+		} );
+		parser.addListener( second );
+		parse( "<a></a>\n" );
+		assertEquals( "Failed to call listeners in order.", Arrays.asList( "first a", "second a" ), calls );
+		assertTrue( "Failed to stop calling the removed listener.", recorder.events.isEmpty() );
+
+		assertTrue( "Failed to remove the listener.", parser.removeListener( second ) );
+		assertFalse( "Failed to report a listener that was not added.", parser.removeListener( second ) );
+		calls.clear();
+		parse( "<a></a>\n" );
+		assertEquals( "Failed to stop calling the removed listener.", Arrays.asList( "first a" ), calls );
+	}
+
+	/**
+	 * Test method for an IOException thrown by a listener ending the parse.
+	 */
+	@Test
+	public void testListener_IOExceptionPropagates() throws IOException
+	{
+		parser.addListener( new TagListener()
+		{
+			@Override
+			public void onSelfClosing( TagEvent event ) throws IOException
+			{
+				throw new IOException( "Listener failed" );
+			}
+		} );
+		try
+		{
+			parse( "<a><b/></a>\n" );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertEquals( "Failed to pass the listener's exception on.", "Listener failed", e.getMessage() );
+		}
+	}
+
+	/**
+	 * Test method for rejecting a null listener.
+	 */
+	@Test
+	public void testAddListener_Null()
+	{
+		try
+		{
+			parser.addListener( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
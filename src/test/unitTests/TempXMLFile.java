@@ -0,0 +1,135 @@
+package test.unitTests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Shared fixture for the XMLParser tests: a temporary XML file with helpers
+ * to write and append to it, the files the parser keeps next to it, and the
+ * errors of a plain parse to compare against.
+ */
+
+public class TempXMLFile
+{
+	// Attributes
+	private static final String[] SIDE_FILES = { ".ckp", ".state", ".idx" };
+	private static final String[] SIDE_SUFFIXES = { "", ".tmp", ".errors" };
+	private final File xml;
+
+	/**
+	 * Creates an empty temporary XML file.
+	 * @param prefix the prefix of the file name.
+	 * @throws IOException if the file cannot be created.
+	 */
+	public TempXMLFile( String prefix ) throws IOException
+	{
+		xml = File.createTempFile( prefix, ".xml" );
+	}
+
+	/**
+	 * Returns the XML file.
+	 * @return the XML file.
+	 */
+	public File getFile()
+	{
+		return xml;
+	}
+
+	/**
+	 * Returns the path of the XML file.
+	 * @return the path of the XML file.
+	 */
+	public String getPath()
+	{
+		return xml.getPath();
+	}
+
+	/**
+	 * Returns the path of the XML file as a Path.
+	 * @return the path of the XML file.
+	 */
+	public Path toPath()
+	{
+		return xml.toPath();
+	}
+
+	/**
+	 * Returns the length of the XML file in bytes.
+	 * @return the length of the XML file.
+	 */
+	public long length()
+	{
+		return xml.length();
+	}
+
+	/**
+	 * Returns a file next to the XML file, named after it with a suffix such as ".ckp".
+	 * @param suffix the suffix added to the XML file's path.
+	 * @return the file next to the XML file.
+	 */
+	public File sibling( String suffix )
+	{
+		return new File( xml.getPath() + suffix );
+	}
+
+	/**
+	 * Replaces the content of the XML file.
+	 * @param text the new content.
+	 * @return the UTF-8 bytes written.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public byte[] write( String text ) throws IOException
+	{
+		byte[] bytes = text.getBytes( StandardCharsets.UTF_8 );
+		Files.write( xml.toPath(), bytes );
+		return bytes;
+	}
+
+	/**
+	 * Appends text to the XML file.
+	 * @param text the text to append.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void append( String text ) throws IOException
+	{
+		Files.write( xml.toPath(), text.getBytes( StandardCharsets.UTF_8 ), StandardOpenOption.APPEND );
+	}
+
+	/**
+	 * Returns the errors of a plain parse of the current file.
+	 * @return the errors of a parse without checkpoints, state or listeners.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public List<String> fullParseErrors() throws IOException
+	{
+		XMLParser parser = new XMLParser();
+		parser.parseFile( xml.getPath() );
+		return parser.getErrors();
+	}
+
+	/**
+	 * Deletes the XML file together with any checkpoint, state or index file
+	 * next to it and their temporary and error log files.
+	 */
+	public void delete()
+	{
+		xml.delete();
+		for( String file : SIDE_FILES )
+		{
+			for( String suffix : SIDE_SUFFIXES )
+			{
+				sibling( file + suffix ).delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,466 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for the unrolled-linked-list implementation of the ListADT defined in the CPRG304
+ * Assignment 2. A node capacity of 4 is used so that splits and merges happen often.
+ */
+
+public class UnrolledListTest
+{
+	// Attributes
+	private MyUnrolledList<Integer> myList;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+
+	/**
+	 * Initializes a new MyUnrolledList instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyUnrolledList<>( 4 );
+		one = 1;
+		two = 2;
+		three = 3;
+		four = 4;
+		five = 5;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#MyUnrolledList(int)}
+	 * to throw IllegalArgumentException for a node capacity below two.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyUnrolledList<Integer>( 1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#add(java.lang.Object)} and
+	 * {@link implementations.MyUnrolledList#get(int)}
+	 * to keep items in order across many nodes.
+	 */
+	@Test
+	public void testAddGet_ManyNodes()
+	{
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to update size.", 50, myList.size() );
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to return item at position.", Integer.valueOf( i ), myList.get( i ) );
+		}
+		for( int i = 49; i >= 0; i-- )
+		{
+			assertEquals( "Failed to return item at position.", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#add(int, java.lang.Object)}
+	 * to insert at the head, in the middle of a full node and at the tail.
+	 */
+	@Test
+	public void testAddAtIndex_SplitNode()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( four );
+		myList.add( five );
+		myList.add( 2, three );
+		myList.add( 0, 0 );
+		myList.add( myList.size(), 6 );
+
+		assertArrayEquals( "Failed to insert in order.", new Integer[] { 0, one, two, three, four, five, 6 }, myList.toArray() );
+		assertEquals( "Failed to link head.", Integer.valueOf( 0 ), myList.getFirst() );
+		assertEquals( "Failed to link tail.", Integer.valueOf( 6 ), myList.getLast() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#add(int, java.lang.Object)}
+	 * to throw NullPointerException and IndexOutOfBoundsException for bad arguments.
+	 */
+	@Test
+	public void testAdd_Exceptions()
+	{
+		myList.add( one );
+		try
+		{
+			myList.add( 0, null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.add( 2, two );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave list unchanged.", 1, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#addFirst(java.lang.Object)},
+	 * {@link implementations.MyUnrolledList#removeFirst()} and
+	 * {@link implementations.MyUnrolledList#removeLast()}
+	 * to work as a deque across node boundaries.
+	 */
+	@Test
+	public void testHeadTailOperations()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.addFirst( i );
+		}
+		assertEquals( "Failed to add at head.", Integer.valueOf( 9 ), myList.getFirst() );
+		assertEquals( "Failed to keep tail.", Integer.valueOf( 0 ), myList.getLast() );
+		for( int i = 9; i >= 5; i-- )
+		{
+			assertEquals( "Failed to remove head.", Integer.valueOf( i ), myList.removeFirst() );
+		}
+		for( int i = 0; i < 5; i++ )
+		{
+			assertEquals( "Failed to remove tail.", Integer.valueOf( i ), myList.removeLast() );
+		}
+		assertTrue( "Failed to empty list.", myList.isEmpty() );
+		try
+		{
+			myList.removeFirst();
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#remove(int)} and
+	 * {@link implementations.MyUnrolledList#remove(java.lang.Object)}
+	 * to remove items and merge sparse nodes.
+	 */
+	@Test
+	public void testRemove_MergeNodes()
+	{
+		for( int i = 0; i < 12; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to return removed item.", Integer.valueOf( 5 ), myList.remove( 5 ) );
+		assertEquals( "Failed to return removed item.", Integer.valueOf( 4 ), myList.remove( Integer.valueOf( 4 ) ) );
+		assertEquals( "Failed to return removed item.", Integer.valueOf( 6 ), myList.remove( 4 ) );
+		assertNull( "Failed to return null for missing item.", myList.remove( Integer.valueOf( 99 ) ) );
+
+		assertArrayEquals( "Failed to keep order.", new Integer[] { 0, 1, 2, 3, 7, 8, 9, 10, 11 }, myList.toArray() );
+		try
+		{
+			myList.remove( 9 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#removeRange(int, int)}
+	 * to remove a run spanning several nodes.
+	 */
+	@Test
+	public void testRemoveRange_AcrossNodes()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		myList.removeRange( 3, 17 );
+		assertArrayEquals( "Failed to remove the range.", new Integer[] { 0, 1, 2, 17, 18, 19 }, myList.toArray() );
+		assertEquals( "Failed to return item after range.", Integer.valueOf( 17 ), myList.get( 3 ) );
+
+		myList.removeRange( 0, myList.size() );
+		assertTrue( "Failed to clear.", myList.isEmpty() );
+		myList.add( one );
+		assertEquals( "Failed to reuse list.", one, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#addAll(int, utilities.ListADT)}
+	 * to splice a list into the middle of a node and onto the end.
+	 */
+	@Test
+	public void testAddAllIndex_Splice()
+	{
+		MyArrayList<Integer> block = new MyArrayList<>();
+		for( int i = 10; i < 19; i++ )
+		{
+			block.add( i );
+		}
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		assertTrue( "Failed to return true.", myList.addAll( 1, block ) );
+		assertTrue( "Failed to return true.", myList.addAll( myList ) );
+		assertFalse( "Failed to return false.", myList.addAll( new MyArrayList<Integer>() ) );
+
+		Integer[] expected = { 1, 10, 11, 12, 13, 14, 15, 16, 17, 18, 2, 3,
+				1, 10, 11, 12, 13, 14, 15, 16, 17, 18, 2, 3 };
+		assertArrayEquals( "Failed to splice in order.", expected, myList.toArray() );
+		assertEquals( "Failed to index after splice.", Integer.valueOf( 2 ), myList.get( 10 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#set(int, java.lang.Object)},
+	 * {@link implementations.MyUnrolledList#contains(java.lang.Object)} and
+	 * {@link implementations.MyUnrolledList#replaceAll(java.util.function.UnaryOperator)}
+	 * to change and find items in place.
+	 */
+	@Test
+	public void testSetContainsReplaceAll()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to return old item.", Integer.valueOf( 7 ), myList.set( 7, 70 ) );
+		assertTrue( myList.contains( 70 ) );
+		assertFalse( myList.contains( 7 ) );
+
+		myList.replaceAll( x -> x + 1 );
+		assertEquals( "Failed to replace item.", Integer.valueOf( 71 ), myList.get( 7 ) );
+		assertEquals( "Failed to replace item.", Integer.valueOf( 1 ), myList.get( 0 ) );
+		try
+		{
+			myList.set( 0, null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#iterator()}
+	 * to walk every node in order and fail fast on changes.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 9; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 9; i++ )
+		{
+			assertEquals( "Failed to return item at position.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+
+		it = myList.iterator();
+		it.next();
+		myList.removeFirst();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#subList(int, int)} and
+	 * {@link implementations.MyUnrolledList#equals(java.lang.Object)}
+	 * to give a write-through view and compare equal to an array list, and
+	 * {@link implementations.MyUnrolledList#hashCode()} to agree with equals.
+	 */
+	@Test
+	public void testSubListEquals()
+	{
+		MyArrayList<Integer> other = new MyArrayList<>();
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+			other.add( i );
+		}
+		assertTrue( myList.equals( other ) );
+
+		MyUnrolledList<Integer> copy = new MyUnrolledList<>( 3 );
+		for( int i = 0; i < 10; i++ )
+		{
+			copy.add( i );
+		}
+		assertTrue( myList.equals( copy ) );
+		assertEquals( "Failed to give equal lists the same hash code.", myList.hashCode(), copy.hashCode() );
+
+		ListADT<Integer> view = myList.subList( 2, 8 );
+		view.removeRange( 1, 5 );
+		assertArrayEquals( "Failed to change list through view.", new Integer[] { 0, 1, 2, 7, 8, 9 }, myList.toArray() );
+		assertFalse( myList.equals( other ) );
+		assertEquals( "Failed to format list.", "[0, 1, 2, 7, 8, 9]", myList.toString() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#get(int)}
+	 * to stay consistent with MyArrayList through a mix of indexed adds, removes and reads.
+	 */
+	@Test
+	public void testGet_AfterMixedEdits()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		Random random = new Random( 7 );
+		for( int step = 0; step < 3000; step++ )
+		{
+			int choice = random.nextInt( 5 );
+			if( choice <= 1 || expected.size() == 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else if( choice == 2 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove item at position.", expected.remove( index ), myList.remove( index ) );
+			}
+			else if( choice == 3 && expected.size() > 4 )
+			{
+				int from = random.nextInt( expected.size() - 4 );
+				int to = from + random.nextInt( 4 );
+				expected.removeRange( from, to );
+				myList.removeRange( from, to );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to return item at position.", expected.get( index ), myList.get( index ) );
+			}
+		}
+		assertArrayEquals( "Failed to keep list in order.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for serialization of {@link implementations.MyUnrolledList}
+	 * to copy a long list without recursing through its nodes.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		MyUnrolledList<Integer> list = new MyUnrolledList<>( 4 );
+		for( int i = 0; i < 100_000; i++ )
+		{
+			list.add( i );
+		}
+		list.remove( 10 );
+		MyUnrolledList<Integer> copy = roundTrip( list );
+		assertArrayEquals( "Failed to keep elements.", list.toArray(), copy.toArray() );
+		copy.add( 5, -1 );
+		assertEquals( "Failed to keep list usable.", Integer.valueOf( -1 ), copy.get( 5 ) );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 *
+	 * @param object the object to copy
+	 * @return the copy read back
+	 * @throws Exception if serialization fails
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T object ) throws Exception
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try( ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( object );
+		}
+		try( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+}
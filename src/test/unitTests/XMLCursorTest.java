@@ -0,0 +1,297 @@
+package test.unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.TagEvent;
+import appDomain.TagListener;
+import appDomain.XMLCursor;
+import appDomain.XMLParser;
+
+/**
+ *  @author Rhailyn Cona, Komalpreet Kaur, Anne Marie Ala, Abel Fekadu Samuel Braun
+ *  @version 1, July 5, 2025.
+ * Class Description:
+ * Test for XMLCursor: token kinds, names, offsets and depths in document
+ * order, skipping comments and declarations, skipElement passing over
+ * a whole subtree, and tags read the same way XMLParser reads them.
+ */
+
+public class XMLCursorTest
+{
+	// Attributes
+	private TempXMLFile xml;
+
+	/**
+	 * Creates the temporary XML file before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		xml = new TempXMLFile( "cursor" );
+	}
+
+	/**
+	 * Deletes the temporary file after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		xml.delete();
+	}
+
+	/**
+	 * Writes the document and opens a cursor over it.
+	 */
+	private XMLCursor open( String text ) throws IOException
+	{
+		xml.write( text );
+		return new XMLCursor( xml.getPath() );
+	}
+
+	/**
+	 * Moves to the next token and checks its kind, name and depth.
+	 */
+	private static void expect( XMLCursor cursor, int kind, String name, int depth ) throws IOException
+	{
+		assertEquals( "Failed to return the kind of " + name + ".", kind, cursor.next() );
+		assertEquals( "Failed to keep the kind of " + name + ".", kind, cursor.getKind() );
+		assertEquals( "Failed to read the name.", name, cursor.getName() );
+		assertTrue( "Failed to compare the name in place.", cursor.isName( name ) );
+		assertEquals( "Failed to find the depth of " + name + ".", depth, cursor.getDepth() );
+	}
+
+	/**
+	 * Test method for token kinds, names and depths in document order.
+	 */
+	@Test
+	public void testNext_Tokens() throws IOException
+	{
+		try( XMLCursor cursor = open( "<?xml version=\"1.0\"?>\n<!-- comment -->\n<a x=\"1\">\n <b/><c>t</c>\n</a>\n" ) )
+		{
+			assertEquals( "Failed to start before the first tag.", XMLCursor.END, cursor.getKind() );
+			expect( cursor, XMLCursor.OPEN, "a", 1 );
+			expect( cursor, XMLCursor.SELF_CLOSING, "b", 2 );
+			expect( cursor, XMLCursor.OPEN, "c", 2 );
+			assertFalse( "Failed to compare a different name.", cursor.isName( "cc" ) );
+			expect( cursor, XMLCursor.CLOSE, "c", 2 );
+			expect( cursor, XMLCursor.CLOSE, "a", 1 );
+			assertEquals( "Failed to reach the end.", XMLCursor.END, cursor.next() );
+			assertEquals( "Failed to stay at the end.", XMLCursor.END, cursor.next() );
+			assertEquals( "Failed to reset the depth at the end.", 0, cursor.getDepth() );
+			assertEquals( "Failed to report no offset at the end.", -1, cursor.getStart() );
+			assertEquals( "Failed to report no line at the end.", -1, cursor.getLine() );
+		}
+	}
+
+	/**
+	 * Test method for byte offsets and lines past multi-byte characters.
+	 */
+	@Test
+	public void testNext_Offsets() throws IOException
+	{
+		String text = "<a>\n  é😀<b/></a>\n";
+		try( XMLCursor cursor = open( text ) )
+		{
+			cursor.next();
+			assertEquals( "Failed to find the start of a.", 0, cursor.getStart() );
+			assertEquals( "Failed to find the end of a.", 3, cursor.getEnd() );
+			assertEquals( "Failed to find the line of a.", 1, cursor.getLine() );
+
+			cursor.next();
+			long start = text.substring( 0, text.indexOf( "<b/>" ) ).getBytes( StandardCharsets.UTF_8 ).length;
+			assertEquals( "Failed to find the start of b.", start, cursor.getStart() );
+			assertEquals( "Failed to find the end of b.", start + 4, cursor.getEnd() );
+			assertEquals( "Failed to find the line of b.", 2, cursor.getLine() );
+
+			cursor.next();
+			assertEquals( "Failed to find the start of /a.", start + 4, cursor.getStart() );
+		}
+	}
+
+	/**
+	 * Test method for exact byte offsets after malformed UTF-8 and a real U+FFFD.
+	 */
+	@Test
+	public void testNext_OffsetsAfterMalformedBytes() throws IOException
+	{
+		byte[] bad = { '<', 'a', '>', (byte) 0xE0, (byte) 0xA0, (byte) 0xFF, (byte) 0xEF, (byte) 0xBF, (byte) 0xBD,
+				(byte) 0xF0, (byte) 0x9F, '<', 'b', '/', '>', '<', '/', 'a', '>', '\n' };
+		Files.write( xml.toPath(), bad );
+		try( XMLCursor cursor = new XMLCursor( xml.getPath() ) )
+		{
+			cursor.next();
+			assertEquals( "Failed to find the end of a.", 3, cursor.getEnd() );
+			cursor.next();
+			assertEquals( "Failed to find the start of b after malformed bytes.", 11, cursor.getStart() );
+			assertEquals( "Failed to find the end of b after malformed bytes.", 15, cursor.getEnd() );
+			cursor.next();
+			assertEquals( "Failed to find the start of /a after malformed bytes.", 15, cursor.getStart() );
+			assertEquals( "Failed to find the end of /a after malformed bytes.", 19, cursor.getEnd() );
+		}
+	}
+
+	/**
+	 * Test method for a '<' without a '>' on its line.
+	 */
+	@Test
+	public void testNext_Error() throws IOException
+	{
+		try( XMLCursor cursor = open( "<a>\n<b\n</a>\n" ) )
+		{
+			expect( cursor, XMLCursor.OPEN, "a", 1 );
+			assertEquals( "Failed to report the broken tag.", XMLCursor.ERROR, cursor.next() );
+			assertEquals( "Failed to report no end offset.", -1, cursor.getEnd() );
+			assertEquals( "Failed to find the line of the broken tag.", 2, cursor.getLine() );
+			expect( cursor, XMLCursor.CLOSE, "a", 1 );
+		}
+	}
+
+	/**
+	 * Test method for skipping a subtree and continuing after it.
+	 */
+	@Test
+	public void testSkipElement() throws IOException
+	{
+		String text = "<r>\n<rec id=\"1\"><x><y/><!-- <z> --></x>\n<x></x></rec>\n<rec2/>\n</r>\n";
+		try( XMLCursor cursor = open( text ) )
+		{
+			expect( cursor, XMLCursor.OPEN, "r", 1 );
+			expect( cursor, XMLCursor.OPEN, "rec", 2 );
+			assertEquals( "Failed to stop on the closing tag.", XMLCursor.CLOSE, cursor.skipElement() );
+			assertEquals( "Failed to name the closing tag.", "rec", cursor.getName() );
+			assertEquals( "Failed to keep the depth.", 2, cursor.getDepth() );
+			assertEquals( "Failed to find the closing tag's line.", 3, cursor.getLine() );
+			assertEquals( "Failed to find the closing tag's start.", text.indexOf( "</rec>" ), cursor.getStart() );
+			expect( cursor, XMLCursor.SELF_CLOSING, "rec2", 2 );
+			expect( cursor, XMLCursor.CLOSE, "r", 1 );
+			assertEquals( "Failed to reach the end.", XMLCursor.END, cursor.next() );
+		}
+	}
+
+	/**
+	 * Test method for skipping an element that is never closed.
+	 */
+	@Test
+	public void testSkipElement_Unclosed() throws IOException
+	{
+		try( XMLCursor cursor = open( "<r>\n<a><b></b>\n" ) )
+		{
+			cursor.next();
+			expect( cursor, XMLCursor.OPEN, "a", 2 );
+			assertEquals( "Failed to reach the end.", XMLCursor.END, cursor.skipElement() );
+			assertEquals( "Failed to stay at the end.", XMLCursor.END, cursor.next() );
+		}
+	}
+
+	/**
+	 * Test method for skipElement and getName on tokens they do not apply to.
+	 */
+	@Test
+	public void testSkipElement_NotOpen() throws IOException
+	{
+		try( XMLCursor cursor = open( "<a><b/></a>\n" ) )
+		{
+			try
+			{
+				cursor.skipElement();
+				fail( "Failed to throw IllegalStateException." );
+			}
+			catch( IllegalStateException e )
+			{
+				assertTrue( true );
+			}
+			try
+			{
+				cursor.getName();
+				fail( "Failed to throw IllegalStateException." );
+			}
+			catch( IllegalStateException e )
+			{
+				assertTrue( true );
+			}
+
+			cursor.next();
+			cursor.next();
+			try
+			{
+				cursor.skipElement();
+				fail( "Failed to throw IllegalStateException." );
+			}
+			catch( IllegalStateException e )
+			{
+				assertTrue( true );
+			}
+			expect( cursor, XMLCursor.CLOSE, "a", 1 );
+		}
+	}
+
+	/**
+	 * Test method for the cursor finding the same tags and names as XMLParser
+	 * when names end at control characters and blanks.
+	 */
+	@Test
+	public void testNames_SameAsParser() throws IOException
+	{
+		String text = "<a\u0001b>\n<c\u000B/><d\fx='1'></d\f>< e />\n<f\u001Fy/></ a><!-- <g> --><?pi?></a\u0001b >\n";
+		final List<String> parsed = new ArrayList<>();
+		XMLParser parser = new XMLParser();
+		parser.addListener( new TagListener()
+		{
+			@Override
+			public void onOpen( TagEvent event )
+			{
+				parsed.add( "open " + event.getName() + " " + event.getStart() );
+			}
+
+			@Override
+			public void onClose( TagEvent event )
+			{
+				parsed.add( "close " + event.getName() + " " + event.getEnd() );
+			}
+
+			@Override
+			public void onSelfClosing( TagEvent event )
+			{
+				parsed.add( "self " + event.getName() + " " + event.getStart() );
+			}
+		} );
+		xml.write( text );
+		parser.parseFile( xml.getPath() );
+
+		List<String> read = new ArrayList<>();
+		try( XMLCursor cursor = new XMLCursor( xml.getPath() ) )
+		{
+			int kind;
+			while( ( kind = cursor.next() ) != XMLCursor.END )
+			{
+				if( kind == XMLCursor.OPEN )
+				{
+					read.add( "open " + cursor.getName() + " " + cursor.getStart() );
+				}
+				else if( kind == XMLCursor.CLOSE && !cursor.isName( "" ) )
+				{
+					read.add( "close " + cursor.getName() + " " + cursor.getEnd() );
+				}
+				else if( kind == XMLCursor.SELF_CLOSING )
+				{
+					read.add( "self " + cursor.getName() + " " + cursor.getStart() );
+				}
+			}
+		}
+		assertEquals( "Failed to read the tags the way XMLParser does.", parsed, read );
+		assertEquals( "Failed to end the names at control characters.", "open a 0", read.get( 0 ) );
+		assertTrue( "Failed to end a self-closing name at a control character.", read.contains( "self f 32" ) );
+	}
+}
@@ -0,0 +1,29 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This interface provides a mono-directional iterator over a list of primitive
+ * <code>char</code> values. It mirrors <code>Iterator</code>, but
+ * <code>nextChar()</code> returns the primitive value itself, so walking the
+ * list neither boxes values nor allocates.
+ */
+public interface CharIterator
+{
+	/**
+	 * Returns <code>true</code> if the iteration has more elements. (In other
+	 * words, returns <code>true</code> if <code>nextChar()</code> would return
+	 * a value rather than throwing an exception.)
+	 * 
+	 * @return <code>true</code> if the iterator has more elements.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * Returns the next value in the iteration.
+	 * 
+	 * @return The next value in the iteration.
+	 * @throws NoSuchElementException If the iteration has no more elements.
+	 */
+	public char nextChar() throws NoSuchElementException;
+}
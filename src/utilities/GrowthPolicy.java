@@ -0,0 +1,30 @@
+package utilities;
+
+import java.io.Serializable;
+
+/**
+ * A <code>GrowthPolicy</code> decides how much an array-backed data structure
+ * grows its backing array when it runs out of room. Doubling keeps the
+ * amortized cost of an add constant; smaller factors or fixed increments waste
+ * less memory at the price of more frequent copies, and a cap bounds how large
+ * the structure may become.
+ *
+ * Policies are stored inside the structures that use them, so they must be
+ * serializable and should hold no mutable state.
+ */
+public interface GrowthPolicy extends Serializable
+{
+	/**
+	 * Returns the capacity the backing array should grow to. The caller uses
+	 * the larger of the returned value and <code>minCapacity</code>, so a
+	 * policy only needs to describe its preferred step.
+	 * 
+	 * @param currentCapacity the length of the current backing array.
+	 * @param minCapacity     the number of elements the structure must be able
+	 *                        to hold after growing.
+	 * @return the new capacity.
+	 * @throws IllegalStateException if the policy does not allow the structure
+	 *                               to hold <code>minCapacity</code> elements.
+	 */
+	public int grow( int currentCapacity, int minCapacity ) throws IllegalStateException;
+}
@@ -1,6 +1,8 @@
 package utilities;
 
 import java.io.Serializable;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * <p>
@@ -78,6 +80,25 @@ public interface ListADT<E> extends Serializable
 	 */
 	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException;
 
+	/**
+	 * Inserts all of the elements in the specified list into this list at the
+	 * specified position, in the order they appear in that list. Shifts the
+	 * element currently at that position (if any) and any subsequent elements to
+	 * the right. The elements are taken from a single snapshot of the specified
+	 * list, so adding a list to itself is allowed.
+	 * 
+	 * @param index The index at which to insert the first element.
+	 * @param toAdd The list whose elements are to be inserted.
+	 * @return true If this list changed as a result of the call.
+	 * @throws NullPointerException      If the specified list is <code>null</code>,
+	 *                                   or it contains <code>null</code> elements
+	 *                                   and this list does not support them.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index > size()</code>).
+	 */
+	public boolean addAll( int index, ListADT<? extends E> toAdd )
+			throws NullPointerException, IndexOutOfBoundsException;
+
 	/**
 	 * Returns the element at the specified position in this list.
 	 * 
@@ -115,6 +136,20 @@ public interface ListADT<E> extends Serializable
 	 */
 	public E remove( E toRemove ) throws NullPointerException;
 
+	/**
+	 * Removes all of the elements whose index is between <code>fromIndex</code>,
+	 * inclusive, and <code>toIndex</code>, exclusive. Shifts any succeeding
+	 * elements to the left. If <code>fromIndex == toIndex</code> the list is
+	 * unchanged.
+	 * 
+	 * @param fromIndex Index of the first element to be removed.
+	 * @param toIndex   Index after the last element to be removed.
+	 * @throws IndexOutOfBoundsException If <code>fromIndex < 0</code>,
+	 *                                   <code>toIndex > size()</code> or
+	 *                                   <code>fromIndex > toIndex</code>.
+	 */
+	public void removeRange( int fromIndex, int toIndex ) throws IndexOutOfBoundsException;
+
 	/**
 	 * Replaces the element at the specified position in this list with the
 	 * specified element.
@@ -131,6 +166,41 @@ public interface ListADT<E> extends Serializable
 	 */
 	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException;
 
+	/**
+	 * Replaces each element of this list with the result of applying the operator
+	 * to that element, in order.
+	 * 
+	 * @param operator The operator to apply to each element.
+	 * @throws NullPointerException If the operator is <code>null</code>, or it
+	 *                              returns <code>null</code> and this list does
+	 *                              not support <code>null</code> elements.
+	 */
+	public void replaceAll( UnaryOperator<E> operator ) throws NullPointerException;
+
+	/**
+	 * Performs the given action for each element of this list, in order.
+	 * 
+	 * @param action The action to be performed for each element.
+	 * @throws NullPointerException If the action is <code>null</code>.
+	 */
+	public void forEach( Consumer<? super E> action ) throws NullPointerException;
+
+	/**
+	 * Returns a view of the portion of this list between <code>fromIndex</code>,
+	 * inclusive, and <code>toIndex</code>, exclusive. No elements are copied: the
+	 * returned list is backed by this list, so changes made through either one are
+	 * seen by the other. The view becomes undefined if this list is structurally
+	 * modified other than through the view.
+	 * 
+	 * @param fromIndex Low endpoint (inclusive) of the view.
+	 * @param toIndex   High endpoint (exclusive) of the view.
+	 * @return A view of the specified range within this list.
+	 * @throws IndexOutOfBoundsException If <code>fromIndex < 0</code>,
+	 *                                   <code>toIndex > size()</code> or
+	 *                                   <code>fromIndex > toIndex</code>.
+	 */
+	public ListADT<E> subList( int fromIndex, int toIndex ) throws IndexOutOfBoundsException;
+
 	/**
 	 * Returns <code>true</code> if this list contains no elements.
 	 * 
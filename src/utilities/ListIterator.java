@@ -0,0 +1,87 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This interface extends the mono-directional <code>Iterator</code> with a
+ * bidirectional cursor over a list. The cursor always lies between two
+ * elements (or before the first, or after the last), so a list of size
+ * <code>n</code> has <code>n + 1</code> cursor positions. Unlike the basic
+ * iterator this one works directly on the list rather than on a copy, and can
+ * insert, remove and replace elements at the cursor.
+ *
+ * @param <E> The type of element this iterator returns.
+ */
+public interface ListIterator<E> extends Iterator<E>
+{
+	/**
+	 * Returns <code>true</code> if the iteration has more elements when
+	 * traversing the list backwards.
+	 *
+	 * @return <code>true</code> if <code>previous()</code> would return an
+	 *         element rather than throwing an exception.
+	 */
+	public boolean hasPrevious();
+
+	/**
+	 * Returns the previous element in the list and moves the cursor backwards.
+	 *
+	 * @return The previous element in the list.
+	 * @throws NoSuchElementException If the iteration has no previous element.
+	 */
+	public E previous() throws NoSuchElementException;
+
+	/**
+	 * Returns the index of the element that would be returned by a call to
+	 * <code>next()</code>, or the list size if the cursor is at the end.
+	 *
+	 * @return The index of the element after the cursor.
+	 */
+	public int nextIndex();
+
+	/**
+	 * Returns the index of the element that would be returned by a call to
+	 * <code>previous()</code>, or -1 if the cursor is at the start.
+	 *
+	 * @return The index of the element before the cursor.
+	 */
+	public int previousIndex();
+
+	/**
+	 * Removes from the list the last element that was returned by
+	 * <code>next()</code> or <code>previous()</code>.
+	 *
+	 * @throws IllegalStateException If neither <code>next()</code> nor
+	 *                               <code>previous()</code> has been called, or
+	 *                               <code>remove()</code> or <code>add()</code>
+	 *                               has been called since.
+	 */
+	public void remove() throws IllegalStateException;
+
+	/**
+	 * Replaces the last element returned by <code>next()</code> or
+	 * <code>previous()</code> with the specified element.
+	 *
+	 * @param toSet The element to store.
+	 * @throws NullPointerException  If the element is <code>null</code> and the
+	 *                               list does not support <code>null</code>
+	 *                               elements.
+	 * @throws IllegalStateException If neither <code>next()</code> nor
+	 *                               <code>previous()</code> has been called, or
+	 *                               <code>remove()</code> or <code>add()</code>
+	 *                               has been called since.
+	 */
+	public void set( E toSet ) throws NullPointerException, IllegalStateException;
+
+	/**
+	 * Inserts the specified element immediately before the cursor. A following
+	 * call to <code>next()</code> is unaffected, and a following call to
+	 * <code>previous()</code> returns the new element.
+	 *
+	 * @param toAdd The element to insert.
+	 * @throws NullPointerException If the element is <code>null</code> and the
+	 *                              list does not support <code>null</code>
+	 *                              elements.
+	 */
+	public void add( E toAdd ) throws NullPointerException;
+}
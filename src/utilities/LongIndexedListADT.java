@@ -0,0 +1,149 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This is the professional Application Programming Interface (API) for a list
+ * that is indexed with <code>long</code> rather than <code>int</code>
+ * positions, so it can hold more than <code>Integer.MAX_VALUE</code> values.
+ * It follows <code>ListADT</code> method for method where that makes sense,
+ * but stores primitive <code>long</code> values (offsets, token positions,
+ * packed records) rather than objects, which lets an implementation keep them
+ * outside the Java heap.
+ *
+ * Implementations may hold native memory, so the list must be closed when it
+ * is no longer needed. A closed list reports a size of zero, and every
+ * operation that reads or changes its elements throws
+ * <code>IllegalStateException</code>.
+ */
+public interface LongIndexedListADT extends AutoCloseable
+{
+	/**
+	 * The size method will return the current element count contained in the
+	 * list.
+	 *
+	 * @return The current element count.
+	 */
+	public long size();
+
+	/**
+	 * Removes all of the elements from this list. This list will be empty after
+	 * this call returns.
+	 */
+	public void clear();
+
+	/**
+	 * Inserts the specified element at the specified position in this list.
+	 * Shifts the element currently at that position (if any) and any
+	 * subsequent elements to the right.
+	 *
+	 * @param index The index at which the specified element is to be inserted.
+	 * @param toAdd The element to be inserted.
+	 * @return <code>true</code> if the element is added successfully.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index > size()</code>).
+	 */
+	public boolean add( long index, long toAdd ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Appends the specified element to the end of the list.
+	 *
+	 * @param toAdd The element to be added to the end of the list.
+	 * @return <code>true</code> if the element is added successfully.
+	 */
+	public boolean add( long toAdd );
+
+	/**
+	 * Returns the element at the specified position in this list.
+	 *
+	 * @param index Index of element to return.
+	 * @return The element at the specified position in this list.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index >= size()</code>).
+	 */
+	public long get( long index ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Removes the element at the specified position in this list.
+	 *
+	 * @param index The index of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index >= size()</code>).
+	 */
+	public long remove( long index ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Removes all of the elements whose index is between <code>fromIndex</code>,
+	 * inclusive, and <code>toIndex</code>, exclusive.
+	 *
+	 * @param fromIndex Index of the first element to be removed.
+	 * @param toIndex   Index after the last element to be removed.
+	 * @throws IndexOutOfBoundsException If <code>fromIndex < 0</code>,
+	 *                                   <code>toIndex > size()</code> or
+	 *                                   <code>fromIndex > toIndex</code>.
+	 */
+	public void removeRange( long fromIndex, long toIndex ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Replaces the element at the specified position in this list with the
+	 * specified element.
+	 *
+	 * @param index    The index of the element to replace.
+	 * @param toChange Replacement element.
+	 * @return The element previously at the specified position.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index >= size()</code>).
+	 */
+	public long set( long index, long toChange ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Returns <code>true</code> if this list contains no elements.
+	 *
+	 * @return <code>true</code> if this list contains no elements.
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Returns the index of the first occurrence of the specified element.
+	 *
+	 * @param toFind The element to search for.
+	 * @return The index of the element, or -1 if it is not in the list.
+	 */
+	public long indexOf( long toFind );
+
+	/**
+	 * Returns true if this list contains the specified element.
+	 *
+	 * @param toFind The element whose presence in this list is to be tested.
+	 * @return <code>true</code> if this list contains the specified element.
+	 */
+	public boolean contains( long toFind );
+
+	/**
+	 * Returns an array containing all of the elements in this list in proper
+	 * sequence.
+	 *
+	 * @return An array containing all of the elements of this list.
+	 * @throws IllegalStateException If the list holds more elements than an
+	 *                               array can.
+	 */
+	public long[] toArray() throws IllegalStateException;
+
+	/**
+	 * Returns a primitive cursor over the elements in this list, in proper
+	 * sequence.
+	 *
+	 * @return A cursor over the elements in this list.
+	 * @throws NoSuchElementException From the cursor when the iteration has no
+	 *                                more elements.
+	 */
+	public LongIterator iterator();
+
+	/**
+	 * Releases the memory held by this list. The list cannot be used afterwards.
+	 * Closing a list that is already closed has no effect.
+	 */
+	@Override
+	public void close();
+}
@@ -0,0 +1,28 @@
+package utilities;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A <code>WaitStrategy</code> decides how a thread waits for a concurrent data
+ * structure to become ready, for example for a bounded queue to have free space
+ * or an available item. Implementations trade latency against CPU use: spinning
+ * reacts fastest, blocking uses no CPU while idle.
+ */
+public interface WaitStrategy
+{
+	/**
+	 * Waits until the condition returns <code>true</code>. The condition must be
+	 * free of side effects; callers re-attempt their operation afterwards, since
+	 * another thread may have claimed the space or item in the meantime.
+	 * 
+	 * @param condition the condition to wait for.
+	 * @throws InterruptedException if the waiting thread is interrupted.
+	 */
+	public void waitUntil( BooleanSupplier condition ) throws InterruptedException;
+
+	/**
+	 * Wakes up any threads waiting in {@link #waitUntil(BooleanSupplier)}.
+	 * Called by the data structure after every successful insertion or removal.
+	 */
+	public void signalAll();
+}